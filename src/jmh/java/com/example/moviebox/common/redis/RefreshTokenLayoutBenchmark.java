@@ -0,0 +1,62 @@
+package com.example.moviebox.common.redis;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.*;
+
+// Refresh Token 저장 구조별 set/rotate 지연 시간 (실행 중인 Redis 필요: -Dredis.host, -Dredis.port)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RefreshTokenLayoutBenchmark {
+	private static final int USER_COUNT = 10_000;
+	private static final String TOKEN = "benchmark-refresh-token";
+
+	@Param({"KEY", "HASH_BUCKET"})
+	private RefreshTokenLayout layout;
+
+	private LettuceConnectionFactory connectionFactory;
+	private RefreshTokenStore refreshTokenStore;
+
+	@Setup
+	public void setUp() {
+		connectionFactory = new LettuceConnectionFactory(System.getProperty("redis.host", "localhost"),
+			Integer.getInteger("redis.port", 6379));
+		connectionFactory.afterPropertiesSet();
+
+		RedisTemplate<String, byte[]> redisTemplate = new RedisTemplate<>();
+		redisTemplate.setKeySerializer(new StringRedisSerializer());
+		redisTemplate.setValueSerializer(RedisSerializer.byteArray());
+		redisTemplate.setHashKeySerializer(RedisSerializer.byteArray());
+		redisTemplate.setHashValueSerializer(RedisSerializer.byteArray());
+		redisTemplate.setConnectionFactory(connectionFactory);
+		redisTemplate.afterPropertiesSet();
+
+		Duration ttl = Duration.ofMinutes(10);
+		refreshTokenStore = layout == RefreshTokenLayout.HASH_BUCKET
+			? new HashBucketRefreshTokenStore(redisTemplate, "benchmark:RTB:", 100, ttl)
+			: new KeyRefreshTokenStore(redisTemplate, "benchmark:RT:", ttl);
+		for (long userId = 0; userId < USER_COUNT; userId++) {
+			refreshTokenStore.set(userId, TOKEN);
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+		connectionFactory.destroy();
+	}
+
+	@Benchmark
+	public void set() {
+		refreshTokenStore.set(ThreadLocalRandom.current().nextLong(USER_COUNT), TOKEN);
+	}
+
+	@Benchmark
+	public boolean rotate() {	// 같은 토큰으로 교체 - 비교 비용은 재발급과 같고 저장된 토큰은 바뀌지 않는다.
+		return refreshTokenStore.rotate(ThreadLocalRandom.current().nextLong(USER_COUNT), TOKEN, TOKEN);
+	}
+}
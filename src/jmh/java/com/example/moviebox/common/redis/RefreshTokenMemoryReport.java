@@ -0,0 +1,115 @@
+package com.example.moviebox.common.redis;
+
+import io.jsonwebtoken.*;
+import io.jsonwebtoken.security.Keys;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.time.Duration;
+import java.util.Date;
+import java.util.Properties;
+import java.util.function.LongFunction;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.*;
+
+// Refresh Token 저장 형식/구조별 Redis 메모리 사용량 비교 (운영 key 와 겹치지 않도록 memory-report: 접두어 사용)
+// 실행: ./gradlew refreshTokenMemoryReport -PredisHost=localhost -PredisPort=6379 -PuserCount=100000
+public class RefreshTokenMemoryReport {
+	private static final String KEY_PREFIX = "memory-report:RT:";
+	private static final String BUCKET_KEY_PREFIX = "memory-report:RTB:";
+	private static final int BUCKET_SIZE = 100;
+	private static final Duration TTL = Duration.ofDays(30);
+	private static final int SAMPLE_COUNT = 100;
+
+	public static void main(String[] args) {
+		String host = args.length > 0 ? args[0] : "localhost";
+		int port = args.length > 1 ? Integer.parseInt(args[1]) : 6379;
+		int userCount = args.length > 2 ? Integer.parseInt(args[2]) : 100_000;
+
+		LettuceConnectionFactory connectionFactory = new LettuceConnectionFactory(host, port);
+		connectionFactory.afterPropertiesSet();
+		RedisTemplate<String, byte[]> redisTemplate = createRedisTemplate(connectionFactory);
+		Key secretKey = Keys.secretKeyFor(SignatureAlgorithm.HS256);
+
+		try {
+			System.out.printf("users: %d%n", userCount);
+			System.out.printf("%-20s %18s %26s%n", "format", "bytes/user(INFO)", "bytes/user(MEMORY USAGE)");
+
+			report(redisTemplate, "jwt / key", userCount, userId -> KEY_PREFIX + userId, 1,
+				userId -> redisTemplate.opsForValue().set(KEY_PREFIX + userId,
+					createRefreshToken(secretKey).getBytes(StandardCharsets.UTF_8), TTL));
+
+			RefreshTokenStore keyStore = new KeyRefreshTokenStore(redisTemplate, KEY_PREFIX, TTL);
+			report(redisTemplate, "digest / key", userCount, userId -> KEY_PREFIX + userId, 1,
+				userId -> keyStore.set(userId, createRefreshToken(secretKey)));
+
+			RefreshTokenStore hashBucketStore = new HashBucketRefreshTokenStore(redisTemplate, BUCKET_KEY_PREFIX,
+				BUCKET_SIZE, TTL);
+			report(redisTemplate, "digest / hash bucket", userCount, userId -> BUCKET_KEY_PREFIX + userId / BUCKET_SIZE,
+				BUCKET_SIZE, userId -> hashBucketStore.set(userId, createRefreshToken(secretKey)));
+		} finally {
+			connectionFactory.destroy();
+		}
+	}
+
+	private static void report(RedisTemplate<String, byte[]> redisTemplate, String format, int userCount,
+		LongFunction<String> keyOfUser, int usersPerKey, LongConsumer writer) {
+		long before = usedMemory(redisTemplate);
+		for (long userId = 0; userId < userCount; userId++) {
+			writer.accept(userId);
+		}
+		long after = usedMemory(redisTemplate);
+
+		System.out.printf("%-20s %18.1f %26s%n", format, (after - before) / (double)userCount,
+			sampleMemoryUsage(redisTemplate, userCount, keyOfUser, usersPerKey));
+
+		for (long userId = 0; userId < userCount; userId += usersPerKey) {
+			redisTemplate.delete(keyOfUser.apply(userId));
+		}
+	}
+
+	private static String sampleMemoryUsage(RedisTemplate<String, byte[]> redisTemplate, int userCount,
+		LongFunction<String> keyOfUser, int usersPerKey) {
+		int keyCount = Math.max(userCount / usersPerKey, 1);
+		int samples = Math.min(SAMPLE_COUNT, keyCount);
+		try {
+			long total = 0;
+			for (int i = 0; i < samples; i++) {
+				byte[] key = keyOfUser.apply((long)i * keyCount / samples * usersPerKey).getBytes(StandardCharsets.UTF_8);
+				total += redisTemplate.execute((RedisConnection connection) ->
+					(Long)connection.execute("MEMORY", "USAGE".getBytes(StandardCharsets.UTF_8), key));
+			}
+			return String.format("%.1f", total / (double)samples / usersPerKey);
+		} catch (RuntimeException e) {	// MEMORY USAGE는 Redis 4.0 이상에서만 지원
+			return "n/a";
+		}
+	}
+
+	private static long usedMemory(RedisTemplate<String, byte[]> redisTemplate) {
+		Properties info = redisTemplate.execute((RedisConnection connection) -> connection.serverCommands().info("memory"));
+		return Long.parseLong(info.getProperty("used_memory"));
+	}
+
+	private static RedisTemplate<String, byte[]> createRedisTemplate(LettuceConnectionFactory connectionFactory) {
+		RedisTemplate<String, byte[]> redisTemplate = new RedisTemplate<>();	// RedisConfiguration 의 binaryRedisTemplate 과 같은 설정
+		redisTemplate.setKeySerializer(new StringRedisSerializer());
+		redisTemplate.setValueSerializer(RedisSerializer.byteArray());
+		redisTemplate.setHashKeySerializer(RedisSerializer.byteArray());
+		redisTemplate.setHashValueSerializer(RedisSerializer.byteArray());
+		redisTemplate.setConnectionFactory(connectionFactory);
+		redisTemplate.afterPropertiesSet();
+		return redisTemplate;
+	}
+
+	private static String createRefreshToken(Key secretKey) {	// JwtTokenProvider의 Refresh Token과 같은 형식
+		return Jwts.builder()
+			.setExpiration(new Date(System.currentTimeMillis() + TTL.toMillis()))
+			.signWith(secretKey, SignatureAlgorithm.HS256)
+			.compact();
+	}
+
+	private interface LongConsumer {
+		void accept(long value);
+	}
+}
@@ -0,0 +1,56 @@
+package com.example.moviebox.configuration.security;
+
+import com.example.moviebox.exception.BusinessException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+// 동시 로그인 시 비밀번호 검증 지연 시간 분포(p99 등) 비교
+// direct: 요청 스레드에서 바로 해싱, executor: PasswordHasher(CPU 코어 수 스레드 + bounded queue) 사용
+// 거절(SERVER_BUSY)된 요청은 rejected 카운터로 집계된다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(32)
+public class PasswordHasherBenchmark {
+	@Param({"direct", "executor"})
+	private String mode;
+
+	private PasswordEncoder passwordEncoder;
+	private PasswordHasher passwordHasher;
+	private String encodedPassword;
+
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class Counters {
+		public long rejected;
+	}
+
+	@Setup
+	public void setUp() {
+		passwordEncoder = new BCryptPasswordEncoder(10);
+		passwordHasher = new PasswordHasher(passwordEncoder, 0, 64, 2000);
+		encodedPassword = passwordEncoder.encode("password");
+	}
+
+	@TearDown
+	public void tearDown() {
+		passwordHasher.shutdown();
+	}
+
+	@Benchmark
+	public void login(Counters counters, Blackhole blackhole) {
+		if ("direct".equals(mode)) {
+			blackhole.consume(passwordEncoder.matches("password", encodedPassword));
+			return;
+		}
+
+		try {
+			blackhole.consume(passwordHasher.matches("password", encodedPassword));
+		} catch (BusinessException e) {
+			counters.rejected++;
+		}
+	}
+}
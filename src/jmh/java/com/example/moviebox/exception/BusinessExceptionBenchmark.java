@@ -0,0 +1,39 @@
+package com.example.moviebox.exception;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+// 예외 생성 + throw/catch 비용
+// constant: 미리 만들어 둔 BusinessException, created: 매번 생성 (stack trace 수집 X),
+// withStackTrace: stack trace 를 수집하는 일반 RuntimeException (비교 기준)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BusinessExceptionBenchmark {
+	@Benchmark
+	public Object constant() {
+		try {
+			throw BusinessException.INVALID_ACCESS_TOKEN;
+		} catch (BusinessException e) {
+			return e;
+		}
+	}
+
+	@Benchmark
+	public Object created() {
+		try {
+			throw new BusinessException(ErrorCode.INVALID_TOKEN, "Access Token 정보가 유효하지 않습니다.");
+		} catch (BusinessException e) {
+			return e;
+		}
+	}
+
+	@Benchmark
+	public Object withStackTrace() {
+		try {
+			throw new IllegalStateException("Access Token 정보가 유효하지 않습니다.");
+		} catch (IllegalStateException e) {
+			return e;
+		}
+	}
+}
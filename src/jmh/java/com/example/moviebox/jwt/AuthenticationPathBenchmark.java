@@ -0,0 +1,84 @@
+package com.example.moviebox.jwt;
+
+import com.example.moviebox.common.redis.*;
+import com.example.moviebox.configuration.security.SecurityUser;
+import com.example.moviebox.jwt.dto.TokenDto;
+import com.example.moviebox.user.domain.*;
+import io.jsonwebtoken.io.Encoders;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.SignatureAlgorithm;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import javax.servlet.*;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.*;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+// 인증 경로(토큰 발급, 검증, 인증 정보 생성, 필터) 단계별 처리 시간
+// verifiedTokenCacheSize 0: 매번 서명 검증, 10000: 검증된 토큰 캐시 사용
+// Redis, DB 는 고정 값을 돌려주는 stub 으로 대체한다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AuthenticationPathBenchmark {
+	@Param({"0", "10000"})
+	private int verifiedTokenCacheSize;
+
+	private JwtTokenProvider jwtProvider;
+	private JwtAuthenticationFilter jwtAuthenticationFilter;
+	private SecurityUser securityUser;
+	private String accessToken;
+	private MockHttpServletRequest request;
+	private MockHttpServletResponse response;
+	private final FilterChain filterChain = (request, response) -> {
+	};
+
+	@Setup
+	public void setUp() {
+		String secretKey = Encoders.BASE64.encode(Keys.secretKeyFor(SignatureAlgorithm.HS256).getEncoded());
+		RedisService redisService = new RedisService(null, RefreshTokenLayout.KEY, 100) {
+			@Override
+			public void setRefreshTokenValue(long userId, String token) {
+			}
+		};
+		securityUser = new SecurityUser(User.builder()
+			.id(1L)
+			.password("pw")
+			.role(Role.ADMIN)
+			.isEmailAuth(true)
+			.build());
+
+		jwtProvider = new JwtTokenProvider(userId -> securityUser, redisService,
+			new VerifiedTokenCache(verifiedTokenCacheSize), secretKey);
+		jwtAuthenticationFilter = new JwtAuthenticationFilter(jwtProvider);
+		accessToken = jwtProvider.generateAccessTokenAndRefreshToken(securityUser).getAccessToken();
+
+		request = new MockHttpServletRequest("GET", "/api/admin/movies");
+		request.addHeader("Authorization", "Bearer " + accessToken);
+		response = new MockHttpServletResponse();
+	}
+
+	@Benchmark
+	public TokenDto generateAccessTokenAndRefreshToken() {
+		return jwtProvider.generateAccessTokenAndRefreshToken(securityUser);
+	}
+
+	@Benchmark
+	public boolean isValidateToken() {
+		return jwtProvider.isValidateToken(accessToken);
+	}
+
+	@Benchmark
+	public Authentication getAuthentication() {
+		return jwtProvider.getAuthentication(accessToken);
+	}
+
+	@Benchmark
+	public Authentication doFilter() throws ServletException, IOException {
+		jwtAuthenticationFilter.doFilter(request, response, filterChain);
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		SecurityContextHolder.clearContext();
+		return authentication;
+	}
+}
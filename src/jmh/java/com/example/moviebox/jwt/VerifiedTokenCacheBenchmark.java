@@ -0,0 +1,52 @@
+package com.example.moviebox.jwt;
+
+import com.example.moviebox.common.redis.*;
+import com.example.moviebox.configuration.security.SecurityUser;
+import com.example.moviebox.user.domain.*;
+import io.jsonwebtoken.io.Encoders;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.SignatureAlgorithm;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+// 같은 Access Token을 반복 검증할 때 서명 검증(cold)과 캐시 조회(cached)의 처리량 비교
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class VerifiedTokenCacheBenchmark {
+	private JwtTokenProvider coldProvider;
+	private JwtTokenProvider cachedProvider;
+	private String accessToken;
+
+	@Setup
+	public void setUp() {
+		String secretKey = Encoders.BASE64.encode(Keys.secretKeyFor(SignatureAlgorithm.HS256).getEncoded());
+		RedisService redisService = new RedisService(null, RefreshTokenLayout.KEY, 100) {
+			@Override
+			public void setRefreshTokenValue(long userId, String token) {
+			}
+		};
+
+		coldProvider = new JwtTokenProvider(userId -> null, redisService, new VerifiedTokenCache(0), secretKey);
+		cachedProvider = new JwtTokenProvider(userId -> null, redisService, new VerifiedTokenCache(10_000), secretKey);
+		accessToken = coldProvider.generateAccessTokenAndRefreshToken(new SecurityUser(User.builder()
+			.id(1L)
+			.password("pw")
+			.role(Role.ADMIN)
+			.isEmailAuth(true)
+			.build())).getAccessToken();
+	}
+
+	@Benchmark
+	@Threads(4)
+	public Optional<AccessTokenClaims> cold() {
+		return coldProvider.parseAccessToken(accessToken);
+	}
+
+	@Benchmark
+	@Threads(4)
+	public Optional<AccessTokenClaims> cached() {
+		return cachedProvider.parseAccessToken(accessToken);
+	}
+}
@@ -0,0 +1,52 @@
+package com.example.moviebox.screening.domain;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+// 한 상영(seats 개 좌석)에 여러 스레드가 동시에 2좌석 선점 -> 해제를 반복
+// cas: ConcurrentSeatMap, locked: synchronized 로 감싼 SeatMap (행 잠금과 같이 한 번에 한 요청만 처리)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(8)
+public class ConcurrentSeatMapBenchmark {
+	@Param({"64", "400"})
+	private int seats;
+
+	private ConcurrentSeatMap concurrentSeatMap;
+	private SeatMap seatMap;
+
+	@Setup
+	public void setUp() {
+		concurrentSeatMap = ConcurrentSeatMap.from(SeatMap.empty(seats));
+		seatMap = SeatMap.empty(seats);
+	}
+
+	@Benchmark
+	public boolean cas() {
+		int first = ThreadLocalRandom.current().nextInt(seats - 1);
+		if (!concurrentSeatMap.tryReserve(first, first + 1)) {
+			return false;
+		}
+		concurrentSeatMap.release(first, first + 1);
+		return true;
+	}
+
+	@Benchmark
+	public boolean locked() {
+		int first = ThreadLocalRandom.current().nextInt(seats - 1);
+		synchronized (seatMap) {
+			if (seatMap.isReserved(first) || seatMap.isReserved(first + 1)) {
+				return false;
+			}
+			seatMap.reserve(first);
+			seatMap.reserve(first + 1);
+		}
+		synchronized (seatMap) {
+			seatMap.release(first);
+			seatMap.release(first + 1);
+		}
+		return true;
+	}
+}
@@ -0,0 +1,75 @@
+package com.example.moviebox.screening.domain;
+
+import com.example.moviebox.screen.domain.SeatLayout;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+// 대형 상영관에서 나란히 붙은 빈 좌석 찾기
+// bitmap: SeatFinder, scan: 좌석을 하나씩 확인하며 빈 좌석 수를 세는 방식 (비교 기준)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SeatFinderBenchmark {
+	@Param({"20", "40"})
+	private int rows;
+	@Param({"0.5", "0.9"})
+	private double occupancy;
+	@Param({"4"})
+	private int count;
+
+	private SeatLayout layout;
+	private SeatMap reserved;
+
+	@Setup
+	public void setUp() {
+		StringJoiner joiner = new StringJoiner(",");
+		for (int i = 0; i < rows; i++) {
+			joiner.add("R" + i + ":8_24_8");	// 열마다 40석
+		}
+		layout = SeatLayout.parse(joiner.toString());
+		reserved = SeatMap.empty(layout.getTotalSeats());
+		Random random = new Random(42);
+		for (int i = 0; i < layout.getTotalSeats(); i++) {
+			if (random.nextDouble() < occupancy) {
+				reserved.reserve(i);
+			}
+		}
+	}
+
+	@Benchmark
+	public OptionalInt bitmap() {
+		return SeatFinder.findBest(layout, reserved, count);
+	}
+
+	@Benchmark
+	public int scan() {
+		int best = -1;
+		double bestScore = Double.MAX_VALUE;
+		double rowCenter = (layout.getRowCount() - 1) / 2.0;
+		for (int r = 0; r < layout.getRowCount(); r++) {
+			int firstOrdinal = layout.getRowFirstOrdinal(r);
+			double seatCenter = (layout.getRowSeatCount(r) - 1) / 2.0;
+			int offset = 0;
+			for (int b = 0; b < layout.getBlockCount(r); b++) {
+				int blockSize = layout.getBlockSize(r, b);
+				int run = 0;
+				for (int i = 0; i < blockSize; i++) {
+					run = reserved.isReserved(firstOrdinal + offset + i) ? 0 : run + 1;
+					if (run >= count) {
+						int start = offset + i - count + 1;
+						double dx = start + (count - 1) / 2.0 - seatCenter;
+						double dy = r - rowCenter;
+						double score = dx * dx + dy * dy;
+						if (score < bestScore) {
+							bestScore = score;
+							best = firstOrdinal + start;
+						}
+					}
+				}
+				offset += blockSize;
+			}
+		}
+		return best;
+	}
+}
@@ -1,8 +1,9 @@
 package com.example.moviebox.admin.controller;
 
-import com.example.moviebox.admin.dto.AdminRequest;
+import com.example.moviebox.admin.dto.*;
 import com.example.moviebox.admin.service.AdminService;
 import com.example.moviebox.common.dto.ApiResponse;
+import com.example.moviebox.common.ratelimit.*;
 import com.example.moviebox.jwt.dto.TokenCreation;
 import javax.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -14,6 +15,7 @@ import org.springframework.web.bind.annotation.*;
 @RequestMapping("/api/admin")
 public class AdminController {
 	private final AdminService adminService;
+	private final RateLimiter rateLimiter;
 
 	@ResponseStatus(HttpStatus.CREATED)
 	@PostMapping("/register")
@@ -22,6 +24,11 @@ public class AdminController {
 		return ApiResponse.success();
 	}
 
+	@GetMapping("/email-availability")
+	public ApiResponse<EmailAvailability.Response> emailAvailability(@RequestParam(name="email") String email) {
+		return ApiResponse.success(new EmailAvailability.Response(email, adminService.isEmailAvailable(email)));
+	}
+
 	@GetMapping("/email-auth")
 	public String emailAuth(@RequestParam(name="key") String authKey) {	// 사용자에게 보여줄 것이므로 ApiResponse에 담지 않음
 		adminService.authenticateMail(authKey);
@@ -30,6 +37,7 @@ public class AdminController {
 
 	@PostMapping("/login")
 	public ApiResponse<TokenCreation.Response> login(@RequestBody @Valid AdminRequest adminLoginRequest) {
+		rateLimiter.acquire(RateLimitType.ACCOUNT, "login:" + adminLoginRequest.getEmail());	// 비밀번호 대입 방지 (트랜잭션 시작 전에 확인)
 		TokenCreation.Response tokenResponse = TokenCreation.Response.from(
 			adminService.login(adminLoginRequest.getEmail(), adminLoginRequest.getPassword()));
 		return ApiResponse.success(tokenResponse);
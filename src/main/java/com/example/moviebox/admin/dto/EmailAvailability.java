@@ -0,0 +1,16 @@
+package com.example.moviebox.admin.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+public class EmailAvailability {
+	@Getter
+	@AllArgsConstructor
+	@NoArgsConstructor(access = AccessLevel.PROTECTED)
+	public static class Response {
+		private String email;
+		private boolean available;
+	}
+}
@@ -1,55 +1,75 @@
 package com.example.moviebox.admin.service;
 
+import com.example.moviebox.configuration.security.*;
 import com.example.moviebox.jwt.dto.TokenDto;
-import com.example.moviebox.utils.MailUtils;
+import com.example.moviebox.mail.service.MailOutboxService;
+import com.example.moviebox.utils.*;
 import com.example.moviebox.exception.BusinessException;
 import com.example.moviebox.jwt.*;
 import com.example.moviebox.user.domain.*;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 @RequiredArgsConstructor
 @Service
 public class AdminService {
-	private final PasswordEncoder passwordEncoder;
+	private static final String CONFIRMATION_MAIL_SUBJECT = "Moviebox 인증 메일";
+	private static final MailTemplate CONFIRMATION_MAIL_TEMPLATE = MailTemplate.compile(
+		"<p>Moviebox 관리자 가입을 축하드립니다.</p><p>이메일 인증을 원한다면 아래 버튼을 클릭해 주세요.</p>"
+			+ "<div><a href='{serverDomain}/api/admin/email-auth?key={emailAuthKey}'>인증</a></div>");
+
+	private final PasswordHasher passwordHasher;
 	private final JwtTokenProvider jwtProvider;
-	private final MailUtils mailUtil;
+	private final EmailAuthKeyProvider emailAuthKeyProvider;
+	private final MailOutboxService mailOutboxService;
 	private final UserRepository userRepository;
+	private final SecurityUserCache securityUserCache;
+	private final RegisteredEmailFilter registeredEmailFilter;
 
 	@Value("${server.domain}")
 	private String serverDomain;
 
+	// 이메일 중복은 미리 조회하지 않고 unique index 로 확인 (insert 1회)
+	// insert 가 실패했을 때만 이메일이 이미 있는지 조회해, 다른 제약 조건 위반은 그대로 던진다.
 	@Transactional
 	public void register(String email, String password) {
-		validateRegistration(email);
-
-		User user = User.createAdminUser(email, passwordEncoder.encode(password));
-		User savedUser = userRepository.save(user);
+		User user = User.createAdminUser(email, passwordHasher.encode(password));
+		User savedUser;
+		try {
+			savedUser = userRepository.saveAndFlush(user);
+		} catch (DataIntegrityViolationException e) {
+			if (userRepository.existsByEmail(email)) {
+				throw BusinessException.EMAIL_ALREADY_EXIST;
+			}
+			throw e;
+		}
+		registeredEmailFilter.addAfterCommit(email);
 
 		sendConfirmationEmail(savedUser);
 	}
 
-	private void validateRegistration(String email) {
-		if (userRepository.existsByEmail(email)) {
-			throw BusinessException.EMAIL_ALREADY_EXIST;
+	// 가입 화면의 이메일 중복 확인 - 가입된 적 없는 이메일은 DB 를 조회하지 않는다.
+	public boolean isEmailAvailable(String email) {
+		if (!registeredEmailFilter.mightBeRegistered(email)) {
+			return true;
 		}
+		return !userRepository.existsByEmail(email);
 	}
 
 	private void sendConfirmationEmail(User user) {
-		String email = user.getEmail();
-		String subject = "Moviebox 인증 메일";
-		String text = "<p>Moviebox 관리자 가입을 축하드립니다.</p><p>이메일 인증을 원한다면 아래 버튼을 클릭해 주세요.</p>"
-			+ "<div><a href='" + serverDomain + "/api/admin/email-auth?key=" + user.getEmailAuthKey() + "'>인증</a></div>";
-		mailUtil.sendMail(email, subject, text);
+		String text = CONFIRMATION_MAIL_TEMPLATE.render(Map.of(
+			"serverDomain", serverDomain,
+			"emailAuthKey", emailAuthKeyProvider.createKey(user)));
+		mailOutboxService.save(new MailMessage(user.getEmail(), CONFIRMATION_MAIL_SUBJECT, text));	// 회원 저장과 같은 트랜잭션, 발송은 MailOutboxRelay 가 담당
 	}
 
 	@Transactional
 	public void authenticateMail(String authKey) {
-		User user = userRepository.findByEmailAuthKey(authKey)
-			.orElseThrow(() -> BusinessException.EMAIL_AUTH_KEY_INVALID);
+		User user = findUserByEmailAuthKey(authKey);
 
 		if (user.isEmailAuth()) {
 			throw BusinessException.ALREADY_COMPLETE_AUTHENTICATION;
@@ -57,15 +77,40 @@ public class AdminService {
 
 		user.completeEmailAuthentication();
 		userRepository.save(user);
+		securityUserCache.evictAfterCommit(user.getId());
+	}
+
+	// 서명된 인증 키는 회원 번호(PK)로 조회, 이전에 발급된 UUID 인증 키는 기존대로 인증 키로 조회
+	private User findUserByEmailAuthKey(String authKey) {
+		if (EmailAuthKeyProvider.isLegacyKey(authKey)) {
+			return userRepository.findByEmailAuthKey(authKey)
+				.orElseThrow(() -> BusinessException.EMAIL_AUTH_KEY_INVALID);
+		}
+
+		JwtParseResult result = emailAuthKeyProvider.parse(authKey);
+		if (result.getFailure() == JwtParseResult.Failure.EXPIRED) {
+			throw BusinessException.EMAIL_AUTH_KEY_EXPIRED;
+		}
+		if (!result.isValid()) {
+			throw BusinessException.EMAIL_AUTH_KEY_INVALID;
+		}
+
+		User user = userRepository.findById(Long.parseLong(result.getClaims().getSubject()))
+			.orElseThrow(() -> BusinessException.EMAIL_AUTH_KEY_INVALID);
+		if (!emailAuthKeyProvider.matchesNonce(result.getClaims(), user.getEmailAuthKey())) {
+			throw BusinessException.EMAIL_AUTH_KEY_INVALID;
+		}
+		return user;
 	}
 
-	@Transactional(readOnly = true)
+	// 비밀번호 확인(bcrypt)을 기다리는 동안 DB 연결을 잡지 않도록 트랜잭션 없이 수행 (조회, 다시 해싱한 비밀번호 저장은 각각 짧은 트랜잭션)
 	public TokenDto login(String email, String password) {
 		User user = userRepository.findByEmail(email)
 			.orElseThrow(() -> BusinessException.USER_NOT_FOUND_BY_EMAIL);
 		validateLogin(user, password);
+		upgradePasswordEncoding(user, password);
 
-		return jwtProvider.generateAccessTokenAndRefreshToken(user.getId());
+		return jwtProvider.generateAccessTokenAndRefreshToken(new SecurityUser(user));
 	}
 
 	private void validateLogin(User user, String password) {
@@ -73,8 +118,21 @@ public class AdminService {
 			throw BusinessException.EMAIL_NOT_VERIFIED_YET;
 		}
 
-		if (!passwordEncoder.matches(password, user.getPassword())) {
+		if (!passwordHasher.matches(password, user.getPassword())) {
 			throw BusinessException.USER_NOT_FOUND_BY_PASSWORD;
 		}
 	}
+
+	// 현재 설정보다 약하게 해싱된 비밀번호는 로그인에 성공한 평문으로 다시 해싱
+	private void upgradePasswordEncoding(User user, String password) {
+		if (!passwordHasher.upgradeEncoding(user.getPassword())) {
+			return;
+		}
+
+		String encodedPassword = passwordHasher.encode(password);
+		if (userRepository.changePasswordIfUnchanged(user.getId(), user.getPassword(), encodedPassword) > 0) {
+			user.changePassword(encodedPassword);
+			securityUserCache.evict(user.getId());
+		}
+	}
 }
@@ -0,0 +1,76 @@
+package com.example.moviebox.admin.service;
+
+import com.example.moviebox.user.domain.*;
+import com.example.moviebox.utils.BloomFilter;
+import java.util.*;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.*;
+
+// 가입된 이메일의 Bloom filter - "가입된 적 없는 이메일" 은 DB 조회 없이 응답하기 위해 사용
+// 다른 서버에서 가입한 이메일은 sync-interval-millis 마다 회원 번호 순으로 이어서 반영한다.
+@Slf4j
+@Component
+public class RegisteredEmailFilter {
+	private static final int SYNC_CHUNK_SIZE = 1000;
+
+	private final UserRepository userRepository;
+	private final BloomFilter bloomFilter;
+	private long lastSyncedUserId;
+	private volatile boolean loaded;	// 최초 적재 전에는 모든 이메일이 가입됐을 수 있다고 응답
+
+	public RegisteredEmailFilter(final UserRepository userRepository,
+		@Value("${registration.email-filter.expected-insertions:1000000}") long expectedInsertions,
+		@Value("${registration.email-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+		this.userRepository = userRepository;
+		this.bloomFilter = new BloomFilter(expectedInsertions, falsePositiveRate);
+	}
+
+	public boolean mightBeRegistered(String email) {
+		return !loaded || bloomFilter.mightContain(normalize(email));
+	}
+
+	public void add(String email) {
+		bloomFilter.put(normalize(email));
+	}
+
+	// 트랜잭션 안에서는 commit 된 이메일만 추가 (rollback 된 가입이 filter 에 남지 않도록)
+	public void addAfterCommit(String email) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			add(email);
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				add(email);
+			}
+		});
+	}
+
+	@Scheduled(fixedDelayString = "${registration.email-filter.sync-interval-millis:10000}")
+	public synchronized void sync() {
+		List<UserEmail> userEmails;
+		do {
+			userEmails = userRepository.findEmailsByIdGreaterThan(lastSyncedUserId, PageRequest.of(0, SYNC_CHUNK_SIZE));
+			for (UserEmail userEmail : userEmails) {
+				if (userEmail.getEmail() != null) {
+					add(userEmail.getEmail());
+				}
+				lastSyncedUserId = userEmail.getId();
+			}
+		} while (userEmails.size() == SYNC_CHUNK_SIZE);
+
+		if (!loaded) {
+			loaded = true;
+			log.info("Registered email filter loaded. lastUserId={}", lastSyncedUserId);
+		}
+	}
+
+	private static String normalize(String email) {	// unique index 비교와 같이 대소문자 구분 X
+		return email.toLowerCase(Locale.ROOT);
+	}
+}
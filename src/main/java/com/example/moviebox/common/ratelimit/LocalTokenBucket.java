@@ -0,0 +1,29 @@
+package com.example.moviebox.common.ratelimit;
+
+// Redis 를 사용할 수 없을 때 서버 메모리에서 사용하는 token bucket (서버마다 따로 집계)
+class LocalTokenBucket {
+	private final int capacity;
+	private final double refillPerMillis;
+	private double tokens;
+	private long refilledAt;
+
+	LocalTokenBucket(int capacity, double refillPerSecond, long now) {
+		if (capacity < 1 || !(refillPerSecond > 0)) {
+			throw new IllegalArgumentException("Token bucket capacity and refill-per-second must be positive");
+		}
+		this.capacity = capacity;
+		this.refillPerMillis = refillPerSecond / 1000;
+		this.tokens = capacity;
+		this.refilledAt = now;
+	}
+
+	synchronized boolean tryConsume(long now) {
+		tokens = Math.min(capacity, tokens + Math.max(0, now - refilledAt) * refillPerMillis);
+		refilledAt = now;
+		if (tokens < 1) {
+			return false;
+		}
+		tokens -= 1;
+		return true;
+	}
+}
@@ -0,0 +1,18 @@
+package com.example.moviebox.common.ratelimit;
+
+import javax.servlet.http.*;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+// 요청 IP 기준 횟수 제한 (초과 시 BusinessException 을 던져 ErrorController 가 429 로 응답)
+// 계정 기준 제한은 요청 본문을 읽은 뒤 각 서비스에서 수행
+@RequiredArgsConstructor
+public class RateLimitInterceptor implements HandlerInterceptor {
+	private final RateLimiter rateLimiter;
+
+	@Override
+	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+		rateLimiter.acquire(RateLimitType.IP, request.getRemoteAddr());
+		return true;
+	}
+}
@@ -0,0 +1,6 @@
+package com.example.moviebox.common.ratelimit;
+
+public enum RateLimitType {
+	IP,			// 요청 IP 기준
+	ACCOUNT		// 로그인 이메일, 회원 번호 기준
+}
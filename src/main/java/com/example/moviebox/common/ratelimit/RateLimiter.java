@@ -0,0 +1,114 @@
+package com.example.moviebox.common.ratelimit;
+
+import com.example.moviebox.exception.BusinessException;
+import com.github.benmanes.caffeine.cache.*;
+import java.time.Duration;
+import java.util.*;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.*;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.*;
+import org.springframework.stereotype.Component;
+
+// token bucket 방식의 요청 횟수 제한
+// 모든 서버가 Redis 의 bucket 을 공유하며, Redis 호출이 실패하거나 slow-millis 보다 느리면
+// fallback-seconds 동안 서버 메모리의 bucket 으로 대신 제한한다. (Redis 호출은 rate-limit.redis.timeout-millis 안에 실패)
+@Slf4j
+@Component
+public class RateLimiter {
+	private static final String KEY_PREFIX = "RL:";
+
+	// 마지막 요청 이후 흐른 시간만큼 token 을 채운 뒤 1개 소비 (조회 + 갱신을 한 번의 호출로 원자적으로 수행)
+	// ARGV: capacity, 초당 충전량, 현재 시각(ms) - 스크립트 안에서 TIME 을 쓰면 복제 시 결과가 달라질 수 있어 서버 시각을 전달
+	private static final RedisScript<Long> TOKEN_BUCKET_SCRIPT = new DefaultRedisScript<>(
+		"local capacity = tonumber(ARGV[1]) "
+			+ "local refill_per_ms = tonumber(ARGV[2]) / 1000 "
+			+ "local now = tonumber(ARGV[3]) "
+			+ "local bucket = redis.call('HMGET', KEYS[1], 'tokens', 'ts') "
+			+ "local tokens = tonumber(bucket[1]) or capacity "
+			+ "local ts = tonumber(bucket[2]) or now "
+			+ "tokens = math.min(capacity, tokens + math.max(0, now - ts) * refill_per_ms) "
+			+ "local allowed = 0 "
+			+ "if tokens >= 1 then "
+			+ "tokens = tokens - 1 "
+			+ "allowed = 1 "
+			+ "end "
+			+ "redis.call('HMSET', KEYS[1], 'tokens', tostring(tokens), 'ts', ARGV[3]) "
+			+ "redis.call('PEXPIRE', KEYS[1], math.ceil(capacity / refill_per_ms)) "
+			+ "return allowed", Long.class);
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final Map<RateLimitType, Policy> policies = new EnumMap<>(RateLimitType.class);
+	private final Cache<String, LocalTokenBucket> localBuckets;
+	private final long slowMillis;
+	private final long fallbackMillis;
+	private volatile long redisFallbackUntil;
+
+	public RateLimiter(@Qualifier("rateLimitRedisTemplate") final RedisTemplate<String, String> redisTemplate,
+		@Value("${rate-limit.ip.capacity:30}") int ipCapacity,
+		@Value("${rate-limit.ip.refill-per-second:1}") double ipRefillPerSecond,
+		@Value("${rate-limit.account.capacity:10}") int accountCapacity,
+		@Value("${rate-limit.account.refill-per-second:0.2}") double accountRefillPerSecond,
+		@Value("${rate-limit.redis.slow-millis:50}") long slowMillis,
+		@Value("${rate-limit.redis.fallback-seconds:10}") long fallbackSeconds) {
+		this.redisTemplate = redisTemplate;
+		this.policies.put(RateLimitType.IP, new Policy(ipCapacity, ipRefillPerSecond));
+		this.policies.put(RateLimitType.ACCOUNT, new Policy(accountCapacity, accountRefillPerSecond));
+		this.slowMillis = slowMillis;
+		this.fallbackMillis = Duration.ofSeconds(fallbackSeconds).toMillis();
+		this.localBuckets = Caffeine.newBuilder()
+			.maximumSize(100_000)
+			.expireAfterAccess(Duration.ofMinutes(10))
+			.build();
+	}
+
+	public void acquire(RateLimitType type, String key) {
+		if (!tryAcquire(type, key)) {
+			throw BusinessException.TOO_MANY_REQUESTS;
+		}
+	}
+
+	public boolean tryAcquire(RateLimitType type, String key) {
+		Policy policy = policies.get(type);
+		String bucketKey = KEY_PREFIX + type + ":" + key;
+		long now = System.currentTimeMillis();
+
+		if (now < redisFallbackUntil) {
+			return tryAcquireLocal(bucketKey, policy, now);
+		}
+
+		try {
+			Long result = redisTemplate.execute(TOKEN_BUCKET_SCRIPT, Collections.singletonList(bucketKey),
+				String.valueOf(policy.capacity), String.valueOf(policy.refillPerSecond), String.valueOf(now));
+			long elapsedMillis = System.currentTimeMillis() - now;
+			if (elapsedMillis > slowMillis) {
+				log.warn("Rate limit redis call is slow ({}ms), use local bucket for {}ms", elapsedMillis, fallbackMillis);
+				redisFallbackUntil = System.currentTimeMillis() + fallbackMillis;
+			}
+			return Long.valueOf(1L).equals(result);
+		} catch (RuntimeException e) {
+			log.warn("Rate limit redis call failed, use local bucket for {}ms", fallbackMillis, e);
+			redisFallbackUntil = System.currentTimeMillis() + fallbackMillis;
+			return tryAcquireLocal(bucketKey, policy, now);
+		}
+	}
+
+	private boolean tryAcquireLocal(String bucketKey, Policy policy, long now) {
+		return localBuckets.get(bucketKey, key -> new LocalTokenBucket(policy.capacity, policy.refillPerSecond, now))
+			.tryConsume(now);
+	}
+
+	private static class Policy {
+		private final int capacity;
+		private final double refillPerSecond;
+
+		// 충전량이 0 이하면 bucket 이 다시 차지 않고 만료 시간(capacity / 충전량)도 계산할 수 없다.
+		private Policy(int capacity, double refillPerSecond) {
+			if (capacity < 1 || !(refillPerSecond > 0)) {
+				throw new IllegalArgumentException("Rate limit capacity and refill-per-second must be positive");
+			}
+			this.capacity = capacity;
+			this.refillPerSecond = refillPerSecond;
+		}
+	}
+}
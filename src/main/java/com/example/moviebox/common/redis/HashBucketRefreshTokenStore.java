@@ -0,0 +1,92 @@
+package com.example.moviebox.common.redis;
+
+import com.example.moviebox.utils.HashUtils;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.*;
+import org.springframework.data.redis.core.script.*;
+
+// 회원 번호 구간별 hash 하나에 여러 회원의 Refresh Token 을 저장한다.
+// 필드 수가 hash-max-listpack-entries(기본 128) 이하이고 값이 작으면 Redis 가 listpack 으로 압축 저장하므로 key 마다의 오버헤드가 사라진다.
+// hash 의 필드에는 TTL 을 줄 수 없으므로 값 앞 8 byte 에 만료 시각을 담는다.
+// 쓸 때마다 bucket 의 만료된 필드를 지우므로, 다시 로그인하지 않는 회원의 필드도 같은 bucket 의 다음 쓰기에서 정리된다.
+// 값: 만료 시각(epoch millis, 8 byte big-endian) + digest(32 byte)
+@RequiredArgsConstructor
+class HashBucketRefreshTokenStore implements RefreshTokenStore {
+	private static final int EXPIRES_AT_LENGTH = Long.BYTES;
+
+	// bucket 의 필드 수는 bucket-size 이하이므로 쓰기마다 전체를 확인해도 비용이 제한된다.
+	private static final String FUNCTIONS = CONSTANT_TIME_EQUALS_FUNCTION
+		+ "local function expiresAt(value) "
+			+ "local result = 0 "
+			+ "for i = 1, 8 do result = result * 256 + string.byte(value, i) end "
+			+ "return result "
+			+ "end "
+			+ "local function sweep(key, now) "
+			+ "local entries = redis.call('HGETALL', key) "
+			+ "for i = 1, #entries, 2 do "
+			+ "if expiresAt(entries[i + 1]) <= now then redis.call('HDEL', key, entries[i]) end "
+			+ "end "
+			+ "end ";
+
+	// ARGV: field, value, 현재 시각(ms), bucket TTL(ms)
+	private static final RedisScript<Long> SET_SCRIPT = new DefaultRedisScript<>(FUNCTIONS
+		+ "sweep(KEYS[1], tonumber(ARGV[3])) "
+		+ "redis.call('HSET', KEYS[1], ARGV[1], ARGV[2]) "
+		+ "redis.call('PEXPIRE', KEYS[1], ARGV[4]) "
+		+ "return 1", Long.class);
+
+	// ARGV: field, 이전 digest, 새 값, 현재 시각(ms), bucket TTL(ms)
+	private static final RedisScript<Long> ROTATE_SCRIPT = new DefaultRedisScript<>(FUNCTIONS
+		+ "sweep(KEYS[1], tonumber(ARGV[4])) "
+		+ "local current = redis.call('HGET', KEYS[1], ARGV[1]) "
+		+ "if not current or not constantTimeEquals(string.sub(current, 9), ARGV[2]) then return 0 end "
+		+ "redis.call('HSET', KEYS[1], ARGV[1], ARGV[3]) "
+		+ "redis.call('PEXPIRE', KEYS[1], ARGV[5]) "
+		+ "return 1", Long.class);
+
+	private final RedisTemplate<String, byte[]> binaryRedisTemplate;
+	private final String keyPrefix;
+	private final int bucketSize;
+	private final Duration ttl;
+
+	@Override
+	public void set(long userId, String token) {
+		binaryRedisTemplate.execute(SET_SCRIPT, bucketKey(userId), field(userId), createValue(token),
+			toBytes(String.valueOf(System.currentTimeMillis())), toBytes(String.valueOf(ttl.toMillis())));
+	}
+
+	@Override
+	public boolean rotate(long userId, String previousToken, String newToken) {
+		Long result = binaryRedisTemplate.execute(ROTATE_SCRIPT, bucketKey(userId),
+			field(userId), HashUtils.sha256(previousToken), createValue(newToken),
+			toBytes(String.valueOf(System.currentTimeMillis())), toBytes(String.valueOf(ttl.toMillis())));
+		return Long.valueOf(1L).equals(result);
+	}
+
+	private byte[] createValue(String token) {
+		return ByteBuffer.allocate(EXPIRES_AT_LENGTH + 32)
+			.putLong(System.currentTimeMillis() + ttl.toMillis())
+			.put(HashUtils.sha256(token))
+			.array();
+	}
+
+	private List<String> bucketKey(long userId) {
+		return Collections.singletonList(keyPrefix + bucket(userId));
+	}
+
+	private long bucket(long userId) {
+		return userId / bucketSize;
+	}
+
+	private byte[] field(long userId) {
+		return toBytes(String.valueOf(userId % bucketSize));
+	}
+
+	private static byte[] toBytes(String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,47 @@
+package com.example.moviebox.common.redis;
+
+import com.example.moviebox.utils.HashUtils;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.*;
+import org.springframework.data.redis.core.script.*;
+
+// 회원마다 key 하나에 Refresh Token 의 digest 를 저장하고, key 의 TTL 로 만료시킨다.
+@RequiredArgsConstructor
+class KeyRefreshTokenStore implements RefreshTokenStore {
+	// 저장된 값이 이전 토큰과 같을 때만 새 토큰으로 교체 (비교 + 교체를 한 번의 호출로 원자적으로 수행)
+	// ARGV[2]: digest 저장 이전에 원본 그대로 저장된 토큰도 교체할 수 있도록 원본 비교
+	private static final RedisScript<Long> ROTATE_SCRIPT = new DefaultRedisScript<>(CONSTANT_TIME_EQUALS_FUNCTION
+		+ "local current = redis.call('GET', KEYS[1]) "
+		+ "if not current then return 0 end "
+		+ "if constantTimeEquals(current, #current == 32 and ARGV[1] or ARGV[2]) then "
+		+ "redis.call('SET', KEYS[1], ARGV[3], 'PX', ARGV[4]) "
+		+ "return 1 "
+		+ "end "
+		+ "return 0", Long.class);
+
+	private final RedisTemplate<String, byte[]> binaryRedisTemplate;
+	private final String keyPrefix;
+	private final Duration ttl;
+
+	@Override
+	public void set(long userId, String token) {
+		ValueOperations<String, byte[]> values = binaryRedisTemplate.opsForValue();
+		values.set(keyPrefix + userId, HashUtils.sha256(token), ttl);
+	}
+
+	@Override
+	public boolean rotate(long userId, String previousToken, String newToken) {
+		Long result = binaryRedisTemplate.execute(ROTATE_SCRIPT,
+			Collections.singletonList(keyPrefix + userId),
+			HashUtils.sha256(previousToken), toBytes(previousToken),
+			HashUtils.sha256(newToken), toBytes(String.valueOf(ttl.toMillis())));
+		return Long.valueOf(1L).equals(result);
+	}
+
+	private static byte[] toBytes(String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
+	}
+}
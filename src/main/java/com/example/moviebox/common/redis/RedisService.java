@@ -1,23 +1,31 @@
 package com.example.moviebox.common.redis;
 
 import java.time.Duration;
-import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.*;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
-@RequiredArgsConstructor
+// Refresh Token은 원본 대신 SHA-256 digest(32 byte)만 저장한다.
+// 저장 구조(RefreshTokenLayout)는 설정으로 선택하며, 구조를 바꾸면 기존에 저장된 토큰은 조회되지 않는다. (재로그인 필요)
 @Service
 public class RedisService {
-	private static final String REFRESH_TOKEN_PREFIX = "RT:";
-	private final RedisTemplate redisTemplate;
+	private static final Duration REFRESH_TOKEN_TTL = Duration.ofDays(30);	// 30일 뒤 메모리에서 삭제된다.
+
+	private final RefreshTokenStore refreshTokenStore;
+
+	public RedisService(final RedisTemplate<String, byte[]> binaryRedisTemplate,
+		@Value("${redis.refresh-token.layout:KEY}") RefreshTokenLayout refreshTokenLayout,
+		@Value("${redis.refresh-token.bucket-size:100}") int bucketSize) {
+		this.refreshTokenStore = refreshTokenLayout == RefreshTokenLayout.HASH_BUCKET
+			? new HashBucketRefreshTokenStore(binaryRedisTemplate, "RTB:", bucketSize, REFRESH_TOKEN_TTL)
+			: new KeyRefreshTokenStore(binaryRedisTemplate, "RT:", REFRESH_TOKEN_TTL);
+	}
 
 	public void setRefreshTokenValue(long userId, String token){
-		ValueOperations<String, String> values = redisTemplate.opsForValue();
-		values.set(REFRESH_TOKEN_PREFIX + userId, token, Duration.ofDays(30));  // 30일 뒤 메모리에서 삭제된다.
+		refreshTokenStore.set(userId, token);
 	}
 
-	public String getRefreshTokenValue(long userId){
-		ValueOperations<String, String> values = redisTemplate.opsForValue();
-		return values.get("RT:" + userId);
+	public boolean rotateRefreshTokenValue(long userId, String previousToken, String newToken) {
+		return refreshTokenStore.rotate(userId, previousToken, newToken);
 	}
 }
@@ -0,0 +1,6 @@
+package com.example.moviebox.common.redis;
+
+public enum RefreshTokenLayout {	// Refresh Token 저장 구조
+	KEY,			// 회원마다 key 하나 (RT:<userId>)
+	HASH_BUCKET		// 회원 번호 구간별 hash 하나 (RTB:<userId / bucketSize>, field: userId % bucketSize)
+}
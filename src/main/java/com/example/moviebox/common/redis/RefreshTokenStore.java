@@ -0,0 +1,17 @@
+package com.example.moviebox.common.redis;
+
+interface RefreshTokenStore {
+	// Lua 에서 두 값을 끝까지 비교 (== 처럼 처음 다른 byte 에서 멈추지 않으므로 비교 시간으로 저장된 값을 알 수 없다)
+	String CONSTANT_TIME_EQUALS_FUNCTION =
+		"local function constantTimeEquals(a, b) "
+			+ "if not a or #a ~= #b then return false end "
+			+ "local diff = 0 "
+			+ "for i = 1, #a do diff = bit.bor(diff, bit.bxor(string.byte(a, i), string.byte(b, i))) end "
+			+ "return diff == 0 "
+			+ "end ";
+
+	void set(long userId, String token);
+
+	// 저장된 토큰이 previousToken 일 때만 newToken 으로 교체
+	boolean rotate(long userId, String previousToken, String newToken);
+}
@@ -2,11 +2,12 @@ package com.example.moviebox.configuration;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.*;
-import org.springframework.data.redis.connection.RedisConnectionFactory;
-import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import java.time.Duration;
+import org.springframework.data.redis.connection.*;
+import org.springframework.data.redis.connection.lettuce.*;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.repository.configuration.EnableRedisRepositories;
-import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.data.redis.serializer.*;
 
 @Configuration
 @EnableRedisRepositories
@@ -22,6 +23,27 @@ public class RedisConfiguration {
 		return new LettuceConnectionFactory(redisHost, redisPort);
 	}
 
+	// 요청 횟수 제한 전용 연결 - Redis 가 느려도 요청(과 DB 연결)을 오래 붙잡지 않도록 command timeout 을 짧게 둔다.
+	// 다른 Redis 사용처에 주입되지 않도록 autowire 대상에서 제외
+	@Bean(autowireCandidate = false)
+	public LettuceConnectionFactory rateLimitRedisConnectionFactory(
+		@Value("${rate-limit.redis.timeout-millis:200}") long timeoutMillis) {
+		LettuceClientConfiguration clientConfiguration = LettuceClientConfiguration.builder()
+			.commandTimeout(Duration.ofMillis(timeoutMillis))
+			.build();
+		return new LettuceConnectionFactory(new RedisStandaloneConfiguration(redisHost, redisPort), clientConfiguration);
+	}
+
+	@Bean
+	public RedisTemplate<String, String> rateLimitRedisTemplate(
+		@Value("${rate-limit.redis.timeout-millis:200}") long timeoutMillis) {
+		RedisTemplate<String, String> redisTemplate = new RedisTemplate<>();
+		redisTemplate.setKeySerializer(new StringRedisSerializer());
+		redisTemplate.setValueSerializer(new StringRedisSerializer());
+		redisTemplate.setConnectionFactory(rateLimitRedisConnectionFactory(timeoutMillis));
+		return redisTemplate;
+	}
+
 	@Bean
 	public RedisTemplate<String, String> redisTemplate() {
 		RedisTemplate<String, String> redisTemplate = new RedisTemplate<>();
@@ -30,4 +52,15 @@ public class RedisConfiguration {
 		redisTemplate.setConnectionFactory(redisConnectionFactory());
 		return redisTemplate;
 	}
+
+	@Bean
+	public RedisTemplate<String, byte[]> binaryRedisTemplate() {	// 값을 byte[] 그대로 저장 (digest 등)
+		RedisTemplate<String, byte[]> redisTemplate = new RedisTemplate<>();
+		redisTemplate.setKeySerializer(new StringRedisSerializer());
+		redisTemplate.setValueSerializer(RedisSerializer.byteArray());
+		redisTemplate.setHashKeySerializer(RedisSerializer.byteArray());
+		redisTemplate.setHashValueSerializer(RedisSerializer.byteArray());
+		redisTemplate.setConnectionFactory(redisConnectionFactory());
+		return redisTemplate;
+	}
 }
@@ -0,0 +1,17 @@
+package com.example.moviebox.configuration;
+
+import org.springframework.boot.task.TaskSchedulerBuilder;
+import org.springframework.context.annotation.*;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+@Configuration
+@EnableScheduling	// 메일 outbox 발송 등 주기 작업 활성화
+public class SchedulingConfiguration {
+	// 주기 작업이 한 스레드를 나눠 쓰면 오래 걸리는 작업(이메일 filter 동기화, 관객 수 집계)이 좌석 저장, 메일 발송을 지연시키므로
+	// spring.task.scheduling.pool.size 만큼 스레드를 둔다.
+	@Bean
+	public ThreadPoolTaskScheduler taskScheduler(TaskSchedulerBuilder taskSchedulerBuilder) {
+		return taskSchedulerBuilder.build();
+	}
+}
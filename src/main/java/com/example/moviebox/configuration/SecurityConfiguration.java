@@ -1,13 +1,18 @@
 package com.example.moviebox.configuration;
 
+import com.example.moviebox.configuration.security.BCryptStrengthCalibrator;
 import com.example.moviebox.jwt.*;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.*;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.factory.PasswordEncoderFactories;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.*;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
@@ -15,11 +20,20 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 @Configuration
 @EnableWebSecurity
 public class SecurityConfiguration {
+	private static final String BCRYPT_ID = "bcrypt";
+
 	private final JwtTokenProvider jwtProvider;
 
+	// bcrypt strength 가 0 이하이면 서버 성능에 맞춰 target-millis 기준으로 계산
+	// 기존 strength 또는 다른 알고리즘으로 저장된 비밀번호는 로그인 시 새 설정으로 다시 해싱된다. (upgradeEncoding)
 	@Bean
-	public PasswordEncoder passwordEncoder() {
-		return PasswordEncoderFactories.createDelegatingPasswordEncoder();
+	public PasswordEncoder passwordEncoder(@Value("${security.password-hashing.bcrypt-strength:0}") int bcryptStrength,
+		@Value("${security.password-hashing.target-millis:250}") long targetMillis) {
+		int strength = bcryptStrength > 0 ? bcryptStrength : BCryptStrengthCalibrator.calibrate(targetMillis);
+		DelegatingPasswordEncoder passwordEncoder = new DelegatingPasswordEncoder(BCRYPT_ID,
+			Map.of(BCRYPT_ID, new BCryptPasswordEncoder(strength)));
+		passwordEncoder.setDefaultPasswordEncoderForMatches(PasswordEncoderFactories.createDelegatingPasswordEncoder());
+		return passwordEncoder;
 	}
 
 	@Bean
@@ -30,8 +44,10 @@ public class SecurityConfiguration {
 			.sessionManagement().sessionCreationPolicy(SessionCreationPolicy.STATELESS)	// 세션 대신 토큰 기반 인증
 			.and()
 			.authorizeRequests()
-				.antMatchers("/api/admin/register", "/api/admin/email-auth", "/api/admin/login").permitAll()
+				.antMatchers("/api/admin/register", "/api/admin/email-availability", "/api/admin/email-auth", "/api/admin/login").permitAll()
 				.antMatchers("/api/admin/**").hasRole("ADMIN")
+				.antMatchers(HttpMethod.POST, "/api/movies/*/grades").authenticated()
+				.antMatchers("/api/screenings/*/holds/**").authenticated()
 				.anyRequest().permitAll()
 			.and()
 			.addFilterBefore(new JwtAuthenticationFilter(jwtProvider), UsernamePasswordAuthenticationFilter.class);
@@ -0,0 +1,19 @@
+package com.example.moviebox.configuration;
+
+import com.example.moviebox.common.ratelimit.*;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.*;
+
+@RequiredArgsConstructor
+@Configuration
+public class WebConfiguration implements WebMvcConfigurer {
+	private final RateLimiter rateLimiter;
+
+	@Override
+	public void addInterceptors(InterceptorRegistry registry) {
+		registry.addInterceptor(new RateLimitInterceptor(rateLimiter))
+			.addPathPatterns("/api/admin/login", "/api/token/reissue", "/api/movies/*/grades",	// 인증 없이 호출 가능하면서 비용이 큰 요청
+				"/api/admin/email-availability");	// 가입 여부 대량 조회 방지
+	}
+}
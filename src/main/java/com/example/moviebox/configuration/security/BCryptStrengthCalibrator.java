@@ -0,0 +1,38 @@
+package com.example.moviebox.configuration.security;
+
+import java.util.Arrays;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+
+// 현재 서버에서 bcrypt 해싱 1회가 목표 시간에 가장 가깝게 걸리는 strength 를 계산
+// strength 가 1 오를 때마다 해싱 시간은 2배가 된다.
+@Slf4j
+public final class BCryptStrengthCalibrator {
+	private static final int MEASURE_STRENGTH = 8;
+	private static final int MEASURE_COUNT = 5;
+	private static final int MIN_STRENGTH = 10;
+	private static final int MAX_STRENGTH = 16;
+
+	private BCryptStrengthCalibrator() {
+	}
+
+	public static int calibrate(long targetMillis) {
+		String salt = BCrypt.gensalt(MEASURE_STRENGTH);
+		BCrypt.hashpw("calibration", salt);	// warm up
+
+		long[] elapsedNanos = new long[MEASURE_COUNT];
+		for (int i = 0; i < MEASURE_COUNT; i++) {
+			long startedAt = System.nanoTime();
+			BCrypt.hashpw("calibration", salt);
+			elapsedNanos[i] = System.nanoTime() - startedAt;
+		}
+		Arrays.sort(elapsedNanos);
+		double medianMillis = elapsedNanos[MEASURE_COUNT / 2] / 1_000_000.0;
+
+		int strength = MEASURE_STRENGTH + (int)Math.round(Math.log(targetMillis / medianMillis) / Math.log(2));
+		strength = Math.max(MIN_STRENGTH, Math.min(MAX_STRENGTH, strength));
+		log.info("BCrypt strength calibrated to {} (strength {} took {}ms, target {}ms)",
+			strength, MEASURE_STRENGTH, medianMillis, targetMillis);
+		return strength;
+	}
+}
@@ -0,0 +1,89 @@
+package com.example.moviebox.configuration.security;
+
+import com.example.moviebox.exception.BusinessException;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+// 비밀번호 해싱(bcrypt)을 CPU 코어 수만큼의 전용 스레드에서 수행
+// 요청 스레드가 모두 해싱에 묶이지 않도록, 대기열이 가득 차거나 대기 시간이 초과되면 즉시 SERVER_BUSY 로 거절한다.
+@Slf4j
+@Component
+public class PasswordHasher {
+	private final PasswordEncoder passwordEncoder;
+	private final ThreadPoolExecutor executor;
+	private final long timeoutMillis;
+
+	public PasswordHasher(final PasswordEncoder passwordEncoder,
+		@Value("${security.password-hashing.threads:0}") int threads,
+		@Value("${security.password-hashing.queue-capacity:64}") int queueCapacity,
+		@Value("${security.password-hashing.timeout-millis:2000}") long timeoutMillis) {
+		int threadCount = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+		this.passwordEncoder = passwordEncoder;
+		this.timeoutMillis = timeoutMillis;
+		this.executor = new ThreadPoolExecutor(threadCount, threadCount, 0L, TimeUnit.MILLISECONDS,
+			new ArrayBlockingQueue<>(queueCapacity), namedThreadFactory(), new ThreadPoolExecutor.AbortPolicy());
+	}
+
+	public String encode(CharSequence rawPassword) {
+		return execute(() -> passwordEncoder.encode(rawPassword));
+	}
+
+	public boolean matches(CharSequence rawPassword, String encodedPassword) {
+		return execute(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+	}
+
+	// 저장된 해시의 알고리즘/비용이 현재 설정보다 약한지 (해싱 없이 prefix 만 확인)
+	public boolean upgradeEncoding(String encodedPassword) {
+		return passwordEncoder.upgradeEncoding(encodedPassword);
+	}
+
+	private <T> T execute(Callable<T> task) {
+		Future<T> future;
+		try {
+			future = executor.submit(task);
+		} catch (RejectedExecutionException e) {
+			log.warn("Password hashing queue is full.");
+			throw BusinessException.SERVER_BUSY;
+		}
+
+		try {
+			return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+		} catch (TimeoutException e) {
+			future.cancel(true);
+			log.warn("Password hashing timed out.");
+			throw BusinessException.SERVER_BUSY;
+		} catch (InterruptedException e) {
+			future.cancel(true);
+			Thread.currentThread().interrupt();
+			throw BusinessException.SERVER_BUSY;
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException)e.getCause();
+			}
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+
+	public int getQueueDepth() {
+		return executor.getQueue().size();
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		executor.shutdownNow();
+	}
+
+	private static ThreadFactory namedThreadFactory() {
+		AtomicInteger threadNumber = new AtomicInteger();
+		return runnable -> {
+			Thread thread = new Thread(runnable, "password-hasher-" + threadNumber.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+}
@@ -5,7 +5,13 @@ import org.springframework.security.core.authority.AuthorityUtils;
 
 public class SecurityUser extends org.springframework.security.core.userdetails.User {
 	public SecurityUser(User user) {
-		super(String.valueOf(user.getId()), user.getPassword(),
+		super(String.valueOf(user.getId()), user.getPassword(), user.isEmailAuth(), true, true, true,
 			AuthorityUtils.createAuthorityList(user.getRole().getAuthority()));
 	}
+
+	// 토큰의 claim 으로 생성 (비밀번호는 갖지 않음)
+	public SecurityUser(String userId, String authorities, boolean enabled) {
+		super(userId, "", enabled, true, true, true,
+			AuthorityUtils.commaSeparatedStringToAuthorityList(authorities));
+	}
 }
@@ -0,0 +1,58 @@
+package com.example.moviebox.configuration.security;
+
+import com.github.benmanes.caffeine.cache.*;
+import java.time.Duration;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.*;
+
+// 회원 번호 -> SecurityUser 캐시 (크기 + TTL 제한)
+// 회원 상태가 바뀌면 evict 해야 하며, evict 하지 못한 경우에도 TTL 이후에는 DB의 상태가 반영된다.
+@Component
+public class SecurityUserCache {
+	private final Cache<Long, SecurityUser> cache;
+
+	public SecurityUserCache(@Value("${security.user-cache.maximum-size:10000}") long maximumSize,
+		@Value("${security.user-cache.ttl-seconds:30}") long ttlSeconds) {
+		this.cache = Caffeine.newBuilder()
+			.maximumSize(maximumSize)
+			.expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+			.recordStats()
+			.build();
+	}
+
+	public SecurityUser get(long userId, Function<Long, SecurityUser> loader) {
+		return cache.get(userId, loader);
+	}
+
+	public void evict(long userId) {
+		cache.invalidate(userId);
+	}
+
+	// 트랜잭션 안에서는 commit 이후에 evict (commit 전에 evict 하면 다른 요청이 변경 전 상태를 다시 캐시할 수 있음)
+	public void evictAfterCommit(long userId) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			evict(userId);
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				evict(userId);
+			}
+		});
+	}
+
+	public long getHitCount() {
+		return cache.stats().hitCount();
+	}
+
+	public long getMissCount() {
+		return cache.stats().missCount();
+	}
+
+	public long getEvictionCount() {
+		return cache.stats().evictionCount();
+	}
+}
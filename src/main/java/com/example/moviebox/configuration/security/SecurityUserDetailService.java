@@ -1,24 +1,21 @@
 package com.example.moviebox.configuration.security;
 
 import com.example.moviebox.exception.*;
-import com.example.moviebox.user.domain.User;
 import com.example.moviebox.user.domain.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.*;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 @RequiredArgsConstructor
 @Service
 public class SecurityUserDetailService implements UserDetailsService {
 	private final UserRepository userRepository;
+	private final SecurityUserCache securityUserCache;
 
-	@Transactional(readOnly = true)
+	// 캐시 hit 시에는 트랜잭션(커넥션)을 잡지 않도록 findById 자체의 트랜잭션만 사용
 	@Override
 	public UserDetails loadUserByUsername(String userId) throws UsernameNotFoundException {
-		User user = userRepository.findById(Long.parseLong(userId))
-			.orElseThrow(() -> BusinessException.USER_NOT_FOUND_BY_USERID);
-
-		return new SecurityUser(user);
+		return securityUserCache.get(Long.parseLong(userId), id -> new SecurityUser(
+			userRepository.findById(id).orElseThrow(() -> BusinessException.USER_NOT_FOUND_BY_USERID)));
 	}
 }
@@ -6,6 +6,7 @@ import org.springframework.http.HttpStatus;
 @Getter
 public class BusinessException extends RuntimeException {
 	public static final BusinessException EMAIL_AUTH_KEY_INVALID = new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "이메일 인증 키가 올바르지 않습니다.");
+	public static final BusinessException EMAIL_AUTH_KEY_EXPIRED = new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "이메일 인증 키가 만료되었습니다.");
 	public static final BusinessException EMAIL_NOT_VERIFIED_YET = new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "이메일 활성화 이후에 로그인을 해주세요.");
 	public static final BusinessException ALREADY_COMPLETE_AUTHENTICATION = new BusinessException(ErrorCode.NOT_FOUND_RESOURCE, "이미 인증된 계정입니다.");
 	public static final BusinessException USER_NOT_FOUND_BY_EMAIL = new BusinessException(ErrorCode.USER_NOT_FOUND, "가입 되지 않은 이메일입니다.");
@@ -15,6 +16,24 @@ public class BusinessException extends RuntimeException {
 	public static final BusinessException INVALID_REFRESH_TOKEN = new BusinessException(ErrorCode.INVALID_TOKEN, "Refresh Token 정보가 유효하지 않습니다.");
 	public static final BusinessException INVALID_ACCESS_TOKEN = new BusinessException(ErrorCode.INVALID_TOKEN, "Access Token 정보가 유효하지 않습니다.");
 	public static final BusinessException EXPIRED_REFRESH_TOKEN = new BusinessException(ErrorCode.INVALID_TOKEN, "Refresh Token이 만료되었습니다.");
+	public static final BusinessException MOVIE_NOT_FOUND = new BusinessException(ErrorCode.NOT_FOUND_RESOURCE, "존재하지 않는 영화입니다.");
+	public static final BusinessException INVALID_GRADE_SCORE = new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "평점은 1점부터 10점까지 줄 수 있습니다.");
+	public static final BusinessException SCREEN_NOT_FOUND = new BusinessException(ErrorCode.NOT_FOUND_RESOURCE, "존재하지 않는 상영관입니다.");
+	public static final BusinessException INVALID_SCHEDULE_PERIOD = new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "종료 날짜가 시작 날짜보다 빠릅니다.");
+	public static final BusinessException TOO_MANY_SCREENINGS = new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "한 번에 만들 수 있는 상영 수를 초과했습니다.");
+	public static final BusinessException SCREENING_OVERLAPPED = new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "같은 상영관에 상영 시간이 겹치는 상영이 있습니다.");
+	public static final BusinessException SCREENING_NOT_FOUND = new BusinessException(ErrorCode.NOT_FOUND_RESOURCE, "존재하지 않는 상영입니다.");
+	public static final BusinessException SCREENING_ALREADY_ENDED = new BusinessException(ErrorCode.SEAT_NOT_AVAILABLE, "이미 종료된 상영입니다.");
+	public static final BusinessException SEAT_NOT_FOUND = new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "상영관에 없는 좌석입니다.");
+	public static final BusinessException SEAT_ALREADY_RESERVED = new BusinessException(ErrorCode.SEAT_NOT_AVAILABLE, "이미 예약된 좌석입니다.");
+	public static final BusinessException SEAT_MAP_UNAVAILABLE = new BusinessException(ErrorCode.SEAT_NOT_AVAILABLE, "좌석 정보를 확인할 수 없는 상영입니다.");
+	public static final BusinessException SEAT_ALREADY_HELD = new BusinessException(ErrorCode.SEAT_NOT_AVAILABLE, "다른 사용자가 결제 중인 좌석입니다.");
+	public static final BusinessException SEAT_HOLD_EXPIRED = new BusinessException(ErrorCode.SEAT_NOT_AVAILABLE, "좌석 점유 시간이 지났습니다. 좌석을 다시 선택해 주세요.");
+	public static final BusinessException INVALID_SEAT_COUNT = new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "좌석 수가 올바르지 않습니다.");
+	public static final BusinessException CONTIGUOUS_SEATS_NOT_FOUND = new BusinessException(ErrorCode.SEAT_NOT_AVAILABLE, "나란히 예매할 수 있는 좌석이 없습니다.");
+	public static final BusinessException SEAT_UPDATE_CONFLICT = new BusinessException(ErrorCode.SERVER_BUSY, "좌석 변경 요청이 몰려 처리하지 못했습니다. 잠시 후 다시 시도해 주세요.");
+	public static final BusinessException TOO_MANY_REQUESTS = new BusinessException(ErrorCode.TOO_MANY_REQUESTS, "요청 횟수를 초과했습니다. 잠시 후 다시 시도해 주세요.");
+	public static final BusinessException SERVER_BUSY = new BusinessException(ErrorCode.SERVER_BUSY, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.");
 
 	private ErrorCode errorCode;
 
@@ -11,12 +11,15 @@ public enum ErrorCode {
 	UNSUPPORTED_MEDIA_TYPE(HttpStatus.UNSUPPORTED_MEDIA_TYPE, "COMMON-003", "지원하지 않는 Content Type으로 요청한 경우"),
 	ACCESS_DENIED(HttpStatus.FORBIDDEN, "COMMON-004", "접근이 거부된 경우"),
 	NOT_FOUND_RESOURCE(HttpStatus.NOT_FOUND, "COMMON-005", "해당 자원을 찾을 수 없는 경우"),
+	TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "COMMON-006", "짧은 시간에 너무 많이 요청한 경우"),
 	USER_NOT_FOUND(HttpStatus.BAD_REQUEST, "ACCOUNT-001", "사용자를 찾을 수 없는 경우"),
 	CAN_NOT_CREATE_USER(HttpStatus.BAD_REQUEST, "ACCOUNT-002", "해당 정보로 계정을 생성할 수 없는 경우"),
 	INVALID_TOKEN(HttpStatus.UNAUTHORIZED, "TOKEN-001", "비정상적인 토큰인 경우"),
+	SEAT_NOT_AVAILABLE(HttpStatus.CONFLICT, "SEAT-001", "선택한 좌석을 예약할 수 없는 경우"),
 
 	INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "SERVER-001", "서버에 내부적으로 문제가 생긴 경우"),
-	CAN_NOT_SEND_EMAIL(HttpStatus.INTERNAL_SERVER_ERROR, "SERVER-002", "메일 발송에 오류가 생긴 경우");
+	CAN_NOT_SEND_EMAIL(HttpStatus.INTERNAL_SERVER_ERROR, "SERVER-002", "메일 발송에 오류가 생긴 경우"),
+	SERVER_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "SERVER-003", "요청이 몰려 서버가 일시적으로 처리할 수 없는 경우");
 
 	private final HttpStatus httpStatus;
 	private final String errorType;
@@ -0,0 +1,26 @@
+package com.example.moviebox.jwt;
+
+import io.jsonwebtoken.Claims;
+import java.time.Instant;
+import lombok.*;
+
+// 인증에 필요한 Access Token 의 claim (바꿀 수 없으므로 캐시에서 여러 요청이 함께 써도 된다)
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class AccessTokenClaims {
+	private final String subject;
+	private final String authorities;	// 권한 claim 이 없는 토큰이면 null
+	private final boolean enabled;
+	private final Instant expiresAt;	// 만료 시간이 없는 토큰이면 null
+
+	static AccessTokenClaims from(Claims claims, String authoritiesKey, String enabledKey) {
+		return new AccessTokenClaims(claims.getSubject(),
+			claims.get(authoritiesKey, String.class),
+			Boolean.TRUE.equals(claims.get(enabledKey, Boolean.class)),
+			claims.getExpiration() == null ? null : claims.getExpiration().toInstant());
+	}
+
+	public boolean isExpired() {
+		return expiresAt != null && !expiresAt.isAfter(Instant.now());
+	}
+}
@@ -0,0 +1,82 @@
+package com.example.moviebox.jwt;
+
+import com.example.moviebox.user.domain.User;
+import com.example.moviebox.utils.HashUtils;
+import io.jsonwebtoken.*;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import java.nio.charset.StandardCharsets;
+import java.security.*;
+import java.util.Date;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// 이메일 인증 키 (회원 번호 + nonce + 만료 시각을 서명한 JWT)
+// 서명만 확인하면 회원 번호(PK)로 바로 조회할 수 있어 인증 키로 회원 테이블을 검색하지 않는다.
+// Access Token 으로 쓰이지 않도록 jwt.secret 에서 파생한 별도 키로 서명한다.
+@Slf4j
+@Component
+public class EmailAuthKeyProvider {
+	private static final String NONCE_KEY = "nonce";
+	private static final byte[] KEY_DERIVATION_LABEL = "moviebox-email-auth-key".getBytes(StandardCharsets.UTF_8);
+
+	private final Key signingKey;
+	private final JwtParser jwtParser;
+	private final long validTimeMillis;
+
+	public EmailAuthKeyProvider(@Value("${jwt.secret}") String secretKey,
+		@Value("${email-auth.valid-hours:24}") long validHours) {
+		this.signingKey = Keys.hmacShaKeyFor(deriveKey(Decoders.BASE64.decode(secretKey)));
+		this.jwtParser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+		this.validTimeMillis = validHours * 60 * 60 * 1000L;
+	}
+
+	// nonce: 회원에 저장된 emailAuthKey (재발급 시 값을 바꾸면 이전 키는 사용할 수 없다)
+	public String createKey(User user) {
+		Date now = new Date();
+		return Jwts.builder()
+			.setSubject(String.valueOf(user.getId()))
+			.claim(NONCE_KEY, user.getEmailAuthKey())
+			.setExpiration(new Date(now.getTime() + validTimeMillis))
+			.signWith(signingKey, SignatureAlgorithm.HS256)
+			.compact();
+	}
+
+	public JwtParseResult parse(String authKey) {
+		try {
+			return JwtParseResult.success(jwtParser.parseClaimsJws(authKey).getBody());
+		} catch (ExpiredJwtException e) {
+			return JwtParseResult.failure(JwtParseResult.Failure.EXPIRED);
+		} catch (JwtException | IllegalArgumentException e) {
+			log.info("Invalid email auth key");
+			return JwtParseResult.failure(JwtParseResult.Failure.INVALID);
+		}
+	}
+
+	public boolean matchesNonce(Claims claims, String emailAuthKey) {
+		String nonce = claims.get(NONCE_KEY, String.class);
+		if (nonce == null || emailAuthKey == null) {
+			return false;
+		}
+		return HashUtils.constantTimeEquals(
+			nonce.getBytes(StandardCharsets.UTF_8), emailAuthKey.getBytes(StandardCharsets.UTF_8));
+	}
+
+	// 서명 키 도입 이전에 발급된 UUID 형식의 인증 키 (JWT 는 '.' 으로 구분된 세 부분)
+	public static boolean isLegacyKey(String authKey) {
+		return authKey.indexOf('.') < 0;
+	}
+
+	private static byte[] deriveKey(byte[] secret) {
+		try {
+			Mac mac = Mac.getInstance("HmacSHA256");
+			mac.init(new SecretKeySpec(secret, "HmacSHA256"));
+			return mac.doFinal(KEY_DERIVATION_LABEL);
+		} catch (NoSuchAlgorithmException | InvalidKeyException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -1,14 +1,18 @@
 package com.example.moviebox.jwt;
 
 import java.io.IOException;
+import java.util.Optional;
 import javax.servlet.*;
 import javax.servlet.http.*;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.authentication.AccountStatusException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.GenericFilterBean;
 
+@Slf4j
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends GenericFilterBean {
 	private final JwtTokenProvider jwtProvider;
@@ -18,9 +22,16 @@ public class JwtAuthenticationFilter extends GenericFilterBean {
 		throws IOException, ServletException {
 		String token = resolveToken((HttpServletRequest) request);
 
-		if (token != null && jwtProvider.isValidateToken(token)) {
-			Authentication authentication = jwtProvider.getAuthentication(token);
-			SecurityContextHolder.getContext().setAuthentication(authentication);
+		if (token != null) {
+			Optional<AccessTokenClaims> claims = jwtProvider.parseAccessToken(token);
+			if (claims.isPresent()) {
+				try {
+					Authentication authentication = jwtProvider.getAuthentication(claims.get());
+					SecurityContextHolder.getContext().setAuthentication(authentication);
+				} catch (AccountStatusException e) {	// 비활성 계정의 토큰은 인증하지 않음
+					log.info("Rejected token of inactive account: {}", e.getMessage());
+				}
+			}
 		}
 
 		chain.doFilter(request, response);
@@ -0,0 +1,34 @@
+package com.example.moviebox.jwt;
+
+import io.jsonwebtoken.Claims;
+import lombok.*;
+
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class JwtParseResult {
+	private final Claims claims;
+	private final Failure failure;
+
+	public static JwtParseResult success(Claims claims) {
+		return new JwtParseResult(claims, null);
+	}
+
+	public static JwtParseResult failure(Failure failure) {
+		return new JwtParseResult(null, failure);
+	}
+
+	public boolean isValid() {
+		return failure == null;
+	}
+
+	@Getter
+	@RequiredArgsConstructor
+	public enum Failure {	// 토큰 검증 실패 사유
+		INVALID("Invalid JWT Token"),
+		EXPIRED("Expired JWT Token"),
+		UNSUPPORTED("Unsupported JWT Token"),
+		EMPTY("JWT claims string is empty.");
+
+		private final String message;
+	}
+}
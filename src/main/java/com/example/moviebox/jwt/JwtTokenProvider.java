@@ -1,56 +1,94 @@
 package com.example.moviebox.jwt;
 
 import com.example.moviebox.common.redis.RedisService;
+import com.example.moviebox.configuration.security.SecurityUser;
 import com.example.moviebox.jwt.dto.TokenDto;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 import java.security.Key;
 import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.*;
+import org.springframework.security.authentication.AccountStatusUserDetailsChecker;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.*;
 import org.springframework.stereotype.Component;
 
 @Slf4j
 @Component
 public class JwtTokenProvider {
+	private static final String AUTHORITIES_KEY = "auth";
+	private static final String ENABLED_KEY = "enabled";
+
 	private final UserDetailsService userDetailsService;
 	private final RedisService redisService;
+	private final VerifiedTokenCache verifiedTokenCache;
 
 	private long accessTokenValidTime = 30 * 60 * 1000L;	// Access Token: 30분간 토큰 유효
 	private long refreshTokenValidTime = 30 * 24 * 60 * 60 * 1000L;	// Refresh Token: 30일간 토큰 유효
 	private Key secretKey;
+	private final JwtParser jwtParser;	// 스레드 안전하므로 한 번만 생성해서 재사용
+	private final UserDetailsChecker userDetailsChecker = new AccountStatusUserDetailsChecker();
+
+	@Value("${jwt.stateless-authentication:false}")
+	private boolean statelessAuthentication;	// true: 토큰의 claim 만으로 인증 정보 생성 (요청마다 DB 조회 X)
 
 	public JwtTokenProvider(final UserDetailsService userDetailsService,
 		final RedisService redisService,
+		final VerifiedTokenCache verifiedTokenCache,
 		@Value("${jwt.secret}") String secretKey) {
 		this.userDetailsService = userDetailsService;
 		this.redisService = redisService;
+		this.verifiedTokenCache = verifiedTokenCache;
 
 		byte[] keyBytes = Decoders.BASE64.decode(secretKey);
 		this.secretKey = Keys.hmacShaKeyFor(keyBytes);
+		this.jwtParser = Jwts.parserBuilder().setSigningKey(this.secretKey).build();
+	}
+
+	// JWT Access Token + Refresh Token 생성 후 Refresh Token 저장
+	public TokenDto generateAccessTokenAndRefreshToken(UserDetails userDetails) {
+		TokenDto tokenDto = createAccessTokenAndRefreshToken(userDetails);
+		redisService.setRefreshTokenValue(Long.parseLong(userDetails.getUsername()), tokenDto.getRefreshToken());
+		return tokenDto;
+	}
+
+	// JWT Access Token + Refresh Token 생성 (저장 X, 회원 정보는 DB에서 조회)
+	public TokenDto createAccessTokenAndRefreshToken(Long userId) {
+		return createAccessTokenAndRefreshToken(userDetailsService.loadUserByUsername(String.valueOf(userId)));
 	}
 
-	// JWT Access Token + Refresh Token 생성
-	public TokenDto generateAccessTokenAndRefreshToken(Long userId) {
+	// JWT Access Token + Refresh Token 생성 (저장 X)
+	private TokenDto createAccessTokenAndRefreshToken(UserDetails userDetails) {
+		long userId = Long.parseLong(userDetails.getUsername());
+		String authorities = userDetails.getAuthorities().stream()
+			.map(GrantedAuthority::getAuthority)
+			.collect(Collectors.joining(","));
+
 		Date now = new Date();
 		Date accessTokenExpiresIn = new Date(now.getTime() + accessTokenValidTime);
 		String accessToken = Jwts.builder()
 			.setSubject(String.valueOf(userId))
+			.claim(AUTHORITIES_KEY, authorities)
+			.claim(ENABLED_KEY, userDetails.isEnabled())
 			.setIssuedAt(now)
 			.setExpiration(accessTokenExpiresIn)
 			.signWith(secretKey, SignatureAlgorithm.HS256)
 			.compact();
 
+		// 같은 초에 발급해도 서로 다른 토큰이 되도록 임의의 jti 를 담는다. (exp 는 초 단위)
 		Date refreshTokenExpiresIn = new Date(now.getTime() + refreshTokenValidTime);
 		String refreshToken =  Jwts.builder()
+			.setId(UUID.randomUUID().toString())
 			.setExpiration(refreshTokenExpiresIn)
 			.signWith(secretKey, SignatureAlgorithm.HS256)
 			.compact();
-		redisService.setRefreshTokenValue(userId, refreshToken);
 
 		return TokenDto.builder()
 			.grantType("Bearer")
@@ -61,29 +99,64 @@ public class JwtTokenProvider {
 
 	// JWT 토큰에서 인증 정보 조회
 	public Authentication getAuthentication(String accessToken) {
-		UserDetails userDetails = userDetailsService.loadUserByUsername(this.getUserId(accessToken));
+		return getAuthentication(toAccessTokenClaims(jwtParser.parseClaimsJws(accessToken).getBody()));
+	}
+
+	// 검증이 끝난 claim 에서 인증 정보 조회 (stateless 모드에서 비활성 계정의 토큰이면 DisabledException)
+	public Authentication getAuthentication(AccessTokenClaims claims) {
+		UserDetails userDetails;
+		if (statelessAuthentication && claims.getAuthorities() != null) {
+			userDetails = new SecurityUser(claims.getSubject(), claims.getAuthorities(), claims.isEnabled());
+			userDetailsChecker.check(userDetails);
+		} else {
+			userDetails = userDetailsService.loadUserByUsername(claims.getSubject());
+		}
 		return new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
 	}
 
-	// JWT 토큰에서 회원 구별 정보 추출
-	private String getUserId(String token) {
-		return Jwts.parserBuilder().setSigningKey(secretKey).build().parseClaimsJws(token).getBody().getSubject();
+	// 요청 인증용 Access Token 검증 (이미 검증된 토큰은 캐시에서 조회, 검증에 실패했거나 회원 번호가 없는 토큰이면 empty)
+	// Refresh Token 처럼 요청 인증에 쓰지 않는 토큰은 parseToken 으로 검증하고 캐시하지 않는다.
+	public Optional<AccessTokenClaims> parseAccessToken(String token) {
+		AccessTokenClaims cachedClaims = verifiedTokenCache.get(token);
+		if (cachedClaims != null) {
+			return Optional.of(cachedClaims);
+		}
+
+		JwtParseResult parseResult = parseToken(token);
+		if (!parseResult.isValid() || parseResult.getClaims().getSubject() == null) {
+			return Optional.empty();
+		}
+		AccessTokenClaims claims = toAccessTokenClaims(parseResult.getClaims());
+		verifiedTokenCache.put(token, claims);
+		return Optional.of(claims);
 	}
 
-	// JWT 토큰 검증
-	public boolean isValidateToken(String token) {
+	// JWT 토큰 검증 + 파싱을 한 번에 수행
+	public JwtParseResult parseToken(String token) {
 		try {
-			Jwts.parserBuilder().setSigningKey(secretKey).build().parseClaimsJws(token).getBody();
-			return true;
+			return JwtParseResult.success(jwtParser.parseClaimsJws(token).getBody());
 		} catch (io.jsonwebtoken.security.SecurityException | MalformedJwtException e) {
-			log.info("Invalid JWT Token");
+			return failure(JwtParseResult.Failure.INVALID);
 		} catch (ExpiredJwtException e) {
-			log.info("Expired JWT Token");
+			return failure(JwtParseResult.Failure.EXPIRED);
 		} catch (UnsupportedJwtException e) {
-			log.info("Unsupported JWT Token");
+			return failure(JwtParseResult.Failure.UNSUPPORTED);
 		} catch (IllegalArgumentException e) {
-			log.info("JWT claims string is empty.");
+			return failure(JwtParseResult.Failure.EMPTY);
 		}
-		return false;
+	}
+
+	private static AccessTokenClaims toAccessTokenClaims(Claims claims) {
+		return AccessTokenClaims.from(claims, AUTHORITIES_KEY, ENABLED_KEY);
+	}
+
+	private JwtParseResult failure(JwtParseResult.Failure failure) {
+		log.info(failure.getMessage());
+		return JwtParseResult.failure(failure);
+	}
+
+	// JWT 토큰 검증
+	public boolean isValidateToken(String token) {
+		return parseToken(token).isValid();
 	}
 }
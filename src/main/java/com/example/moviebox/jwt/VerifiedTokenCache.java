@@ -0,0 +1,64 @@
+package com.example.moviebox.jwt;
+
+import com.example.moviebox.utils.HashUtils;
+import com.github.benmanes.caffeine.cache.*;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// 서명 검증이 끝난 Access Token 의 claim 캐시 (요청 인증에 쓰는 토큰만 저장 - JwtTokenProvider.parseAccessToken)
+// key는 토큰 문자열의 SHA-256 digest, 각 항목은 토큰 자체의 만료 시간(exp)까지만 유지된다.
+@Component
+public class VerifiedTokenCache {
+	private final Cache<ByteBuffer, AccessTokenClaims> cache;	// maximumSize가 0 이하면 캐시 사용 X
+
+	public VerifiedTokenCache(@Value("${jwt.verified-token-cache.maximum-size:10000}") long maximumSize) {
+		this.cache = maximumSize <= 0 ? null : Caffeine.newBuilder()
+			.maximumSize(maximumSize)
+			.expireAfter(new UntilTokenExpiration())
+			.build();
+	}
+
+	public AccessTokenClaims get(String token) {
+		if (cache == null || token == null) {
+			return null;
+		}
+
+		AccessTokenClaims claims = cache.getIfPresent(digest(token));
+		if (claims == null || claims.isExpired()) {
+			return null;
+		}
+		return claims;
+	}
+
+	public void put(String token, AccessTokenClaims claims) {
+		if (cache == null || claims.getExpiresAt() == null || claims.isExpired()) {
+			return;
+		}
+		cache.put(digest(token), claims);
+	}
+
+	private static ByteBuffer digest(String token) {
+		return ByteBuffer.wrap(HashUtils.sha256(token));
+	}
+
+	private static class UntilTokenExpiration implements Expiry<ByteBuffer, AccessTokenClaims> {
+		@Override
+		public long expireAfterCreate(ByteBuffer key, AccessTokenClaims claims, long currentTime) {
+			long remainingMillis = claims.getExpiresAt().toEpochMilli() - Instant.now().toEpochMilli();
+			return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+		}
+
+		@Override
+		public long expireAfterUpdate(ByteBuffer key, AccessTokenClaims claims, long currentTime, long currentDuration) {
+			return expireAfterCreate(key, claims, currentTime);
+		}
+
+		@Override
+		public long expireAfterRead(ByteBuffer key, AccessTokenClaims claims, long currentTime, long currentDuration) {
+			return currentDuration;
+		}
+	}
+}
@@ -1,11 +1,11 @@
 package com.example.moviebox.jwt.service;
 
+import com.example.moviebox.common.ratelimit.*;
 import com.example.moviebox.common.redis.RedisService;
 import com.example.moviebox.exception.BusinessException;
-import com.example.moviebox.jwt.JwtTokenProvider;
+import com.example.moviebox.jwt.*;
 import com.example.moviebox.jwt.dto.*;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
 
 @RequiredArgsConstructor
@@ -13,27 +13,29 @@ import org.springframework.stereotype.Service;
 public class TokenService {
 	private final JwtTokenProvider jwtProvider;
 	private final RedisService redisService;
+	private final RateLimiter rateLimiter;
 
 	public TokenDto reissue(String accessToken, String refreshToken) {
 		Long userId = validateTokenAndGetUserId(accessToken, refreshToken);
-		return jwtProvider.generateAccessTokenAndRefreshToken(userId);
+		rateLimiter.acquire(RateLimitType.ACCOUNT, "reissue:" + userId);
+		TokenDto tokenDto = jwtProvider.createAccessTokenAndRefreshToken(userId);
+
+		// 저장된 Refresh Token이 요청한 토큰과 같을 때만 교체되므로, 같은 토큰으로 동시에 재발급하면 하나만 성공한다.
+		if (!redisService.rotateRefreshTokenValue(userId, refreshToken, tokenDto.getRefreshToken())) {
+			throw BusinessException.EXPIRED_REFRESH_TOKEN;
+		}
+		return tokenDto;
 	}
 
 	private Long validateTokenAndGetUserId(String accessToken, String refreshToken) {
-		if (!jwtProvider.isValidateToken(accessToken)) {
+		JwtParseResult accessTokenResult = jwtProvider.parseToken(accessToken);
+		if (!accessTokenResult.isValid()) {
 			throw BusinessException.INVALID_ACCESS_TOKEN;
 		}
-		if (!jwtProvider.isValidateToken(refreshToken)) {
+		if (!jwtProvider.parseToken(refreshToken).isValid()) {
 			throw BusinessException.INVALID_REFRESH_TOKEN;
 		}
 
-		Authentication authentication = jwtProvider.getAuthentication(accessToken);
-		long userId = Long.parseLong(authentication.getName());
-		String refreshTokenInDatabase = redisService.getRefreshTokenValue(userId);
-		if (refreshTokenInDatabase == null || !refreshTokenInDatabase.equals(refreshToken)) {
-			throw BusinessException.EXPIRED_REFRESH_TOKEN;
-		}
-
-		return Long.parseLong(authentication.getName());
+		return Long.parseLong(accessTokenResult.getClaims().getSubject());
 	}
 }
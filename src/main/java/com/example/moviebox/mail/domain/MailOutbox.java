@@ -0,0 +1,80 @@
+package com.example.moviebox.mail.domain;
+
+import com.example.moviebox.common.entity.BaseTimeEntity;
+import com.example.moviebox.utils.MailMessage;
+import java.time.LocalDateTime;
+import javax.persistence.*;
+import lombok.*;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(indexes = @Index(name = "idx_mail_outbox_status_available_at", columnList = "status, availableAt"))
+public class MailOutbox extends BaseTimeEntity {
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private long id;
+
+	@Column(nullable = false)
+	private String recipient;
+	@Column(nullable = false)
+	private String subject;
+	@Column(columnDefinition = "longtext", nullable = false)
+	private String text;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false)
+	private MailOutboxStatus status;
+	private int attempts;
+	@Column(nullable = false)
+	private LocalDateTime availableAt;	// 이 시각 이후에 선점 가능 (PENDING: 재시도 시각, SENDING: lease 만료 시각)
+	private String leaseToken;	// 선점할 때마다 새로 발급 - lease 가 만료되어 다른 노드가 다시 선점하면 이전 노드의 결과는 반영하지 않는다.
+	private LocalDateTime sentAt;
+
+	public static MailOutbox create(MailMessage message) {
+		return MailOutbox.builder()
+			.recipient(message.getTo())
+			.subject(message.getSubject())
+			.text(message.getText())
+			.status(MailOutboxStatus.PENDING)
+			.availableAt(LocalDateTime.now())
+			.build();
+	}
+
+	public MailMessage toMailMessage() {
+		return new MailMessage(recipient, subject, text);
+	}
+
+	public void claim(String leaseToken, LocalDateTime leaseExpiresAt) {
+		status = MailOutboxStatus.SENDING;
+		availableAt = leaseExpiresAt;
+		this.leaseToken = leaseToken;
+	}
+
+	public void completeSending() {
+		status = MailOutboxStatus.SENT;
+		sentAt = LocalDateTime.now();
+		leaseToken = null;
+	}
+
+	public void release(LocalDateTime nextAvailableAt) {
+		status = MailOutboxStatus.PENDING;
+		availableAt = nextAvailableAt;
+		leaseToken = null;
+	}
+
+	public void failSending(int maxAttempts, LocalDateTime nextAvailableAt) {
+		attempts++;
+		if (attempts >= maxAttempts) {
+			status = MailOutboxStatus.FAILED;
+			return;
+		}
+		release(nextAvailableAt);
+	}
+
+	public boolean isLeasedBy(String leaseToken) {
+		return status == MailOutboxStatus.SENDING && leaseToken != null && leaseToken.equals(this.leaseToken);
+	}
+}
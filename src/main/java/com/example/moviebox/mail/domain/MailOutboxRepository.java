@@ -0,0 +1,24 @@
+package com.example.moviebox.mail.domain;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+
+public interface MailOutboxRepository extends JpaRepository<MailOutbox, Long> {
+
+	// SELECT ... FOR UPDATE SKIP LOCKED (lock.timeout = -2) - 다른 노드가 선점 중인 행은 기다리지 않고 건너뛴다.
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@QueryHints(@QueryHint(name = "javax.persistence.lock.timeout", value = "-2"))
+	@Query("select m from MailOutbox m where m.status in :statuses and m.availableAt <= :now order by m.id")
+	List<MailOutbox> findClaimable(@Param("statuses") Collection<MailOutboxStatus> statuses,
+		@Param("now") LocalDateTime now, Pageable pageable);
+
+	// 발송 결과 반영 - 같은 행을 다시 선점하는 노드와 겹치지 않도록 잠근 뒤 lease 를 확인한다.
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("select m from MailOutbox m where m.id = :id")
+	Optional<MailOutbox> findByIdForUpdate(@Param("id") long id);
+}
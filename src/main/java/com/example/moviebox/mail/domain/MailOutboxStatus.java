@@ -0,0 +1,8 @@
+package com.example.moviebox.mail.domain;
+
+public enum MailOutboxStatus {
+	PENDING,	// 발송 대기
+	SENDING,	// 발송 노드가 선점 (lease 만료 시 다시 선점 가능)
+	SENT,
+	FAILED
+}
@@ -0,0 +1,37 @@
+package com.example.moviebox.mail.service;
+
+import com.example.moviebox.mail.domain.MailOutbox;
+import com.example.moviebox.utils.MailDispatcher;
+import java.util.concurrent.*;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// outbox 에 쌓인 메일을 주기적으로 선점해 발송 (여러 노드가 동시에 실행해도 같은 행을 중복 선점하지 않음)
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class MailOutboxRelay {
+	private final MailOutboxService mailOutboxService;
+	private final MailDispatcher mailDispatcher;
+
+	@Scheduled(fixedDelayString = "${mail.outbox.poll-interval-millis:1000}")
+	public void relay() {
+		for (MailOutbox mail : mailOutboxService.claim()) {
+			long id = mail.getId();
+			String leaseToken = mail.getLeaseToken();
+			mailDispatcher.dispatch(mail.toMailMessage())
+				.whenComplete((result, e) -> {
+					if (e == null) {
+						mailOutboxService.complete(id, leaseToken);
+					} else if (e instanceof RejectedExecutionException) {
+						mailOutboxService.release(id, leaseToken);
+					} else {
+						log.warn("Mail outbox send failed. id={}", id);
+						mailOutboxService.fail(id, leaseToken);
+					}
+				});
+		}
+	}
+}
@@ -0,0 +1,69 @@
+package com.example.moviebox.mail.service;
+
+import com.example.moviebox.mail.domain.*;
+import com.example.moviebox.utils.MailMessage;
+import java.time.LocalDateTime;
+import java.util.*;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.*;
+
+@RequiredArgsConstructor
+@Service
+public class MailOutboxService {
+	private static final List<MailOutboxStatus> CLAIMABLE_STATUSES =
+		List.of(MailOutboxStatus.PENDING, MailOutboxStatus.SENDING);
+
+	private final MailOutboxRepository mailOutboxRepository;
+
+	@Value("${mail.outbox.batch-size:100}")
+	private int batchSize;
+	@Value("${mail.outbox.lease-seconds:300}")
+	private long leaseSeconds;
+	@Value("${mail.outbox.max-attempts:5}")
+	private int maxAttempts;
+	@Value("${mail.outbox.retry-delay-seconds:60}")
+	private long retryDelaySeconds;
+
+	// 호출한 트랜잭션과 함께 커밋/롤백
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void save(MailMessage message) {
+		mailOutboxRepository.save(MailOutbox.create(message));
+	}
+
+	// 선점한 행은 lease 동안 다른 노드가 가져가지 않는다. (커밋 시점에 SENDING 으로 변경)
+	// 발송 결과는 선점할 때 발급한 leaseToken 으로 반영한다.
+	@Transactional
+	public List<MailOutbox> claim() {
+		LocalDateTime now = LocalDateTime.now();
+		String leaseToken = UUID.randomUUID().toString();
+		List<MailOutbox> mails = mailOutboxRepository.findClaimable(CLAIMABLE_STATUSES, now, PageRequest.of(0, batchSize));
+		mails.forEach(mail -> mail.claim(leaseToken, now.plusSeconds(leaseSeconds)));
+		return mails;
+	}
+
+	@Transactional
+	public void complete(long id, String leaseToken) {
+		findLeased(id, leaseToken).ifPresent(MailOutbox::completeSending);
+	}
+
+	// 발송 큐가 가득 차 발송하지 못한 경우 - 시도 횟수에 포함하지 않고 다음 주기에 다시 선점
+	@Transactional
+	public void release(long id, String leaseToken) {
+		findLeased(id, leaseToken).ifPresent(mail -> mail.release(LocalDateTime.now()));
+	}
+
+	@Transactional
+	public void fail(long id, String leaseToken) {
+		findLeased(id, leaseToken)
+			.ifPresent(mail -> mail.failSending(maxAttempts, LocalDateTime.now().plusSeconds(retryDelaySeconds)));
+	}
+
+	// lease 가 만료되어 다른 노드가 다시 선점했거나 이미 처리된 메일이면 empty
+	private Optional<MailOutbox> findLeased(long id, String leaseToken) {
+		return mailOutboxRepository.findByIdForUpdate(id)
+			.filter(mail -> mail.isLeasedBy(leaseToken));
+	}
+}
@@ -0,0 +1,31 @@
+package com.example.moviebox.movie.controller;
+
+import com.example.moviebox.common.dto.ApiResponse;
+import com.example.moviebox.movie.dto.MovieGrade;
+import com.example.moviebox.movie.service.MovieGradeService;
+import javax.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.*;
+
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/api/movies")
+public class MovieController {
+	private final MovieGradeService movieGradeService;
+
+	@ResponseStatus(HttpStatus.CREATED)
+	@PostMapping("/{movieId}/grades")
+	public ApiResponse<?> addGrade(@PathVariable long movieId, @AuthenticationPrincipal UserDetails user,
+		@RequestBody @Valid MovieGrade.Request request) {
+		movieGradeService.addGrade(movieId, Long.parseLong(user.getUsername()), request.getScore());
+		return ApiResponse.success();
+	}
+
+	@GetMapping("/{movieId}/grade")
+	public ApiResponse<MovieGrade.Response> getGrade(@PathVariable long movieId) {
+		return ApiResponse.success(new MovieGrade.Response(movieId, movieGradeService.getGrade(movieId)));
+	}
+}
@@ -28,5 +28,12 @@ public class Movie extends BaseTimeEntity {
 
 	private int audience = 0;
 	private float grade;
-	private LocalDateTime gradeUpdatedAt;
+	private long gradeSum;	// 평점 합계/개수 (MovieGradeService 가 저장) - 평균을 이어서 계산하는 기준
+	private int gradeCount;
+	private LocalDateTime gradeUpdatedAt;	// null 이면서 grade 가 있으면 합계/개수 없이 저장된 평점
+
+	// 합계/개수 없이 저장된 평점 - 새 평점을 남기면 평점 하나로 보고 이어서 센다. (MovieGradeService)
+	public boolean hasLegacyGrade() {
+		return gradeUpdatedAt == null && grade != 0;
+	}
 }
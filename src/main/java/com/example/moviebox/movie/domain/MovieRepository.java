@@ -1,7 +1,10 @@
 package com.example.moviebox.movie.domain;
 
-import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 
 public interface MovieRepository extends JpaRepository<Movie, Long> {
-
+	@Modifying
+	@Query("update Movie m set m.audience = m.audience + :count where m.id = :id")
+	int increaseAudience(@Param("id") long id, @Param("count") int count);
 }
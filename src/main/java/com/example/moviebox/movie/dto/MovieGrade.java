@@ -0,0 +1,22 @@
+package com.example.moviebox.movie.dto;
+
+import javax.validation.constraints.NotNull;
+import lombok.*;
+
+public class MovieGrade {
+	@Getter
+	@AllArgsConstructor
+	@NoArgsConstructor(access = AccessLevel.PROTECTED)
+	public static class Request {
+		@NotNull(message = "평점을 입력해주세요.")
+		private Integer score;	// 1 ~ 10
+	}
+
+	@Getter
+	@AllArgsConstructor
+	@NoArgsConstructor(access = AccessLevel.PROTECTED)
+	public static class Response {
+		private long movieId;
+		private float grade;
+	}
+}
@@ -0,0 +1,37 @@
+package com.example.moviebox.movie.service;
+
+import java.time.LocalDateTime;
+import java.util.OptionalLong;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 종료된 상영의 예약 좌석 수를 영화 관객 수에 반영
+// 상영 번호 순(keyset)으로 chunk 단위 트랜잭션을 이어가며, 반영 여부가 DB 에 남으므로 중간에 멈춰도 다음 실행에서 이어서 처리한다.
+// 좌석 선점 write-behind 가 끝나도록 종료 후 grace-minutes 가 지난 상영만 반영한다.
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class AudienceRollupJob {
+	private final AudienceRollupService audienceRollupService;
+
+	@Value("${audience.rollup.grace-minutes:10}")
+	private long graceMinutes;
+
+	@Scheduled(fixedDelayString = "${audience.rollup.interval-millis:60000}")
+	public void rollUp() {
+		LocalDateTime endedBefore = LocalDateTime.now().minusMinutes(graceMinutes);
+		long lastId = 0;
+		int chunks = 0;
+		OptionalLong chunkLastId;
+		while ((chunkLastId = audienceRollupService.rollUpChunk(endedBefore, lastId)).isPresent()) {
+			lastId = chunkLastId.getAsLong();
+			chunks++;
+		}
+		if (chunks > 0) {
+			log.info("Audience roll-up finished. chunks={}, lastScreeningId={}", chunks, lastId);
+		}
+	}
+}
@@ -0,0 +1,51 @@
+package com.example.moviebox.movie.service;
+
+import com.example.moviebox.movie.domain.MovieRepository;
+import com.example.moviebox.screening.domain.*;
+import java.time.LocalDateTime;
+import java.util.*;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class AudienceRollupService {
+	private final ScreeningRepository screeningRepository;
+	private final MovieRepository movieRepository;
+
+	@Value("${audience.rollup.chunk-size:500}")
+	private int chunkSize;
+
+	// lastId 다음 상영부터 chunk-size 개를 관객 수에 반영하고 마지막 상영 번호 반환 (반영할 상영이 없으면 empty)
+	// 예약 좌석 수 합계를 영화별로 한 번씩 더하고, 같은 트랜잭션에서 반영 여부를 표시한다.
+	@Transactional
+	public OptionalLong rollUpChunk(LocalDateTime endedBefore, long lastId) {
+		List<ScreeningAudience> screenings = screeningRepository.findUnreflectedAudiences(endedBefore, lastId,
+			PageRequest.of(0, chunkSize));
+		if (screenings.isEmpty()) {
+			return OptionalLong.empty();
+		}
+
+		Map<Long, Integer> audiences = new TreeMap<>();	// 여러 노드가 같은 영화를 갱신할 때 잠금 순서를 맞추기 위해 정렬
+		List<Long> screeningIds = new ArrayList<>(screenings.size());
+		for (ScreeningAudience screening : screenings) {
+			int audience = screening.getSeatMap() == null ? 0 : screening.getSeatMap().countReserved();
+			audiences.merge(screening.getMovieId(), audience, Integer::sum);
+			screeningIds.add(screening.getId());
+		}
+		audiences.forEach((movieId, audience) -> {
+			if (audience > 0) {
+				movieRepository.increaseAudience(movieId, audience);
+			}
+		});
+		screeningRepository.markReflectedInAudience(screeningIds);
+
+		log.debug("Audience rolled up. screenings={}, movies={}", screeningIds.size(), audiences.size());
+		return OptionalLong.of(screeningIds.get(screeningIds.size() - 1));
+	}
+}
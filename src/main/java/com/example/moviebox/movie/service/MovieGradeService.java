@@ -0,0 +1,152 @@
+package com.example.moviebox.movie.service;
+
+import com.example.moviebox.exception.BusinessException;
+import com.example.moviebox.movie.domain.*;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+// 영화 평점 - 점수 합계/개수를 Redis 에 누적하고, 바뀐 영화의 평균만 주기적으로 DB(movie.grade)에 한 번의 batch update 로 저장한다.
+// 평점을 남길 때마다 movie 행을 갱신하지 않으므로 인기 영화의 행에 쓰기가 몰리지 않는다.
+// Redis 에 합계/개수가 없는 영화는 처음 평점을 남길 때 DB 에 저장된 합계/개수(grade_sum, grade_count)에서 이어서 센다.
+// 합계/개수 없이 저장된 평점(Movie.hasLegacyGrade)은 평점 하나(반올림한 점수, 개수 1)로 보고 이어서 센다.
+// 회원당 평점은 하나 - 다시 남기면 개수는 그대로 두고 합계만 이전 점수와의 차이만큼 바꾼다.
+// MG:{movieId} - hash (sum, count), MG:{movieId}:users - hash (회원 번호 -> 점수), MG:dirty - 마지막 저장 이후 평점이 바뀐 영화 번호
+@Slf4j
+@Service
+public class MovieGradeService {
+	public static final int MIN_SCORE = 1;
+	public static final int MAX_SCORE = 10;
+
+	private static final String KEY_PREFIX = "MG:";
+	private static final String USERS_KEY_SUFFIX = ":users";
+	private static final String DIRTY_KEY = "MG:dirty";
+
+	// 합계/개수를 아직 불러오지 않은 영화면 -1
+	// ARGV: 점수, 영화 번호, 회원 번호
+	private static final RedisScript<Long> ADD_SCRIPT = new DefaultRedisScript<>(
+		"if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end "
+			+ "local previous = redis.call('HGET', KEYS[3], ARGV[3]) "
+			+ "redis.call('HSET', KEYS[3], ARGV[3], ARGV[1]) "
+			+ "local count "
+			+ "if previous then "
+			+ "redis.call('HINCRBY', KEYS[1], 'sum', tonumber(ARGV[1]) - tonumber(previous)) "
+			+ "count = tonumber(redis.call('HGET', KEYS[1], 'count')) "
+			+ "else "
+			+ "redis.call('HINCRBY', KEYS[1], 'sum', ARGV[1]) "
+			+ "count = redis.call('HINCRBY', KEYS[1], 'count', 1) "
+			+ "end "
+			+ "redis.call('SADD', KEYS[2], ARGV[2]) "
+			+ "return count", Long.class);
+
+	// 다른 요청이 먼저 불러왔으면 그대로 둔다.
+	// ARGV: 합계, 개수
+	private static final RedisScript<Long> SEED_SCRIPT = new DefaultRedisScript<>(
+		"if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end "
+			+ "redis.call('HSET', KEYS[1], 'sum', ARGV[1]) "
+			+ "redis.call('HSET', KEYS[1], 'count', ARGV[2]) "
+			+ "return 1", Long.class);
+
+	@SuppressWarnings("rawtypes")
+	private static final RedisScript<List> GET_SCRIPT = new DefaultRedisScript<>(
+		"return redis.call('HMGET', KEYS[1], 'sum', 'count')", List.class);
+
+	// 개수가 줄어드는 저장(이미 더 많이 센 값이 저장된 경우)은 무시한다.
+	private static final String FLUSH_SQL = "update movie set grade_sum = ?, grade_count = ?, grade_updated_at = ?,"
+		+ " grade = ? where id = ? and grade_count <= ?";
+
+	// 바뀐 영화 목록을 비우면서 [영화 번호, sum, count, ...] 반환 (여러 노드가 동시에 실행해도 한 노드만 가져간다)
+	// ARGV: 영화 key prefix
+	@SuppressWarnings("rawtypes")
+	private static final RedisScript<List> DRAIN_SCRIPT = new DefaultRedisScript<>(
+		"local ids = redis.call('SMEMBERS', KEYS[1]) "
+			+ "redis.call('DEL', KEYS[1]) "
+			+ "local result = {} "
+			+ "for i = 1, #ids do "
+			+ "local counter = redis.call('HMGET', ARGV[1] .. ids[i], 'sum', 'count') "
+			+ "result[#result + 1] = ids[i] "
+			+ "result[#result + 1] = counter[1] or '0' "
+			+ "result[#result + 1] = counter[2] or '0' "
+			+ "end "
+			+ "return result", List.class);
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final MovieRepository movieRepository;
+	private final JdbcTemplate jdbcTemplate;
+
+	public MovieGradeService(@Qualifier("redisTemplate") final RedisTemplate<String, String> redisTemplate,
+		final MovieRepository movieRepository, final JdbcTemplate jdbcTemplate) {
+		this.redisTemplate = redisTemplate;
+		this.movieRepository = movieRepository;
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	public void addGrade(long movieId, long userId, int score) {
+		if (score < MIN_SCORE || score > MAX_SCORE) {
+			throw BusinessException.INVALID_GRADE_SCORE;
+		}
+		List<String> keys = List.of(KEY_PREFIX + movieId, DIRTY_KEY, KEY_PREFIX + movieId + USERS_KEY_SUFFIX);
+		Object[] args = {String.valueOf(score), String.valueOf(movieId), String.valueOf(userId)};
+		Long count = redisTemplate.execute(ADD_SCRIPT, keys, args);
+		if (count != null && count < 0) {	// 없는 영화도 여기서 걸러진다.
+			Movie movie = movieRepository.findById(movieId)
+				.orElseThrow(() -> BusinessException.MOVIE_NOT_FOUND);
+			long sum = movie.getGradeSum();
+			long gradeCount = movie.getGradeCount();
+			if (movie.hasLegacyGrade()) {
+				sum = Math.round(movie.getGrade());
+				gradeCount = 1;
+			}
+			redisTemplate.execute(SEED_SCRIPT, List.of(KEY_PREFIX + movieId), String.valueOf(sum),
+				String.valueOf(gradeCount));
+			redisTemplate.execute(ADD_SCRIPT, keys, args);
+		}
+	}
+
+	// Redis 의 합계/개수로 계산 (평점이 바뀐 적 없으면 DB 에 저장된 값)
+	public float getGrade(long movieId) {
+		List<?> counter = redisTemplate.execute(GET_SCRIPT, List.of(KEY_PREFIX + movieId));
+		if (counter != null && counter.size() == 2 && counter.get(0) != null && counter.get(1) != null) {
+			return average(Long.parseLong(counter.get(0).toString()), Long.parseLong(counter.get(1).toString()));
+		}
+		return movieRepository.findById(movieId)
+			.map(Movie::getGrade)
+			.orElseThrow(() -> BusinessException.MOVIE_NOT_FOUND);
+	}
+
+	@Scheduled(fixedDelayString = "${movie.grade.flush-interval-millis:10000}")
+	public void flush() {
+		List<?> drained = redisTemplate.execute(DRAIN_SCRIPT, List.of(DIRTY_KEY), KEY_PREFIX);
+		if (drained == null || drained.isEmpty()) {
+			return;
+		}
+
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		List<Object[]> updates = new ArrayList<>(drained.size() / 3);
+		for (int i = 0; i + 2 < drained.size(); i += 3) {
+			long sum = Long.parseLong(drained.get(i + 1).toString());
+			long count = Long.parseLong(drained.get(i + 2).toString());
+			if (count > 0) {
+				updates.add(new Object[] {sum, count, now, average(sum, count), Long.parseLong(drained.get(i).toString()), count});
+			}
+		}
+		try {
+			jdbcTemplate.batchUpdate(FLUSH_SQL, updates);
+		} catch (RuntimeException e) {	// 다음 주기에 다시 저장 (평균은 누적 값으로 다시 계산하므로 중복 반영되지 않음)
+			log.warn("Movie grade flush failed. movies={}", updates.size(), e);
+			String[] movieIds = updates.stream().map(update -> update[4].toString()).toArray(String[]::new);
+			redisTemplate.opsForSet().add(DIRTY_KEY, movieIds);
+		}
+	}
+
+	private static float average(long sum, long count) {
+		return count == 0 ? 0 : (float)sum / count;
+	}
+}
@@ -21,7 +21,7 @@ public class Screen {
 	private String name;
 
 	@Column(nullable = false)
-	private String seats;
+	private String seats;	// 좌석 배치 (형식은 SeatLayout 참고)
 	@Column(nullable = false)
 	private int totalSeats;
 
@@ -35,4 +35,11 @@ public class Screen {
 
 	@OneToMany(mappedBy = "screen")
 	private List<Screening> screenings;
+
+	// 새 상영관의 배치 검사 (seats 를 바꾸는 메서드는 없으므로 처음 저장할 때만 확인)
+	// 배치는 SeatLayoutCache 로 조회한다.
+	@PrePersist
+	void validateSeats() {
+		SeatLayout.validate(seats);
+	}
 }
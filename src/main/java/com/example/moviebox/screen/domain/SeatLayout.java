@@ -0,0 +1,170 @@
+package com.example.moviebox.screen.domain;
+
+import java.util.*;
+
+// 상영관 좌석 배치 (Screen.seats) - 한 번 만들면 바뀌지 않음 (SeatLayoutCache 에서 상영관별로 재사용)
+// 형식: "A:4_8_4,B:16" - 열 이름 ':' 통로로 나뉜 구역별 좌석 수('_' 구분), 열은 ',' 로 구분
+// 좌석 이름은 열 이름 + 열 안의 번호(1부터) 이며, 좌석 번호(ordinal)는 앞 열부터 0, 1, 2 ... 순서로 매긴다.
+// 열 이름이 겹치거나 숫자로 끝나면 좌석 이름만으로 열을 가를 수 없다. 새 배치는 validate 로 거절하고,
+// 이미 저장된 배치는 예전처럼 좌석 이름 -> 좌석 번호 map 으로 찾는다. (같은 이름이면 뒤의 좌석)
+public class SeatLayout {
+	private final String[] rowNames;
+	private final Map<String, Integer> rowIndexes;
+	private final Map<String, Integer> legacyOrdinals;	// 열 이름이 모호한 배치에서만 사용
+	private final int[] rowFirstOrdinals;	// 열 r 의 좌석 번호: rowFirstOrdinals[r] ~ rowFirstOrdinals[r + 1] - 1
+	private final int[] rowFirstBlocks;	// 열 r 의 구역: rowFirstBlocks[r] ~ rowFirstBlocks[r + 1] - 1
+	private final int[] blockSizes;	// 통로로 나뉜 구역별 좌석 수 (모든 열을 이어서)
+
+	private SeatLayout(String[] rowNames, int[] rowFirstOrdinals, int[] rowFirstBlocks, int[] blockSizes) {
+		this.rowNames = rowNames;
+		this.rowFirstOrdinals = rowFirstOrdinals;
+		this.rowFirstBlocks = rowFirstBlocks;
+		this.blockSizes = blockSizes;
+		this.rowIndexes = new HashMap<>();
+		for (int r = 0; r < rowNames.length; r++) {
+			rowIndexes.put(rowNames[r], r);
+		}
+		this.legacyOrdinals = isAmbiguous() ? createLegacyOrdinals() : null;
+	}
+
+	// 새로 저장하는 배치 검사 - 형식 + 열 이름이 겹치거나 숫자로 끝나지 않을 것
+	public static SeatLayout validate(String layout) {
+		SeatLayout seatLayout = parse(layout);
+		if (seatLayout.isAmbiguous()) {
+			throw new IllegalArgumentException("Ambiguous seat layout row names: " + layout);
+		}
+		return seatLayout;
+	}
+
+	public static SeatLayout parse(String layout) {
+		String[] rowDefinitions = layout.split(",");
+		String[] rowNames = new String[rowDefinitions.length];
+		int[] rowFirstOrdinals = new int[rowDefinitions.length + 1];
+		int[] rowFirstBlocks = new int[rowDefinitions.length + 1];
+		List<Integer> blockSizes = new ArrayList<>();
+
+		for (int r = 0; r < rowDefinitions.length; r++) {
+			String[] nameAndBlocks = rowDefinitions[r].trim().split(":");
+			if (nameAndBlocks.length != 2 || nameAndBlocks[0].isEmpty()) {
+				throw new IllegalArgumentException("Invalid seat layout row: " + rowDefinitions[r]);
+			}
+			rowNames[r] = nameAndBlocks[0];
+
+			int seatCount = 0;
+			for (String blockDefinition : nameAndBlocks[1].split("_")) {
+				int blockSize = Integer.parseInt(blockDefinition.trim());
+				if (blockSize <= 0) {
+					throw new IllegalArgumentException("Invalid seat layout block: " + rowDefinitions[r]);
+				}
+				blockSizes.add(blockSize);
+				seatCount += blockSize;
+			}
+			rowFirstOrdinals[r + 1] = rowFirstOrdinals[r] + seatCount;
+			rowFirstBlocks[r + 1] = blockSizes.size();
+		}
+		return new SeatLayout(rowNames, rowFirstOrdinals, rowFirstBlocks,
+			blockSizes.stream().mapToInt(Integer::intValue).toArray());
+	}
+
+	public int getTotalSeats() {
+		return rowFirstOrdinals[rowNames.length];
+	}
+
+	public int getRowCount() {
+		return rowNames.length;
+	}
+
+	public String getRowName(int row) {
+		return rowNames[row];
+	}
+
+	public int getRowFirstOrdinal(int row) {
+		return rowFirstOrdinals[row];
+	}
+
+	public int getRowSeatCount(int row) {
+		return rowFirstOrdinals[row + 1] - rowFirstOrdinals[row];
+	}
+
+	public int getBlockCount(int row) {
+		return rowFirstBlocks[row + 1] - rowFirstBlocks[row];
+	}
+
+	public int getBlockSize(int row, int block) {
+		return blockSizes[rowFirstBlocks[row] + block];
+	}
+
+	// 좌석 번호가 속한 열
+	public int rowOf(int ordinal) {
+		checkOrdinal(ordinal);
+		int index = Arrays.binarySearch(rowFirstOrdinals, 0, rowNames.length, ordinal);
+		return index >= 0 ? index : -index - 2;
+	}
+
+	// 바로 오른쪽이 통로인 좌석인지 (열의 마지막 좌석 제외)
+	public boolean isAisleAfter(int ordinal) {
+		int row = rowOf(ordinal);
+		int seatEnd = rowFirstOrdinals[row];
+		for (int block = rowFirstBlocks[row]; block < rowFirstBlocks[row + 1] - 1; block++) {
+			seatEnd += blockSizes[block];
+			if (ordinal == seatEnd - 1) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	// 없는 좌석이면 -1
+	public int ordinalOf(String seatName) {
+		if (legacyOrdinals != null) {
+			return legacyOrdinals.getOrDefault(seatName, -1);
+		}
+		int numberStart = seatName.length();
+		while (numberStart > 0 && Character.isDigit(seatName.charAt(numberStart - 1))) {
+			numberStart--;
+		}
+		if (numberStart == 0 || numberStart == seatName.length() || seatName.length() - numberStart > 9
+			|| seatName.charAt(numberStart) == '0') {
+			return -1;
+		}
+		Integer row = rowIndexes.get(seatName.substring(0, numberStart));
+		if (row == null) {
+			return -1;
+		}
+		int number = Integer.parseInt(seatName.substring(numberStart));
+		return number >= 1 && number <= getRowSeatCount(row) ? rowFirstOrdinals[row] + number - 1 : -1;
+	}
+
+	public String nameOf(int ordinal) {
+		int row = rowOf(ordinal);
+		return rowNames[row] + (ordinal - rowFirstOrdinals[row] + 1);
+	}
+
+	private boolean isAmbiguous() {
+		if (rowIndexes.size() != rowNames.length) {
+			return true;
+		}
+		for (String rowName : rowNames) {
+			if (Character.isDigit(rowName.charAt(rowName.length() - 1))) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private Map<String, Integer> createLegacyOrdinals() {
+		Map<String, Integer> ordinals = new HashMap<>();
+		for (int r = 0; r < rowNames.length; r++) {
+			for (int number = 1; number <= getRowSeatCount(r); number++) {
+				ordinals.put(rowNames[r] + number, rowFirstOrdinals[r] + number - 1);
+			}
+		}
+		return ordinals;
+	}
+
+	private void checkOrdinal(int ordinal) {
+		if (ordinal < 0 || ordinal >= getTotalSeats()) {
+			throw new IndexOutOfBoundsException("Seat ordinal out of range: " + ordinal);
+		}
+	}
+}
@@ -0,0 +1,40 @@
+package com.example.moviebox.screen.service;
+
+import com.example.moviebox.screen.domain.*;
+import com.github.benmanes.caffeine.cache.*;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// 상영관별 SeatLayout 캐시 (크기 제한) - 좌석 배치는 상영관을 수정할 때만 바뀌므로 매번 parse 하지 않는다.
+// 배치를 쓰는 곳은 모두 이 캐시로 조회한다.
+// 배치 문자열이 캐시된 것과 다르면 다시 만들므로, 다른 서버에서 수정된 상영관도 따로 비우지 않아도 반영된다.
+@Component
+public class SeatLayoutCache {
+	private final Cache<Long, CachedLayout> cache;
+
+	public SeatLayoutCache(@Value("${screen.seat-layout-cache.maximum-size:1000}") long maximumSize) {
+		this.cache = Caffeine.newBuilder()
+			.maximumSize(maximumSize)
+			.build();
+	}
+
+	public SeatLayout get(Screen screen) {
+		CachedLayout cached = cache.getIfPresent(screen.getId());
+		if (cached != null && cached.seats.equals(screen.getSeats())) {
+			return cached.layout;
+		}
+		SeatLayout layout = SeatLayout.parse(screen.getSeats());
+		cache.put(screen.getId(), new CachedLayout(screen.getSeats(), layout));
+		return layout;
+	}
+
+	private static class CachedLayout {
+		private final String seats;
+		private final SeatLayout layout;
+
+		private CachedLayout(String seats, SeatLayout layout) {
+			this.seats = seats;
+			this.layout = layout;
+		}
+	}
+}
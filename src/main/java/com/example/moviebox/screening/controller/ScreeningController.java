@@ -0,0 +1,51 @@
+package com.example.moviebox.screening.controller;
+
+import com.example.moviebox.common.dto.ApiResponse;
+import com.example.moviebox.screening.domain.SeatHold;
+import com.example.moviebox.screening.dto.BestSeats;
+import com.example.moviebox.screening.dto.HeldSeats;
+import com.example.moviebox.screening.service.SeatHoldService;
+import com.example.moviebox.screening.service.SeatRecommendationService;
+import javax.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/api/screenings")
+public class ScreeningController {
+	private final SeatRecommendationService seatRecommendationService;
+	private final SeatHoldService seatHoldService;
+
+	@GetMapping("/{screeningId}/best-seats")
+	public ApiResponse<BestSeats.Response> bestSeats(@PathVariable long screeningId,
+		@RequestParam(name = "count") int count) {
+		return ApiResponse.success(new BestSeats.Response(screeningId,
+			seatRecommendationService.recommend(screeningId, count)));
+	}
+
+	// 결제 전 좌석 임시 점유
+	@ResponseStatus(HttpStatus.CREATED)
+	@PostMapping("/{screeningId}/holds")
+	public ApiResponse<HeldSeats.Response> hold(@PathVariable long screeningId,
+		@RequestBody @Valid HeldSeats.Request request) {
+		SeatHold seatHold = seatHoldService.hold(screeningId, request.getSeatNames());
+		return ApiResponse.success(new HeldSeats.Response(seatHold.getHoldId(), screeningId,
+			seatHold.getSeatNames(), seatHold.getExpiresAt()));
+	}
+
+	// 결제 완료 - 점유한 좌석을 예약으로 확정
+	@PostMapping("/{screeningId}/holds/{holdId}/confirm")
+	public ApiResponse<HeldSeats.ConfirmResponse> confirm(@PathVariable long screeningId, @PathVariable String holdId) {
+		return ApiResponse.success(new HeldSeats.ConfirmResponse(screeningId,
+			seatHoldService.confirm(screeningId, holdId)));
+	}
+
+	// 결제 취소/이탈 - 점유 해제
+	@DeleteMapping("/{screeningId}/holds/{holdId}")
+	public ApiResponse<?> release(@PathVariable long screeningId, @PathVariable String holdId) {
+		seatHoldService.release(screeningId, holdId);
+		return ApiResponse.success();
+	}
+}
@@ -0,0 +1,35 @@
+package com.example.moviebox.screening.controller;
+
+import com.example.moviebox.common.dto.ApiResponse;
+import com.example.moviebox.screening.dto.ScreeningSchedule;
+import com.example.moviebox.screening.service.ScreeningScheduleService;
+import java.time.LocalDate;
+import java.util.stream.Collectors;
+import javax.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/api/admin/screenings")
+public class ScreeningScheduleController {
+	private final ScreeningScheduleService screeningScheduleService;
+
+	@ResponseStatus(HttpStatus.CREATED)
+	@PostMapping("/schedule")
+	public ApiResponse<ScreeningSchedule.Response> createSchedule(@RequestBody @Valid ScreeningSchedule.Request request) {
+		return ApiResponse.success(new ScreeningSchedule.Response(screeningScheduleService.createSchedule(request)));
+	}
+
+	@GetMapping("/free-slots")
+	public ApiResponse<ScreeningSchedule.FreeSlotsResponse> freeSlots(@RequestParam(name = "screenId") long screenId,
+		@RequestParam(name = "date") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+		@RequestParam(name = "minMinutes", defaultValue = "0") int minMinutes) {
+		return ApiResponse.success(new ScreeningSchedule.FreeSlotsResponse(screenId, date,
+			screeningScheduleService.findFreeSlots(screenId, date, minMinutes).stream()
+				.map(slot -> new ScreeningSchedule.Slot(slot.getStart(), slot.getEnd()))
+				.collect(Collectors.toList())));
+	}
+}
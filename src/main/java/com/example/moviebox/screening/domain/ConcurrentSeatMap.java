@@ -0,0 +1,111 @@
+package com.example.moviebox.screening.domain;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// 여러 요청이 동시에 좌석을 선점하는 SeatMap (lock 없이 word 단위 CAS)
+// 여러 좌석 선점은 word 번호 순으로 CAS 하고, 중간에 이미 예약된 좌석이 있으면 앞에서 잡은 좌석을 되돌린다. (all-or-nothing)
+// 되돌리기 전까지 다른 요청은 일부만 잡힌 좌석을 보고 실패할 수 있다.
+public class ConcurrentSeatMap {
+	private final int size;
+	private final AtomicLongArray words;
+
+	private ConcurrentSeatMap(int size, long[] words) {
+		this.size = size;
+		this.words = new AtomicLongArray(words);
+	}
+
+	public static ConcurrentSeatMap from(SeatMap seatMap) {
+		return new ConcurrentSeatMap(seatMap.size(), seatMap.toWords());
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isReserved(int ordinal) {
+		checkIndex(ordinal);
+		return (words.get(ordinal >>> 6) & (1L << ordinal)) != 0;
+	}
+
+	public boolean tryReserve(int... ordinals) {
+		int[] sorted = sort(ordinals);
+		int start = 0;
+		while (start < sorted.length) {
+			int wordIndex = sorted[start] >>> 6;
+			int end = start;
+			long mask = 0;
+			while (end < sorted.length && sorted[end] >>> 6 == wordIndex) {
+				mask |= 1L << sorted[end++];
+			}
+			if (!tryReserveWord(wordIndex, mask)) {
+				clear(sorted, start);
+				return false;
+			}
+			start = end;
+		}
+		return true;
+	}
+
+	public void release(int... ordinals) {
+		int[] sorted = sort(ordinals);
+		clear(sorted, sorted.length);
+	}
+
+	public int countReserved() {
+		int count = 0;
+		for (int i = 0; i < words.length(); i++) {
+			count += Long.bitCount(words.get(i));
+		}
+		return count;
+	}
+
+	// word 별로 읽으므로 진행 중인 선점의 일부만 담길 수 있다.
+	public SeatMap snapshot() {
+		long[] copied = new long[words.length()];
+		for (int i = 0; i < copied.length; i++) {
+			copied[i] = words.get(i);
+		}
+		return SeatMap.of(size, copied);
+	}
+
+	private boolean tryReserveWord(int wordIndex, long mask) {
+		while (true) {
+			long current = words.get(wordIndex);
+			if ((current & mask) != 0) {
+				return false;
+			}
+			if (words.compareAndSet(wordIndex, current, current | mask)) {
+				return true;
+			}
+		}
+	}
+
+	// sorted[0, end) 좌석 해제
+	private void clear(int[] sorted, int end) {
+		int start = 0;
+		while (start < end) {
+			int wordIndex = sorted[start] >>> 6;
+			long mask = 0;
+			while (start < end && sorted[start] >>> 6 == wordIndex) {
+				mask |= 1L << sorted[start++];
+			}
+			words.accumulateAndGet(wordIndex, ~mask, (word, keep) -> word & keep);
+		}
+	}
+
+	private int[] sort(int[] ordinals) {
+		int[] sorted = ordinals.clone();
+		for (int ordinal : sorted) {
+			checkIndex(ordinal);
+		}
+		Arrays.sort(sorted);
+		return sorted;
+	}
+
+	private void checkIndex(int ordinal) {
+		if (ordinal < 0 || ordinal >= size) {
+			throw new IndexOutOfBoundsException("Seat ordinal out of range: " + ordinal);
+		}
+	}
+}
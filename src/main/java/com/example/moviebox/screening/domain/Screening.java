@@ -1,12 +1,13 @@
 package com.example.moviebox.screening.domain;
 
+import com.example.moviebox.exception.BusinessException;
 import com.example.moviebox.movie.domain.Movie;
 import com.example.moviebox.screen.domain.Screen;
-import com.vladmihalcea.hibernate.type.json.JsonType;
 import java.time.LocalDateTime;
-import java.util.*;
 import javax.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
 import org.hibernate.annotations.Type;
 import org.hibernate.annotations.TypeDef;
 
@@ -15,10 +16,19 @@ import org.hibernate.annotations.TypeDef;
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
-@TypeDef(name = "jsonb", typeClass = JsonType.class)
+@Table(indexes = @Index(name = "idx_screening_reflected_ended_at", columnList = "isReflectedInAudience, endedAt"))
+@TypeDef(name = "seatMap", typeClass = SeatMapType.class)
 public class Screening {
+	public static final String ID_SEQUENCE_TABLE = "screening_seq";
+
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(generator = "screening_id")	// 상영 일정을 한 번에 여러 개 저장할 때 insert 를 batch 로 묶기 위해 IDENTITY 대신 사용
+	@GenericGenerator(name = "screening_id", strategy = "org.hibernate.id.enhanced.SequenceStyleGenerator", parameters = {
+		@Parameter(name = "sequence_name", value = ID_SEQUENCE_TABLE),
+		@Parameter(name = "force_table_use", value = "true"),
+		@Parameter(name = "increment_size", value = "100"),
+		@Parameter(name = "optimizer", value = "pooled-lo")
+	})
 	private long id;
 
 	@Column(nullable = false)
@@ -26,11 +36,15 @@ public class Screening {
 	@Column(nullable = false)
 	private LocalDateTime endedAt;
 
-	@Type(type = "jsonb")
-	@Column(columnDefinition = "longtext", nullable = false)
-	private Map<String, Boolean> seats = new HashMap<>();	// 좌석 별 예약 여부
+	@Type(type = "seatMap")
+	@Column(name = "seat_map", columnDefinition = "varbinary(2048)")
+	private SeatMap seatMap;	// 좌석 별 예약 여부 (좌석 번호는 상영관의 SeatLayout 기준)
 	private boolean isReflectedInAudience;
 
+	@Version
+	@Column(nullable = false, columnDefinition = "bigint default 0")
+	private long version;	// 좌석을 동시에 변경하면 나중에 커밋하는 쪽이 실패 (ScreeningSeatUpdater 가 다시 읽어 재시도)
+
 	@ManyToOne
 	@JoinColumn(name = "movie_id", referencedColumnName = "id")
 	private Movie movie;
@@ -38,4 +52,20 @@ public class Screening {
 	@ManyToOne
 	@JoinColumn(name = "screen_id", referencedColumnName = "id")
 	private Screen screen;
+
+	public void changeSeatMap(SeatMap seatMap) {
+		this.seatMap = seatMap;
+	}
+
+	public int getFreeSeatCount() {
+		return requireSeatMap().countFree();
+	}
+
+	// 좌석 정보(JSON)를 bitmap 으로 변환하지 못한 상영은 예약 상태를 알 수 없으므로 좌석을 다루지 않는다.
+	public SeatMap requireSeatMap() {
+		if (seatMap == null) {
+			throw BusinessException.SEAT_MAP_UNAVAILABLE;
+		}
+		return seatMap;
+	}
 }
@@ -0,0 +1,7 @@
+package com.example.moviebox.screening.domain;
+
+public interface ScreeningAudience {	// 관객 수 집계용 - 상영 번호, 영화 번호, 좌석 bitmap 만 조회 (projection)
+	long getId();
+	long getMovieId();
+	SeatMap getSeatMap();
+}
@@ -1,7 +1,36 @@
 package com.example.moviebox.screening.domain;
 
-import org.springframework.data.jpa.repository.JpaRepository;
+import java.time.LocalDateTime;
+import java.util.*;
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 
 public interface ScreeningRepository extends JpaRepository<Screening, Long> {
+	@Query("select s.id as id, s.screenedAt as screenedAt, s.endedAt as endedAt from Screening s"
+		+ " where s.screen.id = :screenId and s.endedAt > :endedAfter")
+	List<ScreeningTime> findTimesByScreenId(@Param("screenId") long screenId, @Param("endedAfter") LocalDateTime endedAfter);
 
+	// [from, to) 와 겹치는 상영 - SELECT ... FOR UPDATE 로 읽어 같은 상영관에 동시에 상영을 추가하지 못하게 한다.
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("select s.id as id, s.screenedAt as screenedAt, s.endedAt as endedAt from Screening s"
+		+ " where s.screen.id = :screenId and s.screenedAt < :to and s.endedAt > :from")
+	List<ScreeningTime> findTimesForUpdate(@Param("screenId") long screenId, @Param("from") LocalDateTime from,
+		@Param("to") LocalDateTime to);
+
+	// 관객 수에 반영되지 않은 종료된 상영 (상영 번호 순, lastId 이후)
+	// SELECT ... FOR UPDATE SKIP LOCKED (lock.timeout = -2) - 다른 노드가 집계 중인 행은 기다리지 않고 건너뛴다.
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@QueryHints(@QueryHint(name = "javax.persistence.lock.timeout", value = "-2"))
+	@Query("select s.id as id, s.movie.id as movieId, s.seatMap as seatMap from Screening s"
+		+ " where s.isReflectedInAudience = false and s.endedAt <= :endedBefore and s.id > :lastId order by s.id")
+	List<ScreeningAudience> findUnreflectedAudiences(@Param("endedBefore") LocalDateTime endedBefore,
+		@Param("lastId") long lastId, Pageable pageable);
+
+	// version 을 올려 이 상영을 먼저 읽어둔 다른 트랜잭션이 반영 여부를 되돌리지 못하게 한다.
+	@Modifying
+	@Query("update versioned Screening s set s.isReflectedInAudience = true where s.id in :ids")
+	int markReflectedInAudience(@Param("ids") Collection<Long> ids);
 }
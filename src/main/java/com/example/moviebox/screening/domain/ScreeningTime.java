@@ -0,0 +1,9 @@
+package com.example.moviebox.screening.domain;
+
+import java.time.LocalDateTime;
+
+public interface ScreeningTime {	// 상영 번호, 상영 시간만 조회 (projection)
+	long getId();
+	LocalDateTime getScreenedAt();
+	LocalDateTime getEndedAt();
+}
@@ -0,0 +1,102 @@
+package com.example.moviebox.screening.domain;
+
+import java.time.*;
+import java.util.*;
+import lombok.*;
+
+// 한 상영관의 상영 시간표 - 겹치는 상영을 넣지 않으므로 구간들이 서로 겹치지 않고,
+// 시작 시각 순으로 정렬된 TreeMap 에서 앞/뒤 구간만 보면 겹침 여부를 O(log n) 에 알 수 있다.
+// 구간은 [상영 시작, 상영 종료) - 앞 상영이 끝나는 시각에 다음 상영을 시작할 수 있다.
+public class ScreeningTimetable {
+	private final NavigableMap<LocalDateTime, Slot> slots = new TreeMap<>();
+
+	// 겹치는 상영 번호, 없으면 empty
+	public synchronized OptionalLong findOverlap(LocalDateTime start, LocalDateTime end) {
+		Map.Entry<LocalDateTime, Slot> before = slots.lowerEntry(end);
+		if (before != null && before.getValue().end.isAfter(start)) {
+			return OptionalLong.of(before.getValue().screeningId);
+		}
+		return OptionalLong.empty();
+	}
+
+	// 겹치는 상영이 있으면 추가하지 않고 그 상영 번호 반환
+	public synchronized OptionalLong add(long screeningId, LocalDateTime start, LocalDateTime end) {
+		if (!start.isBefore(end)) {
+			throw new IllegalArgumentException("Screening must end after it starts");
+		}
+		OptionalLong overlap = findOverlap(start, end);
+		if (overlap.isEmpty()) {
+			slots.put(start, new Slot(screeningId, end));
+		}
+		return overlap;
+	}
+
+	// 이미 저장된 상영 - 겹치는 상영(색인 도입 전에 만들어진 상영)이 있으면 버리지 않고 하나의 구간으로 합친다.
+	public synchronized void addExisting(long screeningId, LocalDateTime start, LocalDateTime end) {
+		if (!start.isBefore(end)) {
+			throw new IllegalArgumentException("Screening must end after it starts");
+		}
+		long mergedScreeningId = screeningId;
+		LocalDateTime mergedStart = start;
+		LocalDateTime mergedEnd = end;
+		Map.Entry<LocalDateTime, Slot> before = slots.lowerEntry(mergedEnd);
+		while (before != null && before.getValue().end.isAfter(mergedStart)) {
+			slots.remove(before.getKey());
+			if (!before.getKey().isAfter(mergedStart)) {
+				mergedScreeningId = before.getValue().screeningId;
+				mergedStart = before.getKey();
+			}
+			if (before.getValue().end.isAfter(mergedEnd)) {
+				mergedEnd = before.getValue().end;
+			}
+			before = slots.lowerEntry(mergedEnd);
+		}
+		slots.put(mergedStart, new Slot(mergedScreeningId, mergedEnd));
+	}
+
+	// [from, to) 중 상영이 없는 구간 (minLength 보다 짧은 구간 제외)
+	public synchronized List<FreeSlot> findFreeSlots(LocalDateTime from, LocalDateTime to,
+		Duration minLength) {
+		List<FreeSlot> freeSlots = new ArrayList<>();
+		LocalDateTime cursor = from;
+		Map.Entry<LocalDateTime, Slot> before = slots.lowerEntry(from);
+		if (before != null && before.getValue().end.isAfter(cursor)) {
+			cursor = before.getValue().end;
+		}
+		for (Map.Entry<LocalDateTime, Slot> entry : slots.subMap(from, true, to, false).entrySet()) {
+			addFreeSlot(freeSlots, cursor, entry.getKey(), minLength);
+			if (entry.getValue().end.isAfter(cursor)) {
+				cursor = entry.getValue().end;
+			}
+		}
+		addFreeSlot(freeSlots, cursor, to, minLength);
+		return freeSlots;
+	}
+
+	public synchronized int size() {
+		return slots.size();
+	}
+
+	private static void addFreeSlot(List<FreeSlot> freeSlots, LocalDateTime start, LocalDateTime end, Duration minLength) {
+		if (start.isBefore(end) && Duration.between(start, end).compareTo(minLength) >= 0) {
+			freeSlots.add(new FreeSlot(start, end));
+		}
+	}
+
+	@Getter
+	@AllArgsConstructor
+	public static class FreeSlot {
+		private LocalDateTime start;
+		private LocalDateTime end;
+	}
+
+	private static class Slot {
+		private final long screeningId;
+		private final LocalDateTime end;
+
+		private Slot(long screeningId, LocalDateTime end) {
+			this.screeningId = screeningId;
+			this.end = end;
+		}
+	}
+}
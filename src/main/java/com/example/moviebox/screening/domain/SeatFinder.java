@@ -0,0 +1,102 @@
+package com.example.moviebox.screening.domain;
+
+import com.example.moviebox.screen.domain.SeatLayout;
+import java.util.OptionalInt;
+
+// 나란히 붙은 빈 좌석 count 개 중 상영관 가운데에 가장 가까운 묶음 찾기
+// 구역(통로로 나뉜 좌석 묶음)마다 빈 좌석 bitmap 을 만들고, free & (free >>> s) 를 반복해
+// "i 번째부터 count 개가 모두 빈 좌석" 인 위치 i 만 bit 로 남긴다. (shift 횟수 O(log count))
+// 점수: 묶음 가운데와 좌석 영역 가운데의 거리 제곱 (가로 - 열 안의 좌석 순서, 세로 - 열 순서)
+public class SeatFinder {
+	private SeatFinder() {
+	}
+
+	// 찾은 묶음의 첫 좌석 번호
+	public static OptionalInt findBest(SeatLayout layout, SeatMap reserved, int count) {
+		int bestOrdinal = -1;
+		double bestScore = Double.MAX_VALUE;
+		double rowCenter = (layout.getRowCount() - 1) / 2.0;
+
+		for (int row = 0; row < layout.getRowCount(); row++) {
+			double dy = row - rowCenter;
+			if (dy * dy >= bestScore) {
+				continue;
+			}
+			int firstOrdinal = layout.getRowFirstOrdinal(row);
+			double seatCenter = (layout.getRowSeatCount(row) - 1) / 2.0;
+			int blockOffset = 0;
+			for (int block = 0; block < layout.getBlockCount(row); block++) {
+				int blockSize = layout.getBlockSize(row, block);
+				if (blockSize >= count) {
+					long[] starts = runStarts(reserved, firstOrdinal + blockOffset, blockSize, count);
+					// 가운데에 가장 가까운 시작 위치 (블록 기준)
+					double ideal = seatCenter - (count - 1) / 2.0 - blockOffset;
+					int start = nearestSetBit(starts, ideal);
+					if (start >= 0) {
+						double dx = start - ideal;
+						double score = dx * dx + dy * dy;
+						if (score < bestScore) {
+							bestScore = score;
+							bestOrdinal = firstOrdinal + blockOffset + start;
+						}
+					}
+				}
+				blockOffset += blockSize;
+			}
+		}
+		return bestOrdinal < 0 ? OptionalInt.empty() : OptionalInt.of(bestOrdinal);
+	}
+
+	// bit i: 블록의 i 번째 좌석부터 count 개가 모두 비어 있음
+	private static long[] runStarts(SeatMap reserved, int from, int length, int count) {
+		long[] runs = new long[(length + 63) >>> 6];
+		for (int i = 0; i < runs.length; i++) {
+			int bits = Math.min(64, length - (i << 6));
+			long mask = bits == 64 ? -1L : (1L << bits) - 1;
+			runs[i] = ~reserved.getBits(from + (i << 6), bits) & mask;
+		}
+		int covered = 1;
+		while (covered < count) {
+			int shift = Math.min(covered, count - covered);
+			andShiftedRight(runs, shift);
+			covered += shift;
+		}
+		return runs;
+	}
+
+	// runs &= runs >>> shift (여러 word 에 걸친 bitmap)
+	private static void andShiftedRight(long[] runs, int shift) {
+		int wordShift = shift >>> 6;
+		int bitShift = shift & 63;
+		for (int i = 0; i < runs.length; i++) {
+			int source = i + wordShift;
+			long shifted = 0;
+			if (source < runs.length) {
+				shifted = runs[source] >>> bitShift;
+				if (bitShift != 0 && source + 1 < runs.length) {
+					shifted |= runs[source + 1] << (64 - bitShift);
+				}
+			}
+			runs[i] &= shifted;
+		}
+	}
+
+	private static int nearestSetBit(long[] bits, double target) {
+		int nearest = -1;
+		double nearestDistance = Double.MAX_VALUE;
+		for (int i = 0; i < bits.length; i++) {
+			long word = bits[i];
+			while (word != 0) {
+				int index = (i << 6) + Long.numberOfTrailingZeros(word);
+				double distance = Math.abs(index - target);
+				if (distance >= nearestDistance) {
+					return nearest;	// 이후 위치는 더 멀어짐
+				}
+				nearest = index;
+				nearestDistance = distance;
+				word &= word - 1;
+			}
+		}
+		return nearest;
+	}
+}
@@ -0,0 +1,15 @@
+package com.example.moviebox.screening.domain;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.*;
+
+// 결제 전까지 잠시 잡아둔 좌석 묶음
+@Getter
+@AllArgsConstructor
+public class SeatHold {
+	private String holdId;
+	private long screeningId;
+	private List<String> seatNames;
+	private LocalDateTime expiresAt;
+}
@@ -0,0 +1,119 @@
+package com.example.moviebox.screening.domain;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+// 좌석별 예약 여부 bitmap (좌석 번호 = SeatLayout 의 ordinal, 1: 예약됨)
+// 저장 형식: 좌석 수(4 byte) + 좌석 순서대로 8개씩 묶은 byte (좌석 i 는 i / 8 번째 byte 의 i % 8 번째 bit)
+public class SeatMap {
+	private static final int HEADER_BYTES = Integer.BYTES;
+
+	private final int size;
+	private final long[] words;
+
+	private SeatMap(int size, long[] words) {
+		this.size = size;
+		this.words = words;
+	}
+
+	public static SeatMap empty(int size) {
+		return new SeatMap(size, new long[(size + 63) >>> 6]);
+	}
+
+	static SeatMap of(int size, long[] words) {
+		return new SeatMap(size, words.clone());
+	}
+
+	public static SeatMap fromBytes(byte[] bytes) {
+		ByteBuffer buffer = ByteBuffer.wrap(bytes);
+		SeatMap seatMap = empty(buffer.getInt());
+		for (int i = HEADER_BYTES; i < bytes.length; i++) {
+			int byteIndex = i - HEADER_BYTES;
+			seatMap.words[byteIndex >>> 3] |= (bytes[i] & 0xFFL) << ((byteIndex & 7) << 3);
+		}
+		return seatMap;
+	}
+
+	public byte[] toBytes() {
+		byte[] bytes = new byte[HEADER_BYTES + ((size + 7) >>> 3)];
+		ByteBuffer.wrap(bytes).putInt(size);
+		for (int i = HEADER_BYTES; i < bytes.length; i++) {
+			int byteIndex = i - HEADER_BYTES;
+			bytes[i] = (byte)(words[byteIndex >>> 3] >>> ((byteIndex & 7) << 3));
+		}
+		return bytes;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isReserved(int ordinal) {
+		checkIndex(ordinal);
+		return (words[ordinal >>> 6] & (1L << ordinal)) != 0;
+	}
+
+	public void reserve(int ordinal) {
+		checkIndex(ordinal);
+		words[ordinal >>> 6] |= 1L << ordinal;
+	}
+
+	public void release(int ordinal) {
+		checkIndex(ordinal);
+		words[ordinal >>> 6] &= ~(1L << ordinal);
+	}
+
+	// from 부터 length(1 ~ 64)개 좌석의 예약 여부 (from 좌석이 최하위 bit)
+	long getBits(int from, int length) {
+		int wordIndex = from >>> 6;
+		int offset = from & 63;
+		long bits = words[wordIndex] >>> offset;
+		if (offset != 0 && wordIndex + 1 < words.length) {
+			bits |= words[wordIndex + 1] << (64 - offset);
+		}
+		return length == 64 ? bits : bits & ((1L << length) - 1);
+	}
+
+	public int countReserved() {
+		int count = 0;
+		for (long word : words) {
+			count += Long.bitCount(word);
+		}
+		return count;
+	}
+
+	public int countFree() {
+		return size - countReserved();
+	}
+
+	long[] toWords() {
+		return words.clone();
+	}
+
+	public SeatMap copy() {
+		return new SeatMap(size, words.clone());
+	}
+
+	private void checkIndex(int ordinal) {
+		if (ordinal < 0 || ordinal >= size) {
+			throw new IndexOutOfBoundsException("Seat ordinal out of range: " + ordinal);
+		}
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (!(o instanceof SeatMap)) {
+			return false;
+		}
+		SeatMap seatMap = (SeatMap)o;
+		return size == seatMap.size && Arrays.equals(words, seatMap.words);
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * size + Arrays.hashCode(words);
+	}
+}
@@ -0,0 +1,46 @@
+package com.example.moviebox.screening.domain;
+
+import lombok.*;
+
+// 좌석 bitmap 의 변경분 (before -> after)
+// 다른 요청이 그 사이 저장한 bitmap 에 적용하면, 서로 다른 좌석의 변경은 모두 남는다.
+// 새로 예약한 좌석(0 -> 1)이 그 사이 이미 예약되었다면 이중 예약이므로 적용하지 않는다.
+@Getter
+@AllArgsConstructor
+public class SeatMapChange {
+	private SeatMap before;
+	private SeatMap after;
+
+	public boolean conflictsWith(SeatMap current) {
+		long[] base = before.toWords();
+		long[] changed = after.toWords();
+		long[] words = current.toWords();
+		checkSize(base, changed, words);
+		for (int i = 0; i < words.length; i++) {
+			if ((changed[i] & ~base[i] & words[i]) != 0) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	public SeatMap applyTo(SeatMap current) {
+		if (conflictsWith(current)) {
+			throw new IllegalStateException("Seat already reserved");
+		}
+		long[] base = before.toWords();
+		long[] changed = after.toWords();
+		long[] words = current.toWords();
+		for (int i = 0; i < words.length; i++) {
+			long diff = base[i] ^ changed[i];
+			words[i] = (words[i] & ~diff) | (changed[i] & diff);
+		}
+		return SeatMap.of(current.size(), words);
+	}
+
+	private static void checkSize(long[] base, long[] changed, long[] words) {
+		if (base.length != words.length || changed.length != words.length) {
+			throw new IllegalArgumentException("Seat map size mismatch");
+		}
+	}
+}
@@ -0,0 +1,72 @@
+package com.example.moviebox.screening.domain;
+
+import java.io.Serializable;
+import java.sql.*;
+import java.util.Objects;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.usertype.UserType;
+
+// SeatMap <-> VARBINARY 변환 (Screening.seatMap)
+public class SeatMapType implements UserType {
+	@Override
+	public int[] sqlTypes() {
+		return new int[] {Types.VARBINARY};
+	}
+
+	@Override
+	public Class<SeatMap> returnedClass() {
+		return SeatMap.class;
+	}
+
+	@Override
+	public boolean equals(Object x, Object y) {
+		return Objects.equals(x, y);
+	}
+
+	@Override
+	public int hashCode(Object x) {
+		return Objects.hashCode(x);
+	}
+
+	@Override
+	public Object nullSafeGet(ResultSet rs, String[] names, SharedSessionContractImplementor session, Object owner)
+		throws SQLException {
+		byte[] bytes = rs.getBytes(names[0]);
+		return bytes == null ? null : SeatMap.fromBytes(bytes);
+	}
+
+	@Override
+	public void nullSafeSet(PreparedStatement st, Object value, int index, SharedSessionContractImplementor session)
+		throws SQLException {
+		if (value == null) {
+			st.setNull(index, Types.VARBINARY);
+			return;
+		}
+		st.setBytes(index, ((SeatMap)value).toBytes());
+	}
+
+	@Override
+	public Object deepCopy(Object value) {	// 변경 감지를 위해 로딩 시점의 상태를 복사해 둔다.
+		return value == null ? null : ((SeatMap)value).copy();
+	}
+
+	@Override
+	public boolean isMutable() {
+		return true;
+	}
+
+	@Override
+	public Serializable disassemble(Object value) {
+		return value == null ? null : ((SeatMap)value).toBytes();
+	}
+
+	@Override
+	public Object assemble(Serializable cached, Object owner) {
+		return cached == null ? null : SeatMap.fromBytes((byte[])cached);
+	}
+
+	@Override
+	public Object replace(Object original, Object target, Object owner) {
+		return deepCopy(original);
+	}
+}
@@ -0,0 +1,17 @@
+package com.example.moviebox.screening.dto;
+
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+public class BestSeats {
+	@Getter
+	@AllArgsConstructor
+	@NoArgsConstructor(access = AccessLevel.PROTECTED)
+	public static class Response {
+		private long screeningId;
+		private List<String> seatNames;
+	}
+}
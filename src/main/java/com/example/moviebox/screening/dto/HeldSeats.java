@@ -0,0 +1,34 @@
+package com.example.moviebox.screening.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import javax.validation.constraints.NotEmpty;
+import lombok.*;
+
+public class HeldSeats {
+	@Getter
+	@AllArgsConstructor
+	@NoArgsConstructor(access = AccessLevel.PROTECTED)
+	public static class Request {
+		@NotEmpty(message = "좌석을 선택해주세요.")
+		private List<String> seatNames;
+	}
+
+	@Getter
+	@AllArgsConstructor
+	@NoArgsConstructor(access = AccessLevel.PROTECTED)
+	public static class Response {
+		private String holdId;
+		private long screeningId;
+		private List<String> seatNames;
+		private LocalDateTime expiresAt;
+	}
+
+	@Getter
+	@AllArgsConstructor
+	@NoArgsConstructor(access = AccessLevel.PROTECTED)
+	public static class ConfirmResponse {
+		private long screeningId;
+		private List<String> seatNames;	// 예약한 좌석
+	}
+}
@@ -0,0 +1,52 @@
+package com.example.moviebox.screening.dto;
+
+import java.time.*;
+import java.util.List;
+import javax.validation.constraints.*;
+import lombok.*;
+
+public class ScreeningSchedule {
+	@Getter
+	@AllArgsConstructor
+	@NoArgsConstructor(access = AccessLevel.PROTECTED)
+	public static class Request {
+		@NotNull(message = "영화를 선택해주세요.")
+		private Long movieId;
+
+		@NotEmpty(message = "상영관을 선택해주세요.")
+		private List<Long> screenIds;
+
+		@NotNull(message = "시작 날짜를 입력해주세요.")
+		private LocalDate startDate;
+
+		@NotNull(message = "종료 날짜를 입력해주세요.")
+		private LocalDate endDate;
+
+		@NotEmpty(message = "상영 시작 시각을 입력해주세요.")
+		private List<LocalTime> startTimes;	// 매일 반복할 상영 시작 시각
+	}
+
+	@Getter
+	@AllArgsConstructor
+	@NoArgsConstructor(access = AccessLevel.PROTECTED)
+	public static class Response {
+		private int createdCount;
+	}
+
+	@Getter
+	@AllArgsConstructor
+	@NoArgsConstructor(access = AccessLevel.PROTECTED)
+	public static class FreeSlotsResponse {
+		private long screenId;
+		private LocalDate date;
+		private List<Slot> slots;
+	}
+
+	@Getter
+	@AllArgsConstructor
+	@NoArgsConstructor(access = AccessLevel.PROTECTED)
+	public static class Slot {
+		private LocalDateTime start;
+		private LocalDateTime end;
+	}
+}
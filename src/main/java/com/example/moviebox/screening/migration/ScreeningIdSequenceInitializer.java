@@ -0,0 +1,63 @@
+package com.example.moviebox.screening.migration;
+
+import com.example.moviebox.screening.domain.Screening;
+import javax.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 상영 번호 채번 테이블(screening_seq)의 다음 값을 기존 상영 번호(IDENTITY 로 만든 번호) 뒤로 맞춘다.
+// 이미 뒤에 있으면 아무것도 하지 않으므로 여러 번 실행해도 안전하다.
+// 채번 테이블은 JPA 가 스키마를 만들 때 생기므로 EntityManagerFactory 뒤, 요청/스케줄 작업이 시작되기 전(context 초기화 중)에 실행한다.
+// 여러 서버가 동시에 빈 테이블에 행을 넣지 않도록 SERIALIZABLE 트랜잭션으로 확인하고, 충돌(deadlock)하면 다시 시도한다.
+// (MySQL InnoDB 는 SERIALIZABLE 에서 빈 테이블을 읽어도 gap lock 을 잡으므로 동시에 insert 하면 한쪽이 실패한다.)
+@Slf4j
+@DependsOn("entityManagerFactory")
+@Component
+public class ScreeningIdSequenceInitializer {
+	private static final int MAX_ATTEMPTS = 3;
+
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionTemplate transactionTemplate;
+
+	public ScreeningIdSequenceInitializer(final JdbcTemplate jdbcTemplate,
+		final PlatformTransactionManager transactionManager) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_SERIALIZABLE);
+	}
+
+	@PostConstruct
+	public void initialize() {
+		for (int attempt = 1; ; attempt++) {
+			try {
+				transactionTemplate.executeWithoutResult(status -> moveSequence());
+				return;
+			} catch (ConcurrencyFailureException e) {
+				if (attempt >= MAX_ATTEMPTS) {
+					throw e;
+				}
+				log.info("Screening id sequence initialization conflicted, retrying", e);
+			}
+		}
+	}
+
+	private void moveSequence() {
+		long maxId = jdbcTemplate.queryForObject("select coalesce(max(id), 0) from screening", Long.class);
+		Integer rows = jdbcTemplate.queryForObject("select count(*) from " + Screening.ID_SEQUENCE_TABLE, Integer.class);
+		if (rows == null || rows == 0) {
+			jdbcTemplate.update("insert into " + Screening.ID_SEQUENCE_TABLE + " (next_val) values (?)", maxId + 1);
+			return;
+		}
+		int updated = jdbcTemplate.update("update " + Screening.ID_SEQUENCE_TABLE + " set next_val = ? where next_val <= ?",
+			maxId + 1, maxId);
+		if (updated > 0) {
+			log.info("Screening id sequence moved to {}", maxId + 1);
+		}
+	}
+}
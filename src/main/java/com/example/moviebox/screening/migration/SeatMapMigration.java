@@ -0,0 +1,150 @@
+package com.example.moviebox.screening.migration;
+
+import com.example.moviebox.screen.domain.SeatLayout;
+import com.example.moviebox.screening.domain.SeatMap;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.sql.ResultSetMetaData;
+import java.util.*;
+import javax.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+// 기존 JSON 좌석 정보(screening.seats) -> bitmap(screening.seat_map) 변환
+// seat_map 이 비어 있는 행만 변환하므로 여러 번 실행해도 안전하며, 변환 후 seats 컬럼은 null 을 허용하도록 변경한다.
+// (기존 데이터 보존을 위해 seats 컬럼은 삭제하지 않음)
+// 좌석 JSON 이나 상영관 배치가 잘못된 행은 로그만 남기고 건너뛴다. (seat_map 이 없는 상영은 예매할 수 없음)
+// seat_map 컬럼은 JPA 가 스키마를 만들 때 생기므로 EntityManagerFactory 뒤, 요청/스케줄 작업이 시작되기 전(context 초기화 중)에 실행한다.
+@Slf4j
+@RequiredArgsConstructor
+@DependsOn("entityManagerFactory")
+@Component
+@ConditionalOnProperty(name = "screening.seat-map-migration.enabled", havingValue = "true", matchIfMissing = true)
+public class SeatMapMigration {
+	private static final String LEGACY_COLUMN = "seats";
+	private static final int CHUNK_SIZE = 500;
+	private static final TypeReference<Map<String, Boolean>> SEATS_TYPE = new TypeReference<>() {
+	};
+
+	private final JdbcTemplate jdbcTemplate;
+	private final ObjectMapper objectMapper;
+
+	@PostConstruct
+	public void migrate() {
+		Boolean legacyColumnNullable = findLegacyColumnNullable();
+		if (legacyColumnNullable == null) {	// seats 컬럼이 없는 새 스키마
+			return;
+		}
+		if (!legacyColumnNullable) {
+			jdbcTemplate.execute("alter table screening modify seats longtext null");
+		}
+
+		long lastId = 0;
+		int migratedCount = 0;
+		int skippedCount = 0;
+		List<LegacyScreening> screenings;
+		do {
+			screenings = jdbcTemplate.query(
+				"select s.id, s.seats, sc.seats as layout from screening s left join screen sc on s.screen_id = sc.id"
+					+ " where s.seat_map is null and s.id > ? order by s.id limit ?",
+				(rs, rowNum) -> new LegacyScreening(rs.getLong("id"), rs.getString("seats"), rs.getString("layout")),
+				lastId, CHUNK_SIZE);
+			if (screenings.isEmpty()) {
+				break;
+			}
+
+			List<Object[]> updates = new ArrayList<>(screenings.size());
+			for (LegacyScreening screening : screenings) {
+				SeatMap seatMap = toSeatMap(screening);
+				if (seatMap == null) {
+					skippedCount++;
+				} else {
+					updates.add(new Object[] {seatMap.toBytes(), screening.id});
+				}
+			}
+			if (!updates.isEmpty()) {
+				jdbcTemplate.batchUpdate("update screening set seat_map = ? where id = ? and seat_map is null", updates);
+			}
+
+			lastId = screenings.get(screenings.size() - 1).id;
+			migratedCount += updates.size();
+		} while (screenings.size() == CHUNK_SIZE);
+
+		if (migratedCount > 0) {
+			log.info("Migrated {} screenings to seat_map", migratedCount);
+		}
+		if (skippedCount > 0) {
+			log.warn("Skipped {} screenings with invalid seats or seat layout", skippedCount);
+		}
+	}
+
+	// seats 컬럼이 없으면 null
+	private Boolean findLegacyColumnNullable() {
+		return jdbcTemplate.query("select * from screening where 1 = 0", rs -> {
+			ResultSetMetaData metaData = rs.getMetaData();
+			for (int i = 1; i <= metaData.getColumnCount(); i++) {
+				if (LEGACY_COLUMN.equalsIgnoreCase(metaData.getColumnName(i))) {
+					return metaData.isNullable(i) != ResultSetMetaData.columnNoNulls;
+				}
+			}
+			return null;
+		});
+	}
+
+	// 변환할 수 없으면 null
+	SeatMap toSeatMap(LegacyScreening screening) {
+		if (screening.layout == null) {	// 상영관이 없는 상영 - 좌석이 없는 bitmap (어떤 좌석도 예매할 수 없음)
+			log.warn("Screening {} has no screen, migrated without seats", screening.id);
+			return SeatMap.empty(0);
+		}
+
+		SeatLayout layout;
+		try {
+			layout = SeatLayout.parse(screening.layout);
+		} catch (RuntimeException e) {
+			log.warn("Invalid seat layout of screening {}: {}", screening.id, e.getMessage());
+			return null;
+		}
+		SeatMap seatMap = SeatMap.empty(layout.getTotalSeats());
+		if (screening.seats == null) {
+			return seatMap;
+		}
+
+		Map<String, Boolean> seats;
+		try {
+			seats = objectMapper.readValue(screening.seats, SEATS_TYPE);
+		} catch (JsonProcessingException e) {
+			log.warn("Invalid seats json of screening {}: {}", screening.id, e.getOriginalMessage());
+			return null;
+		}
+		if (seats == null) {	// JSON null
+			return seatMap;
+		}
+		seats.forEach((seatName, reserved) -> {
+			int ordinal = layout.ordinalOf(seatName);
+			if (ordinal < 0) {
+				log.warn("Unknown seat {} in screening {}", seatName, screening.id);
+			} else if (Boolean.TRUE.equals(reserved)) {
+				seatMap.reserve(ordinal);
+			}
+		});
+		return seatMap;
+	}
+
+	static class LegacyScreening {
+		private final long id;
+		private final String seats;
+		private final String layout;
+
+		LegacyScreening(long id, String seats, String layout) {
+			this.id = id;
+			this.seats = seats;
+			this.layout = layout;
+		}
+	}
+}
@@ -0,0 +1,109 @@
+package com.example.moviebox.screening.service;
+
+import com.example.moviebox.exception.BusinessException;
+import com.example.moviebox.movie.domain.*;
+import com.example.moviebox.screen.domain.*;
+import com.example.moviebox.screen.service.SeatLayoutCache;
+import com.example.moviebox.screening.domain.*;
+import com.example.moviebox.screening.dto.ScreeningSchedule;
+import java.time.*;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import javax.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+// 상영 일정 일괄 생성 - 상영관 x 날짜 x 시작 시각 마다 상영 하나 (같은 상영관에서 시간이 겹치는 상영이 하나라도 있으면 전체 취소)
+// batch-size 개씩 flush 해 insert 를 JDBC batch 로 묶고, 영속성 컨텍스트를 비워 메모리 사용량을 일정하게 유지한다.
+// 겹침은 DB 에서 상영관별로 기간 안의 상영을 잠그고(SELECT ... FOR UPDATE) 다시 확인한다. 메모리 시간표는 서버마다 달라 믿을 수 없다.
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class ScreeningScheduleService {
+	private static final int MAX_SCREENINGS = 20_000;
+
+	private final MovieRepository movieRepository;
+	private final ScreenRepository screenRepository;
+	private final ScreeningRepository screeningRepository;
+	private final ScreeningTimetableIndex screeningTimetableIndex;
+	private final SeatLayoutCache seatLayoutCache;
+	private final EntityManager entityManager;
+
+	@Value("${spring.jpa.properties.hibernate.jdbc.batch_size:100}")
+	private int batchSize;
+
+	@Transactional
+	public int createSchedule(ScreeningSchedule.Request request) {
+		if (request.getEndDate().isBefore(request.getStartDate())) {
+			throw BusinessException.INVALID_SCHEDULE_PERIOD;
+		}
+		long days = ChronoUnit.DAYS.between(request.getStartDate(), request.getEndDate()) + 1;
+		List<LocalTime> startTimes = new ArrayList<>(new TreeSet<>(request.getStartTimes()));
+		Set<Long> screenIds = new LinkedHashSet<>(request.getScreenIds());
+		if (days * screenIds.size() * startTimes.size() > MAX_SCREENINGS) {
+			throw BusinessException.TOO_MANY_SCREENINGS;
+		}
+
+		Movie movie = movieRepository.findById(request.getMovieId())
+			.orElseThrow(() -> BusinessException.MOVIE_NOT_FOUND);
+		List<Screen> screens = screenRepository.findAllById(screenIds);
+		if (screens.size() != screenIds.size()) {
+			throw BusinessException.SCREEN_NOT_FOUND;
+		}
+
+		LocalDateTime from = request.getStartDate().atTime(startTimes.get(0));
+		LocalDateTime to = request.getEndDate().atTime(startTimes.get(startTimes.size() - 1)).plusMinutes(movie.getRunningTime());
+		Map<Long, ScreeningTimetable> timetables = new HashMap<>();
+		for (Long screenId : new TreeSet<>(screenIds)) {	// 잠그는 순서를 맞춰 deadlock 방지
+			timetables.put(screenId, ScreeningTimetableIndex.toTimetable(
+				screeningRepository.findTimesForUpdate(screenId, from, to)));
+		}
+
+		long startNanos = System.nanoTime();
+		int createdCount = 0;
+		for (LocalDate date = request.getStartDate(); !date.isAfter(request.getEndDate()); date = date.plusDays(1)) {
+			for (Screen screen : screens) {
+				int totalSeats = seatLayoutCache.get(screen).getTotalSeats();
+				for (LocalTime startTime : startTimes) {
+					LocalDateTime screenedAt = date.atTime(startTime);
+					Screening screening = Screening.builder()
+						.screenedAt(screenedAt)
+						.endedAt(screenedAt.plusMinutes(movie.getRunningTime()))
+						.seatMap(SeatMap.empty(totalSeats))
+						.movie(movie)
+						.screen(screen)
+						.build();
+					entityManager.persist(screening);
+					OptionalLong overlap = timetables.get(screen.getId())
+						.add(screening.getId(), screening.getScreenedAt(), screening.getEndedAt());
+					if (overlap.isPresent()) {
+						log.info("Screening overlapped. screenId={}, screenedAt={}, overlappedScreeningId={}",
+							screen.getId(), screenedAt, overlap.getAsLong());
+						throw BusinessException.SCREENING_OVERLAPPED;
+					}
+					screeningTimetableIndex.add(screen.getId(), screening.getId(), screening.getScreenedAt(), screening.getEndedAt());
+					if (++createdCount % batchSize == 0) {
+						flushAndClear();	// movie, screen 은 준영속 상태가 되지만 외래 키로만 사용
+					}
+				}
+			}
+		}
+		flushAndClear();
+
+		long elapsedMillis = Math.max(1, Duration.ofNanos(System.nanoTime() - startNanos).toMillis());
+		log.info("Created {} screenings in {}ms ({} rows/s)", createdCount, elapsedMillis, createdCount * 1000L / elapsedMillis);
+		return createdCount;
+	}
+
+	public List<ScreeningTimetable.FreeSlot> findFreeSlots(long screenId, LocalDate date, int minMinutes) {
+		return screeningTimetableIndex.findFreeSlots(screenId, date, Duration.ofMinutes(minMinutes));
+	}
+
+	private void flushAndClear() {
+		entityManager.flush();
+		entityManager.clear();
+	}
+}
@@ -0,0 +1,36 @@
+package com.example.moviebox.screening.service;
+
+import com.example.moviebox.exception.BusinessException;
+import com.example.moviebox.screening.domain.*;
+import java.util.*;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+// 좌석 변경 트랜잭션 - 다른 트랜잭션과 충돌하면 커밋 시 OptimisticLockingFailureException (재시도는 ScreeningSeatUpdater)
+@RequiredArgsConstructor
+@Service
+public class ScreeningSeatService {
+	private final ScreeningRepository screeningRepository;
+
+	// 한 트랜잭션에서 여러 상영의 좌석 변경분을 현재 저장된 bitmap 에 반영
+	// 이미 예약된 좌석을 새로 예약한 상영은 저장하지 않고, 그 상영의 현재 bitmap 을 돌려준다.
+	@Transactional
+	public Map<Long, SeatMap> saveSeatChanges(Map<Long, SeatMapChange> changes) {
+		List<Screening> screenings = screeningRepository.findAllById(changes.keySet());
+		if (screenings.size() != changes.size()) {
+			throw BusinessException.SCREENING_NOT_FOUND;
+		}
+		Map<Long, SeatMap> conflicts = new HashMap<>();
+		for (Screening screening : screenings) {
+			SeatMapChange change = changes.get(screening.getId());
+			SeatMap current = screening.requireSeatMap();
+			if (change.conflictsWith(current)) {
+				conflicts.put(screening.getId(), current.copy());
+			} else {
+				screening.changeSeatMap(change.applyTo(current));
+			}
+		}
+		return conflicts;
+	}
+}
@@ -0,0 +1,80 @@
+package com.example.moviebox.screening.service;
+
+import com.example.moviebox.exception.BusinessException;
+import com.example.moviebox.screening.domain.*;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+// 좌석 변경 시 version 충돌이 나면 최신 상태를 다시 읽어 같은 변경을 적용 (비관적 lock 없이)
+// 재시도 간격은 지수적으로 늘리되 0 ~ 간격 사이에서 임의로 골라 충돌한 요청들이 다시 동시에 몰리지 않게 한다.
+// 좌석은 SeatReservationEngine 을 통해서만 바꾼다. (메모리 좌석 상태와 어긋나는 다른 쓰기 경로를 두지 않음)
+@Slf4j
+@Component
+public class ScreeningSeatUpdater {
+	private final ScreeningSeatService screeningSeatService;
+	private final int maxAttempts;
+	private final long initialBackoffMillis;
+	private final long maxBackoffMillis;
+
+	private final AtomicLong conflictCount = new AtomicLong();
+	private final AtomicLong exhaustedCount = new AtomicLong();
+
+	public ScreeningSeatUpdater(final ScreeningSeatService screeningSeatService,
+		@Value("${screening.seat-update.max-attempts:5}") int maxAttempts,
+		@Value("${screening.seat-update.initial-backoff-millis:10}") long initialBackoffMillis,
+		@Value("${screening.seat-update.max-backoff-millis:200}") long maxBackoffMillis) {
+		this.screeningSeatService = screeningSeatService;
+		this.maxAttempts = maxAttempts;
+		this.initialBackoffMillis = initialBackoffMillis;
+		this.maxBackoffMillis = maxBackoffMillis;
+	}
+
+	// 이미 예약된 좌석과 겹쳐 저장하지 못한 상영의 현재 bitmap
+	public Map<Long, SeatMap> saveSeatChanges(Map<Long, SeatMapChange> changes) {
+		return execute(() -> screeningSeatService.saveSeatChanges(changes));
+	}
+
+	public long getConflictCount() {
+		return conflictCount.get();
+	}
+
+	public long getExhaustedCount() {
+		return exhaustedCount.get();
+	}
+
+	private <T> T execute(Supplier<T> update) {
+		for (int attempt = 1; ; attempt++) {
+			try {
+				return update.get();
+			} catch (OptimisticLockingFailureException e) {
+				conflictCount.incrementAndGet();
+				if (attempt >= maxAttempts) {
+					exhaustedCount.incrementAndGet();
+					log.warn("Seat update conflict, give up after {} attempts", attempt);
+					throw BusinessException.SEAT_UPDATE_CONFLICT;
+				}
+				sleep(backoffMillis(attempt));
+			}
+		}
+	}
+
+	private long backoffMillis(int attempt) {
+		long backoff = Math.min(maxBackoffMillis, initialBackoffMillis << Math.min(attempt - 1, 20));
+		return ThreadLocalRandom.current().nextLong(backoff + 1);
+	}
+
+	private void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw BusinessException.SEAT_UPDATE_CONFLICT;
+		}
+	}
+}
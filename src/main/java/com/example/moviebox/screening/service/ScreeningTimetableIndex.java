@@ -0,0 +1,79 @@
+package com.example.moviebox.screening.service;
+
+import com.example.moviebox.exception.BusinessException;
+import com.example.moviebox.screening.domain.*;
+import java.time.*;
+import java.util.*;
+import com.github.benmanes.caffeine.cache.*;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.*;
+
+// 상영관별 상영 시간표 (메모리) - 처음 조회할 때 DB 에서 아직 끝나지 않은 상영으로 만들고, 이후 상영을 추가할 때 함께 갱신한다.
+// 트랜잭션 안에서 추가한 상영은 롤백되면 해당 상영관의 시간표를 버리고 다음 조회 때 다시 만든다.
+// 서버마다 따로 가지므로 다른 서버에서 추가된 상영은 refresh-seconds 이후 다시 만들 때 반영된다.
+// (상영을 저장할 때는 ScreeningScheduleService 가 DB 에서 다시 확인한다.)
+@Slf4j
+@Component
+public class ScreeningTimetableIndex {
+	private final ScreeningRepository screeningRepository;
+	private final Cache<Long, ScreeningTimetable> timetables;
+
+	public ScreeningTimetableIndex(final ScreeningRepository screeningRepository,
+		@Value("${screening.timetable.refresh-seconds:60}") long refreshSeconds) {
+		this.screeningRepository = screeningRepository;
+		this.timetables = Caffeine.newBuilder()
+			.expireAfterWrite(Duration.ofSeconds(refreshSeconds))
+			.build();
+	}
+
+	// 겹치는 상영이 있으면 SCREENING_OVERLAPPED
+	public void add(long screenId, long screeningId, LocalDateTime start, LocalDateTime end) {
+		OptionalLong overlap = get(screenId).add(screeningId, start, end);
+		if (overlap.isPresent()) {
+			log.info("Screening overlapped. screenId={}, start={}, end={}, overlappedScreeningId={}",
+				screenId, start, end, overlap.getAsLong());
+			throw BusinessException.SCREENING_OVERLAPPED;
+		}
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCompletion(int status) {
+					if (status != STATUS_COMMITTED) {
+						evict(screenId);
+					}
+				}
+			});
+		}
+	}
+
+	// 하루(0시 ~ 다음날 0시) 중 상영이 없는 구간
+	public List<ScreeningTimetable.FreeSlot> findFreeSlots(long screenId, LocalDate date, Duration minLength) {
+		return get(screenId).findFreeSlots(date.atStartOfDay(), date.plusDays(1).atStartOfDay(), minLength);
+	}
+
+	public void evict(long screenId) {
+		timetables.invalidate(screenId);
+	}
+
+	private ScreeningTimetable get(long screenId) {
+		return timetables.get(screenId, this::load);
+	}
+
+	// 지난 상영은 겹침 확인이나 빈 시간 조회에 쓰이지 않으므로 불러오지 않는다.
+	private ScreeningTimetable load(long screenId) {
+		return toTimetable(screeningRepository.findTimesByScreenId(screenId, LocalDateTime.now()));
+	}
+
+	// 겹치는 기존 상영(색인 도입 전에 만들어진 상영)은 하나의 구간으로 합친다.
+	static ScreeningTimetable toTimetable(List<ScreeningTime> screenings) {
+		ScreeningTimetable timetable = new ScreeningTimetable();
+		for (ScreeningTime screening : screenings) {
+			if (screening.getScreenedAt().isBefore(screening.getEndedAt())) {
+				timetable.addExisting(screening.getId(), screening.getScreenedAt(), screening.getEndedAt());
+			}
+		}
+		return timetable;
+	}
+}
@@ -0,0 +1,98 @@
+package com.example.moviebox.screening.service;
+
+import com.example.moviebox.exception.BusinessException;
+import com.example.moviebox.screen.domain.SeatLayout;
+import com.example.moviebox.screening.domain.*;
+import java.time.*;
+import java.util.*;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+// 결제 전 좌석 임시 점유 - 점유(hold) -> 결제 완료 시 예약 확정(confirm) 또는 취소(release)
+// 점유 중인 좌석은 SeatReservationEngine 이 다른 사용자의 예약을 거절한다.
+// 점유는 Redis 에 먼저 기록한 뒤 예약 여부를 다시 확인하고, 예약은 좌석을 먼저 선점한 뒤 점유 여부를 확인하므로
+// 같은 좌석의 점유와 예약이 동시에 들어와도 둘 다 성공하지는 않는다.
+@Service
+public class SeatHoldService {
+	private static final int MAX_SEAT_COUNT = 10;
+
+	private final SeatHoldStore seatHoldStore;
+	private final SeatReservationEngine seatReservationEngine;
+	private final Duration holdDuration;
+
+	public SeatHoldService(final SeatHoldStore seatHoldStore,
+		final SeatReservationEngine seatReservationEngine,
+		@Value("${screening.seat-hold.ttl-seconds:300}") long ttlSeconds) {
+		this.seatHoldStore = seatHoldStore;
+		this.seatReservationEngine = seatReservationEngine;
+		this.holdDuration = Duration.ofSeconds(ttlSeconds);
+	}
+
+	public SeatHold hold(long screeningId, List<String> seatNames) {
+		if (seatNames.isEmpty() || seatNames.size() > MAX_SEAT_COUNT || new HashSet<>(seatNames).size() != seatNames.size()) {
+			throw BusinessException.INVALID_SEAT_COUNT;
+		}
+		SeatLayout layout = seatReservationEngine.getSeatLayout(screeningId);
+		int[] ordinals = new int[seatNames.size()];
+		for (int i = 0; i < ordinals.length; i++) {
+			ordinals[i] = layout.ordinalOf(seatNames.get(i));
+			if (ordinals[i] < 0) {
+				throw BusinessException.SEAT_NOT_FOUND;
+			}
+		}
+		if (isAnyReserved(screeningId, ordinals)) {
+			throw BusinessException.SEAT_ALREADY_RESERVED;
+		}
+
+		String holdId = UUID.randomUUID().toString();
+		long expiresAt = System.currentTimeMillis() + holdDuration.toMillis();
+		if (!seatHoldStore.hold(screeningId, holdId, expiresAt, ordinals)) {
+			throw BusinessException.SEAT_ALREADY_HELD;
+		}
+		if (isAnyReserved(screeningId, ordinals)) {	// 확인과 점유 사이에 예약된 좌석이 있으면 점유를 되돌린다.
+			seatHoldStore.release(screeningId, holdId);
+			throw BusinessException.SEAT_ALREADY_RESERVED;
+		}
+		return new SeatHold(holdId, screeningId, List.copyOf(seatNames),
+			LocalDateTime.ofInstant(Instant.ofEpochMilli(expiresAt), ZoneId.systemDefault()));
+	}
+
+	// 결제 완료 - 점유한 좌석 전체를 예약으로 확정하고 예약한 좌석을 반환 (점유가 만료되었으면 SEAT_HOLD_EXPIRED)
+	// DB 에 저장하지 못하면 예외가 나고 점유는 그대로 남는다.
+	public List<String> confirm(long screeningId, String holdId) {
+		List<Integer> ordinals = seatHoldStore.findHeldOrdinals(screeningId, holdId);
+		if (ordinals.isEmpty()) {
+			throw BusinessException.SEAT_HOLD_EXPIRED;
+		}
+		SeatLayout layout = seatReservationEngine.getSeatLayout(screeningId);
+		List<String> seatNames = new ArrayList<>(ordinals.size());
+		ordinals.stream().sorted().forEach(ordinal -> seatNames.add(layout.nameOf(ordinal)));
+		seatReservationEngine.reserve(screeningId, seatNames, holdId);
+		seatHoldStore.release(screeningId, holdId);
+		return seatNames;
+	}
+
+	// 결제 취소/이탈 - 점유한 좌석 전체를 한 번에 해제
+	public void release(long screeningId, String holdId) {
+		seatHoldStore.release(screeningId, holdId);
+	}
+
+	// 예매할 수 없는 좌석 = DB(예약 엔진)에 예약된 좌석 + 점유 중인 좌석
+	public SeatMap getUnavailableSeats(long screeningId) {
+		SeatMap seatMap = seatReservationEngine.getSeatMap(screeningId);
+		for (int ordinal : seatHoldStore.findActiveOrdinals(screeningId)) {
+			seatMap.reserve(ordinal);
+		}
+		return seatMap;
+	}
+
+	private boolean isAnyReserved(long screeningId, int[] ordinals) {
+		SeatMap reserved = seatReservationEngine.getSeatMap(screeningId);
+		for (int ordinal : ordinals) {
+			if (reserved.isReserved(ordinal)) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
@@ -0,0 +1,168 @@
+package com.example.moviebox.screening.service;
+
+import java.util.*;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.*;
+import org.springframework.stereotype.Component;
+
+// 결제 전 좌석 임시 점유 저장소 (Redis)
+// 상영마다 hash 하나 - field: 좌석 번호, value: "holdId:만료 시각(ms)"
+// 만료된 field 는 빈 좌석으로 보고, 다음 점유나 조회 때 지운다. hash 자체는 마지막 점유가 만료되면 함께 사라진다.
+@Component
+public class SeatHoldStore {
+	private static final String KEY_PREFIX = "SH:";
+
+	// 좌석 묶음 전체를 점유하거나, 다른 점유가 살아있는 좌석이 하나라도 있으면 아무것도 점유하지 않는다.
+	// ARGV: holdId, 현재 시각(ms), 만료 시각(ms), 좌석 번호...
+	private static final RedisScript<Long> HOLD_SCRIPT = new DefaultRedisScript<>(
+		"local now = tonumber(ARGV[2]) "
+			+ "for i = 4, #ARGV do "
+			+ "local v = redis.call('HGET', KEYS[1], ARGV[i]) "
+			+ "if v then "
+			+ "local sep = string.find(v, ':', 1, true) "
+			+ "if tonumber(string.sub(v, sep + 1)) > now and string.sub(v, 1, sep - 1) ~= ARGV[1] then "
+			+ "return 0 "
+			+ "end "
+			+ "end "
+			+ "end "
+			+ "local value = ARGV[1] .. ':' .. ARGV[3] "
+			+ "for i = 4, #ARGV do "
+			+ "redis.call('HSET', KEYS[1], ARGV[i], value) "
+			+ "end "
+			+ "local ttl = tonumber(ARGV[3]) - now "
+			+ "if redis.call('PTTL', KEYS[1]) < ttl then "
+			+ "redis.call('PEXPIRE', KEYS[1], ttl) "
+			+ "end "
+			+ "return 1", Long.class);
+
+	// 예약 가능 여부 - 1: 가능, 0: 다른 점유가 살아있는 좌석이 있음, -1: holdId 의 점유가 아니거나 만료된 좌석이 있음
+	// ARGV: holdId (없으면 ''), 현재 시각(ms), 좌석 번호...
+	private static final RedisScript<Long> CHECK_SCRIPT = new DefaultRedisScript<>(
+		"local now = tonumber(ARGV[2]) "
+			+ "local result = 1 "
+			+ "for i = 3, #ARGV do "
+			+ "local v = redis.call('HGET', KEYS[1], ARGV[i]) "
+			+ "local owner = nil "
+			+ "if v then "
+			+ "local sep = string.find(v, ':', 1, true) "
+			+ "if tonumber(string.sub(v, sep + 1)) > now then owner = string.sub(v, 1, sep - 1) end "
+			+ "end "
+			+ "if owner and owner ~= ARGV[1] then return 0 end "
+			+ "if ARGV[1] ~= '' and not owner then result = -1 end "
+			+ "end "
+			+ "return result", Long.class);
+
+	// 점유 중인 좌석 번호 목록 (만료된 field 는 삭제)
+	// ARGV: 현재 시각(ms)
+	@SuppressWarnings("rawtypes")
+	private static final RedisScript<List> ACTIVE_SCRIPT = new DefaultRedisScript<>(
+		"local now = tonumber(ARGV[1]) "
+			+ "local entries = redis.call('HGETALL', KEYS[1]) "
+			+ "local active = {} "
+			+ "for i = 1, #entries, 2 do "
+			+ "local v = entries[i + 1] "
+			+ "if tonumber(string.sub(v, string.find(v, ':', 1, true) + 1)) > now then "
+			+ "active[#active + 1] = entries[i] "
+			+ "else "
+			+ "redis.call('HDEL', KEYS[1], entries[i]) "
+			+ "end "
+			+ "end "
+			+ "return active", List.class);
+
+	// holdId 로 점유 중인 좌석 번호 목록 (만료된 좌석 제외)
+	// ARGV: holdId, 현재 시각(ms)
+	@SuppressWarnings("rawtypes")
+	private static final RedisScript<List> HELD_SCRIPT = new DefaultRedisScript<>(
+		"local prefix = ARGV[1] .. ':' "
+			+ "local now = tonumber(ARGV[2]) "
+			+ "local entries = redis.call('HGETALL', KEYS[1]) "
+			+ "local held = {} "
+			+ "for i = 1, #entries, 2 do "
+			+ "local v = entries[i + 1] "
+			+ "if string.sub(v, 1, #prefix) == prefix and tonumber(string.sub(v, #prefix + 1)) > now then "
+			+ "held[#held + 1] = entries[i] "
+			+ "end "
+			+ "end "
+			+ "return held", List.class);
+
+	// 한 점유의 좌석을 모두 해제
+	// ARGV: holdId
+	private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+		"local prefix = ARGV[1] .. ':' "
+			+ "local entries = redis.call('HGETALL', KEYS[1]) "
+			+ "local released = 0 "
+			+ "for i = 1, #entries, 2 do "
+			+ "if string.sub(entries[i + 1], 1, #prefix) == prefix then "
+			+ "redis.call('HDEL', KEYS[1], entries[i]) "
+			+ "released = released + 1 "
+			+ "end "
+			+ "end "
+			+ "return released", Long.class);
+
+	private final RedisTemplate<String, String> redisTemplate;
+
+	public SeatHoldStore(@Qualifier("redisTemplate") final RedisTemplate<String, String> redisTemplate) {
+		this.redisTemplate = redisTemplate;
+	}
+
+	public boolean hold(long screeningId, String holdId, long expiresAt, int[] ordinals) {
+		List<String> args = new ArrayList<>(ordinals.length + 3);
+		args.add(holdId);
+		args.add(String.valueOf(System.currentTimeMillis()));
+		args.add(String.valueOf(expiresAt));
+		for (int ordinal : ordinals) {
+			args.add(String.valueOf(ordinal));
+		}
+		return Long.valueOf(1L).equals(redisTemplate.execute(HOLD_SCRIPT, key(screeningId), args.toArray()));
+	}
+
+	// holdId 가 null 이면 다른 점유가 없는지만 확인
+	public HoldCheck check(long screeningId, int[] ordinals, String holdId) {
+		List<String> args = new ArrayList<>(ordinals.length + 2);
+		args.add(holdId == null ? "" : holdId);
+		args.add(String.valueOf(System.currentTimeMillis()));
+		for (int ordinal : ordinals) {
+			args.add(String.valueOf(ordinal));
+		}
+		Long result = redisTemplate.execute(CHECK_SCRIPT, key(screeningId), args.toArray());
+		if (Long.valueOf(0L).equals(result)) {
+			return HoldCheck.HELD_BY_OTHERS;
+		}
+		return Long.valueOf(1L).equals(result) ? HoldCheck.AVAILABLE : HoldCheck.NOT_HELD;
+	}
+
+	public List<Integer> findActiveOrdinals(long screeningId) {
+		return toOrdinals(redisTemplate.execute(ACTIVE_SCRIPT, key(screeningId),
+			String.valueOf(System.currentTimeMillis())));
+	}
+
+	public List<Integer> findHeldOrdinals(long screeningId, String holdId) {
+		return toOrdinals(redisTemplate.execute(HELD_SCRIPT, key(screeningId), holdId,
+			String.valueOf(System.currentTimeMillis())));
+	}
+
+	public void release(long screeningId, String holdId) {
+		redisTemplate.execute(RELEASE_SCRIPT, key(screeningId), holdId);
+	}
+
+	private static List<Integer> toOrdinals(List<?> values) {
+		List<Integer> ordinals = new ArrayList<>();
+		if (values != null) {
+			for (Object ordinal : values) {
+				ordinals.add(Integer.parseInt(String.valueOf(ordinal)));
+			}
+		}
+		return ordinals;
+	}
+
+	private static List<String> key(long screeningId) {
+		return Collections.singletonList(KEY_PREFIX + screeningId);
+	}
+
+	public enum HoldCheck {
+		AVAILABLE,
+		HELD_BY_OTHERS,
+		NOT_HELD	// 점유가 만료되었거나 다른 좌석의 점유
+	}
+}
@@ -0,0 +1,33 @@
+package com.example.moviebox.screening.service;
+
+import com.example.moviebox.exception.BusinessException;
+import com.example.moviebox.screen.domain.SeatLayout;
+import com.example.moviebox.screening.domain.*;
+import java.util.*;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+// "N 명 나란히" 좌석 추천 - 예약/점유된 좌석을 제외하고 상영관 가운데에 가까운 묶음
+@RequiredArgsConstructor
+@Service
+public class SeatRecommendationService {
+	private static final int MAX_SEAT_COUNT = 10;
+
+	private final SeatReservationEngine seatReservationEngine;
+	private final SeatHoldService seatHoldService;
+
+	public List<String> recommend(long screeningId, int count) {
+		if (count < 1 || count > MAX_SEAT_COUNT) {
+			throw BusinessException.INVALID_SEAT_COUNT;
+		}
+		SeatLayout layout = seatReservationEngine.getSeatLayout(screeningId);
+		int first = SeatFinder.findBest(layout, seatHoldService.getUnavailableSeats(screeningId), count)
+			.orElseThrow(() -> BusinessException.CONTIGUOUS_SEATS_NOT_FOUND);
+
+		List<String> seatNames = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			seatNames.add(layout.nameOf(first + i));
+		}
+		return seatNames;
+	}
+}
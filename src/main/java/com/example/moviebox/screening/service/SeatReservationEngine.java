@@ -0,0 +1,165 @@
+package com.example.moviebox.screening.service;
+
+import com.example.moviebox.exception.BusinessException;
+import com.example.moviebox.screen.domain.SeatLayout;
+import com.example.moviebox.screen.service.SeatLayoutCache;
+import com.example.moviebox.screening.domain.*;
+import com.github.benmanes.caffeine.cache.*;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// 상영별 좌석 상태를 메모리(ConcurrentSeatMap)에 올려두고 먼저 선점 - 같은 좌석을 잡으려는 요청은 DB 에 가기 전에 lock 없이 거절한다.
+// 선점한 좌석은 응답 전에 DB 의 현재 bitmap 에 변경분만 반영한다. (version 충돌 시 ScreeningSeatUpdater 가 재시도)
+// 다른 서버가 먼저 예약했거나 저장하지 못하면 선점을 되돌리고 예약을 실패시키므로, 저장되지 않은 예약은 없다.
+// 다른 서버가 바꾼 좌석은 refresh-millis 가 지난 상영을 다시 쓸 때 DB 에서 읽어 반영한다.
+// 메모리에는 최근에 쓴 상영만 maximum-size 개까지, idle-seconds 동안 둔다.
+@Component
+public class SeatReservationEngine {
+	private final ScreeningRepository screeningRepository;
+	private final ScreeningSeatUpdater screeningSeatUpdater;
+	private final SeatHoldStore seatHoldStore;
+	private final SeatLayoutCache seatLayoutCache;
+	private final long refreshMillis;
+
+	private final Cache<Long, ActiveScreening> activeScreenings;
+
+	public SeatReservationEngine(final ScreeningRepository screeningRepository,
+		final ScreeningSeatUpdater screeningSeatUpdater,
+		final SeatHoldStore seatHoldStore,
+		final SeatLayoutCache seatLayoutCache,
+		@Value("${screening.reservation.refresh-millis:1000}") long refreshMillis,
+		@Value("${screening.reservation.cache.maximum-size:1000}") long maximumSize,
+		@Value("${screening.reservation.cache.idle-seconds:600}") long idleSeconds) {
+		this.screeningRepository = screeningRepository;
+		this.screeningSeatUpdater = screeningSeatUpdater;
+		this.seatHoldStore = seatHoldStore;
+		this.seatLayoutCache = seatLayoutCache;
+		this.refreshMillis = refreshMillis;
+		this.activeScreenings = Caffeine.newBuilder()
+			.maximumSize(maximumSize)
+			.expireAfterAccess(Duration.ofSeconds(idleSeconds))
+			.build();
+	}
+
+	// 결제 완료 - 모든 좌석을 예약하거나, 하나라도 예약할 수 없으면 아무것도 예약하지 않는다.
+	// 다른 사용자가 점유 중인 좌석은 예약하지 않고, 모든 좌석이 holdId 의 점유여야 한다.
+	// 좌석을 먼저 선점한 뒤 점유를 확인하므로, 그 사이에 들어온 점유는 SeatHoldService.hold 가 되돌린다.
+	public void reserve(long screeningId, List<String> seatNames, String holdId) {
+		ActiveScreening screening = load(screeningId);
+		if (!LocalDateTime.now().isBefore(screening.endedAt)) {
+			throw BusinessException.SCREENING_ALREADY_ENDED;
+		}
+		int[] ordinals = screening.ordinalsOf(seatNames);
+		if (!screening.seats.tryReserve(ordinals)) {
+			throw BusinessException.SEAT_ALREADY_RESERVED;
+		}
+
+		Map<Long, SeatMap> conflicts;
+		try {
+			SeatHoldStore.HoldCheck holdCheck = seatHoldStore.check(screeningId, ordinals, holdId);
+			if (holdCheck != SeatHoldStore.HoldCheck.AVAILABLE) {
+				throw holdCheck == SeatHoldStore.HoldCheck.HELD_BY_OTHERS
+					? BusinessException.SEAT_ALREADY_HELD : BusinessException.SEAT_HOLD_EXPIRED;
+			}
+			conflicts = screeningSeatUpdater.saveSeatChanges(Map.of(screeningId, screening.reserveChange(ordinals)));
+		} catch (RuntimeException e) {
+			screening.seats.release(ordinals);
+			throw e;
+		}
+
+		SeatMap current = conflicts.get(screeningId);
+		if (current != null) {	// 다른 서버가 먼저 예약한 좌석 - 선점을 되돌리고 DB 상태에 맞춘다.
+			screening.seats.release(ordinals);
+			screening.sync(current);
+			throw BusinessException.SEAT_ALREADY_RESERVED;
+		}
+		screening.saved(ordinals);
+	}
+
+	public SeatMap getSeatMap(long screeningId) {
+		return load(screeningId).seats.snapshot();
+	}
+
+	public SeatLayout getSeatLayout(long screeningId) {
+		return load(screeningId).layout;
+	}
+
+	private ActiveScreening load(long screeningId) {
+		ActiveScreening screening = activeScreenings.get(screeningId, id -> screeningRepository.findById(id)
+			.map(loaded -> new ActiveScreening(loaded, seatLayoutCache.get(loaded.getScreen())))
+			.orElseThrow(() -> BusinessException.SCREENING_NOT_FOUND));
+		if (screening.startRefresh(refreshMillis)) {	// 한 요청만 다시 읽고, 나머지는 지금 상태를 쓴다.
+			Optional<Screening> loaded = screeningRepository.findById(screeningId);
+			if (loaded.isEmpty()) {
+				activeScreenings.invalidate(screeningId);
+				throw BusinessException.SCREENING_NOT_FOUND;
+			}
+			screening.sync(loaded.get().requireSeatMap());
+		}
+		return screening;
+	}
+
+	private static class ActiveScreening {
+		private final SeatLayout layout;
+		private final ConcurrentSeatMap seats;
+		private final LocalDateTime endedAt;
+		private final AtomicLong refreshedAt = new AtomicLong(System.currentTimeMillis());
+		private SeatMap saved;	// 마지막으로 확인한 DB 상태 (sync, saved 에서만 변경)
+
+		private ActiveScreening(Screening screening, SeatLayout layout) {
+			this.layout = layout;
+			this.saved = screening.requireSeatMap().copy();
+			this.seats = ConcurrentSeatMap.from(saved);
+			this.endedAt = screening.getEndedAt();
+		}
+
+		private boolean startRefresh(long refreshMillis) {
+			long now = System.currentTimeMillis();
+			long last = refreshedAt.get();
+			return now - last >= refreshMillis && refreshedAt.compareAndSet(last, now);
+		}
+
+		// 다른 서버의 예약/해제를 반영한다. 이 서버에서 선점 중인 좌석은 그대로 둔다. (DB 에 반영할 때 충돌을 확인)
+		private synchronized void sync(SeatMap current) {
+			for (int ordinal = 0; ordinal < Math.min(current.size(), seats.size()); ordinal++) {
+				boolean reserved = current.isReserved(ordinal);
+				if (reserved && !saved.isReserved(ordinal)) {
+					seats.tryReserve(ordinal);
+				} else if (!reserved && saved.isReserved(ordinal)) {
+					seats.release(ordinal);
+				}
+			}
+			saved = current.copy();
+		}
+
+		private synchronized void saved(int[] ordinals) {
+			for (int ordinal : ordinals) {
+				saved.reserve(ordinal);
+			}
+		}
+
+		// 선점한 좌석만 비어있음 -> 예약으로 바꾸는 변경분 (나머지 좌석은 DB 의 현재 상태를 그대로 둔다)
+		private SeatMapChange reserveChange(int[] ordinals) {
+			SeatMap after = SeatMap.empty(seats.size());
+			for (int ordinal : ordinals) {
+				after.reserve(ordinal);
+			}
+			return new SeatMapChange(SeatMap.empty(seats.size()), after);
+		}
+
+		private int[] ordinalsOf(List<String> seatNames) {
+			int[] ordinals = new int[seatNames.size()];
+			for (int i = 0; i < ordinals.length; i++) {
+				ordinals[i] = layout.ordinalOf(seatNames.get(i));
+				if (ordinals[i] < 0) {
+					throw BusinessException.SEAT_NOT_FOUND;
+				}
+			}
+			return ordinals;
+		}
+	}
+}
@@ -41,6 +41,10 @@ public class User extends BaseTimeEntity {
 			.build();
 	}
 
+	public void changePassword(String encodingPassword) {
+		password = encodingPassword;
+	}
+
 	public void completeEmailAuthentication() {
 		isEmailAuth = true;
 		emailAuthDate = LocalDateTime.now();
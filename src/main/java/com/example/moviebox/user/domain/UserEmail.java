@@ -0,0 +1,6 @@
+package com.example.moviebox.user.domain;
+
+public interface UserEmail {	// 회원 번호, 이메일만 조회 (projection)
+	long getId();
+	String getEmail();
+}
@@ -1,11 +1,25 @@
 package com.example.moviebox.user.domain;
 
-import java.util.Optional;
-import org.springframework.data.jpa.repository.JpaRepository;
+import java.util.*;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
 
 	boolean existsByEmail(String email);
+	@Transactional(readOnly = true)	// 트랜잭션이 끝나면 DB 연결을 돌려준다. (로그인은 이 조회 뒤 트랜잭션 밖에서 비밀번호를 확인)
 	Optional<User> findByEmail(String email);
 	Optional<User> findByEmailAuthKey(String emailAuthKey);
+
+	@Query("select u.id as id, u.email as email from User u where u.id > :id order by u.id")
+	List<UserEmail> findEmailsByIdGreaterThan(@Param("id") long id, Pageable pageable);
+
+	// 그 사이 비밀번호가 바뀌지 않았을 때만 변경 (로그인 시 다시 해싱한 비밀번호 저장)
+	@Transactional
+	@Modifying
+	@Query("update User u set u.password = :newPassword where u.id = :id and u.password = :oldPassword")
+	int changePasswordIfUnchanged(@Param("id") long id, @Param("oldPassword") String oldPassword,
+		@Param("newPassword") String newPassword);
 }
@@ -0,0 +1,53 @@
+package com.example.moviebox.utils;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// 문자열 집합의 Bloom filter (스레드 안전)
+// mightContain 이 false 이면 한 번도 put 되지 않은 값이고, true 이면 falsePositiveRate 확률로 잘못된 응답일 수 있다.
+public class BloomFilter {
+	private final AtomicLongArray bits;
+	private final long bitSize;
+	private final int hashCount;
+
+	public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+		long optimalBitSize = (long)Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+		int wordCount = (int)Math.max(1, (optimalBitSize + 63) / 64);
+		this.bits = new AtomicLongArray(wordCount);
+		this.bitSize = wordCount * 64L;
+		this.hashCount = Math.max(1, (int)Math.round((double)bitSize / expectedInsertions * Math.log(2)));
+	}
+
+	public void put(String value) {
+		ByteBuffer digest = ByteBuffer.wrap(HashUtils.sha256(value));
+		long hash1 = digest.getLong();
+		long hash2 = digest.getLong();
+		for (int i = 0; i < hashCount; i++) {
+			long bitIndex = Math.floorMod(hash1 + i * hash2, bitSize);
+			setBit((int)(bitIndex >>> 6), 1L << bitIndex);
+		}
+	}
+
+	public boolean mightContain(String value) {
+		ByteBuffer digest = ByteBuffer.wrap(HashUtils.sha256(value));
+		long hash1 = digest.getLong();
+		long hash2 = digest.getLong();
+		for (int i = 0; i < hashCount; i++) {
+			long bitIndex = Math.floorMod(hash1 + i * hash2, bitSize);
+			if ((bits.get((int)(bitIndex >>> 6)) & (1L << bitIndex)) == 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private void setBit(int wordIndex, long mask) {
+		long word;
+		do {
+			word = bits.get(wordIndex);
+			if ((word & mask) != 0) {
+				return;
+			}
+		} while (!bits.compareAndSet(wordIndex, word, word | mask));
+	}
+}
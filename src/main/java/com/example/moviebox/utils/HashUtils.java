@@ -0,0 +1,27 @@
+package com.example.moviebox.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.*;
+
+public final class HashUtils {
+	private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	});
+
+	private HashUtils() {
+	}
+
+	// 32 byte 고정 길이 digest
+	public static byte[] sha256(String value) {
+		return SHA_256.get().digest(value.getBytes(StandardCharsets.UTF_8));
+	}
+
+	// 비교 시간이 값에 따라 달라지지 않는 비교
+	public static boolean constantTimeEquals(byte[] a, byte[] b) {
+		return MessageDigest.isEqual(a, b);
+	}
+}
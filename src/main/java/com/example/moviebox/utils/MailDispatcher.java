@@ -0,0 +1,214 @@
+package com.example.moviebox.utils;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.*;
+import org.springframework.stereotype.Component;
+
+// 메일 비동기 발송 (bounded queue + worker pool)
+// worker 는 큐에 쌓인 메일을 batch-size 개까지 모아 SMTP 연결 하나로 발송한다.
+// 발송에 실패하면 지수적으로 늘어나는 간격으로 재시도하고, 큐가 가득 차면 즉시 실패 처리한다.
+@Slf4j
+@Component
+public class MailDispatcher {
+	private final MailUtils mailUtils;
+	private final BlockingQueue<Delivery> queue;
+	private final ExecutorService workers;
+	private final ScheduledExecutorService retryScheduler;
+	private final int batchSize;
+	private final int maxAttempts;
+	private final long initialBackoffMillis;
+
+	private final AtomicLong sentCount = new AtomicLong();
+	private final AtomicLong failedCount = new AtomicLong();
+	private final AtomicLong rejectedCount = new AtomicLong();
+	private final AtomicLong retryCount = new AtomicLong();
+	private final AtomicLong batchCount = new AtomicLong();
+	private final LongAdder sendLatencyNanos = new LongAdder();
+	private final AtomicLong maxSendLatencyNanos = new AtomicLong();
+
+	public MailDispatcher(final MailUtils mailUtils,
+		@Value("${mail.dispatcher.workers:2}") int workerCount,
+		@Value("${mail.dispatcher.queue-capacity:1000}") int queueCapacity,
+		@Value("${mail.dispatcher.batch-size:50}") int batchSize,
+		@Value("${mail.dispatcher.max-attempts:3}") int maxAttempts,
+		@Value("${mail.dispatcher.initial-backoff-millis:1000}") long initialBackoffMillis) {
+		this.mailUtils = mailUtils;
+		this.queue = new ArrayBlockingQueue<>(queueCapacity);
+		this.batchSize = batchSize;
+		this.maxAttempts = maxAttempts;
+		this.initialBackoffMillis = initialBackoffMillis;
+		this.workers = Executors.newFixedThreadPool(workerCount, namedThreadFactory("mail-dispatcher-"));
+		this.retryScheduler = Executors.newSingleThreadScheduledExecutor(namedThreadFactory("mail-retry-"));
+		for (int i = 0; i < workerCount; i++) {
+			workers.execute(this::drain);
+		}
+	}
+
+	public CompletableFuture<Void> dispatch(MailMessage message) {
+		CompletableFuture<Void> result = new CompletableFuture<>();
+		submit(new Delivery(message, result));
+		return result;
+	}
+
+	private void submit(Delivery delivery) {
+		if (!queue.offer(delivery)) {
+			rejectedCount.incrementAndGet();
+			log.error("Mail queue is full. to={}", delivery.message.getTo());
+			delivery.result.completeExceptionally(new RejectedExecutionException("Mail queue is full"));
+		}
+	}
+
+	private void drain() {
+		List<Delivery> batch = new ArrayList<>(batchSize);
+		try {
+			while (!Thread.currentThread().isInterrupted()) {
+				batch.add(queue.take());
+				queue.drainTo(batch, batchSize - 1);
+				try {
+					send(batch);
+				} catch (RuntimeException e) {	// 예상하지 못한 오류로 worker 가 종료되지 않도록 해당 batch 만 실패 처리
+					failBatch(batch, e);
+				}
+				batch.clear();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void send(List<Delivery> batch) {
+		List<MailMessage> messages = new ArrayList<>(batch.size());
+		batch.forEach(delivery -> messages.add(delivery.message));
+
+		long startedAt = System.nanoTime();
+		Map<MailMessage, MailException> failures;
+		try {
+			failures = mailUtils.sendMails(messages);
+		} catch (MailException e) {	// 인증 실패 등 batch 전체 실패
+			failures = new IdentityHashMap<>();
+			for (MailMessage message : messages) {
+				failures.put(message, e);
+			}
+		}
+		recordLatency(System.nanoTime() - startedAt);
+
+		for (Delivery delivery : batch) {
+			MailException failure = failures.get(delivery.message);
+			if (failure == null) {
+				sentCount.incrementAndGet();
+				delivery.result.complete(null);
+			} else {
+				handleFailure(delivery, failure);
+			}
+		}
+	}
+
+	private void failBatch(List<Delivery> batch, RuntimeException e) {
+		log.error("Mail batch failed unexpectedly. size={}", batch.size(), e);
+		for (Delivery delivery : batch) {
+			if (delivery.result.completeExceptionally(e)) {
+				failedCount.incrementAndGet();
+			}
+		}
+	}
+
+	private void handleFailure(Delivery delivery, MailException e) {
+		if (delivery.attempt < maxAttempts && isRetryable(e) && !retryScheduler.isShutdown()) {
+			retryCount.incrementAndGet();
+			long backoffMillis = initialBackoffMillis << (delivery.attempt - 1);
+			log.warn("Mail send failed, retry in {}ms. to={}, attempt={}",
+				backoffMillis, delivery.message.getTo(), delivery.attempt);
+			retryScheduler.schedule(() -> submit(delivery.nextAttempt()), backoffMillis, TimeUnit.MILLISECONDS);
+			return;
+		}
+		failedCount.incrementAndGet();
+		log.error("Mail send failed. to={}, attempt={}", delivery.message.getTo(), delivery.attempt, e);
+		delivery.result.completeExceptionally(e);
+	}
+
+	private static boolean isRetryable(MailException e) {	// 메일 내용 자체가 잘못된 경우는 재시도해도 실패
+		return !(e instanceof MailParseException || e instanceof MailPreparationException);
+	}
+
+	private void recordLatency(long latencyNanos) {
+		batchCount.incrementAndGet();
+		sendLatencyNanos.add(latencyNanos);
+		maxSendLatencyNanos.accumulateAndGet(latencyNanos, Math::max);
+	}
+
+	public int getQueueDepth() {
+		return queue.size();
+	}
+
+	public long getSentCount() {
+		return sentCount.get();
+	}
+
+	public long getFailedCount() {
+		return failedCount.get();
+	}
+
+	public long getRejectedCount() {
+		return rejectedCount.get();
+	}
+
+	public long getRetryCount() {
+		return retryCount.get();
+	}
+
+	public long getBatchCount() {
+		return batchCount.get();
+	}
+
+	// batch(SMTP 연결 하나) 단위 발송 시간
+	public double getAverageSendLatencyMillis() {
+		long batches = batchCount.get();
+		return batches == 0 ? 0 : sendLatencyNanos.sum() / (double)batches / 1_000_000;
+	}
+
+	public double getMaxSendLatencyMillis() {
+		return maxSendLatencyNanos.get() / 1_000_000.0;
+	}
+
+	// 큐에 남은 메일은 버려진다. (outbox 의 lease 가 만료되면 다시 발송)
+	@PreDestroy
+	public void shutdown() throws InterruptedException {
+		retryScheduler.shutdownNow();
+		workers.shutdownNow();
+		workers.awaitTermination(10, TimeUnit.SECONDS);
+	}
+
+	private static ThreadFactory namedThreadFactory(String prefix) {
+		AtomicInteger threadNumber = new AtomicInteger();
+		return runnable -> {
+			Thread thread = new Thread(runnable, prefix + threadNumber.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+
+	private static class Delivery {
+		private final MailMessage message;
+		private final CompletableFuture<Void> result;
+		private final int attempt;
+
+		private Delivery(MailMessage message, CompletableFuture<Void> result) {
+			this(message, result, 1);
+		}
+
+		private Delivery(MailMessage message, CompletableFuture<Void> result, int attempt) {
+			this.message = message;
+			this.result = result;
+			this.attempt = attempt;
+		}
+
+		private Delivery nextAttempt() {
+			return new Delivery(message, result, attempt + 1);
+		}
+	}
+}
@@ -0,0 +1,11 @@
+package com.example.moviebox.utils;
+
+import lombok.*;
+
+@Getter
+@AllArgsConstructor
+public class MailMessage {
+	private String to;
+	private String subject;
+	private String text;	// html
+}
@@ -0,0 +1,53 @@
+package com.example.moviebox.utils;
+
+import java.util.*;
+
+// {name} 형태의 변수를 가진 메일 본문 템플릿
+// 생성 시점에 고정 문자열과 변수 위치를 미리 나눠 두고, 렌더링 시에는 이어 붙이기만 한다.
+public class MailTemplate {
+	private final String[] fragments;	// fragments[i] 다음에 variables[i] 가 온다. (마지막 fragment 제외)
+	private final String[] variables;
+	private final int fixedLength;
+
+	private MailTemplate(String[] fragments, String[] variables) {
+		this.fragments = fragments;
+		this.variables = variables;
+		this.fixedLength = Arrays.stream(fragments).mapToInt(String::length).sum();
+	}
+
+	public static MailTemplate compile(String template) {
+		List<String> fragments = new ArrayList<>();
+		List<String> variables = new ArrayList<>();
+		int start = 0;
+		int open;
+		while ((open = template.indexOf('{', start)) >= 0) {
+			int close = template.indexOf('}', open);
+			if (close < 0) {
+				throw new IllegalArgumentException("Unclosed variable at " + open);
+			}
+			fragments.add(template.substring(start, open));
+			variables.add(template.substring(open + 1, close));
+			start = close + 1;
+		}
+		fragments.add(template.substring(start));
+		return new MailTemplate(fragments.toArray(new String[0]), variables.toArray(new String[0]));
+	}
+
+	public String render(Map<String, String> values) {
+		String[] renderedValues = new String[variables.length];
+		int length = fixedLength;
+		for (int i = 0; i < variables.length; i++) {
+			renderedValues[i] = values.get(variables[i]);
+			if (renderedValues[i] == null) {
+				throw new IllegalArgumentException("Missing template variable: " + variables[i]);
+			}
+			length += renderedValues[i].length();
+		}
+
+		StringBuilder builder = new StringBuilder(length);
+		for (int i = 0; i < variables.length; i++) {
+			builder.append(fragments[i]).append(renderedValues[i]);
+		}
+		return builder.append(fragments[variables.length]).toString();
+	}
+}
@@ -1,7 +1,10 @@
 package com.example.moviebox.utils;
 
+import java.util.*;
+import javax.mail.MessagingException;
+import javax.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
-import org.springframework.mail.MailException;
+import org.springframework.mail.*;
 import org.springframework.mail.javamail.*;
 import org.springframework.stereotype.Component;
 
@@ -20,4 +23,44 @@ public class MailUtils {
 
 		javaMailSender.send(message);
 	}
+
+	// SMTP 연결(STARTTLS 포함)을 한 번만 맺고 여러 메일을 발송
+	// 실패한 메일과 원인을 반환하며, 연결 자체가 실패한 경우 모든 메일이 실패로 반환된다.
+	public Map<MailMessage, MailException> sendMails(List<MailMessage> messages) throws MailException {
+		Map<MailMessage, MailException> failures = new IdentityHashMap<>();
+		Map<MimeMessage, MailMessage> originals = new IdentityHashMap<>();
+		List<MimeMessage> mimeMessages = new ArrayList<>(messages.size());
+		for (MailMessage message : messages) {
+			try {
+				MimeMessage mimeMessage = createMimeMessage(message);
+				originals.put(mimeMessage, message);
+				mimeMessages.add(mimeMessage);
+			} catch (MessagingException e) {
+				failures.put(message, new MailPreparationException(e));
+			}
+		}
+		if (mimeMessages.isEmpty()) {
+			return failures;
+		}
+
+		try {
+			javaMailSender.send(mimeMessages.toArray(new MimeMessage[0]));
+		} catch (MailSendException e) {
+			if (e.getFailedMessages().isEmpty()) {
+				throw e;
+			}
+			e.getFailedMessages().forEach((mimeMessage, cause) ->
+				failures.put(originals.get(mimeMessage), new MailSendException(cause.getMessage(), cause)));
+		}
+		return failures;
+	}
+
+	private MimeMessage createMimeMessage(MailMessage message) throws MessagingException {
+		MimeMessage mimeMessage = javaMailSender.createMimeMessage();
+		MimeMessageHelper mimeMessageHelper = new MimeMessageHelper(mimeMessage, true, "UTF-8");
+		mimeMessageHelper.setTo(message.getTo());
+		mimeMessageHelper.setSubject(message.getSubject());
+		mimeMessageHelper.setText(message.getText(), true);
+		return mimeMessage;
+	}
 }
@@ -5,6 +5,7 @@ import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWit
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+import com.example.moviebox.common.ratelimit.RateLimiter;
 import com.example.moviebox.configuration.RedisConfiguration;
 import com.example.moviebox.exception.*;
 import com.example.moviebox.jwt.*;
@@ -16,6 +17,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.restdocs.*;
 import org.springframework.restdocs.payload.FieldDescriptor;
 import org.springframework.test.context.ContextConfiguration;
@@ -48,6 +50,8 @@ public abstract class BaseControllerTest {
 	protected WebApplicationContext webApplicationContext;
 	@Mock
 	private JwtTokenProvider jwtProvider;
+	@MockBean
+	protected RateLimiter rateLimiter;
 
 	@BeforeEach
 	public void init(WebApplicationContext ctx, RestDocumentationContextProvider restDocumentationContextProvider) {
@@ -14,6 +14,7 @@ import com.epages.restdocs.apispec.*;
 import com.example.moviebox.BaseControllerTest;
 import com.example.moviebox.admin.dto.AdminRequest;
 import com.example.moviebox.admin.service.AdminService;
+import com.example.moviebox.common.ratelimit.RateLimitType;
 import com.example.moviebox.exception.*;
 import com.example.moviebox.jwt.dto.TokenDto;
 import org.junit.jupiter.api.Test;
@@ -112,6 +113,51 @@ class AdminControllerTest extends BaseControllerTest {
 			resource(ResourceSnippetParameters.builder().tag("admin").responseFields(ERROR_RESPONSE_FIELDS).build())));
 	}
 
+	@Test
+	public void testEmailAvailability() throws Exception {
+		given(adminService.isEmailAvailable(anyString()))
+			.willReturn(true);
+
+		ResultActions result = mockMvc.perform(get("/api/admin/email-availability")
+				.param("email", "example@email.com"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.success").value(true))
+			.andExpect(jsonPath("$.data.email").value("example@email.com"))
+			.andExpect(jsonPath("$.data.available").value(true));
+
+		// docs
+		result.andDo(document("[success] email availability",
+				preprocessRequest(prettyPrint()),
+				preprocessResponse(prettyPrint()),
+				resource(ResourceSnippetParameters.builder()
+					.summary("이메일 중복 확인")
+					.tag("admin")
+					.requestParameters(
+						parameterWithName("email").description("확인할 이메일")
+					)
+					.responseFields(
+						fieldWithPath("success").description("요청 성공 여부"),
+						fieldWithPath("data.email").description("확인한 이메일"),
+						fieldWithPath("data.available").description("가입 가능 여부"),
+						fieldWithPath("error").description("에러 내용")
+					)
+					.build())
+			));
+	}
+
+	@Test
+	public void testEmailAvailabilityWhenTooManyRequests() throws Exception {
+		willThrow(BusinessException.TOO_MANY_REQUESTS)
+			.given(rateLimiter).acquire(eq(RateLimitType.IP), anyString());
+
+		ResultActions result = mockMvc.perform(get("/api/admin/email-availability")
+				.param("email", "example@email.com"))
+			.andExpect(status().isTooManyRequests());
+
+		checkErrorResponse(result, BusinessException.TOO_MANY_REQUESTS);
+		then(adminService).should(never()).isEmailAvailable(anyString());
+	}
+
 	@Test
 	public void testAuthenticateMail() throws Exception {
 		willDoNothing()
@@ -265,4 +311,39 @@ class AdminControllerTest extends BaseControllerTest {
 				preprocessResponse(prettyPrint()),
 				resource(ResourceSnippetParameters.builder().tag("admin").responseFields(ERROR_RESPONSE_FIELDS).build())));
 	}
+
+	@Test
+	public void testLoginWhenTooManyRequests() throws Exception {
+		willThrow(BusinessException.TOO_MANY_REQUESTS)
+			.given(rateLimiter).acquire(eq(RateLimitType.IP), anyString());
+
+		ResultActions result = mockMvc.perform(post("/api/admin/login")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(
+					new AdminRequest("example@email.com", "password"))))
+			.andExpect(status().isTooManyRequests());
+
+		checkErrorResponse(result, BusinessException.TOO_MANY_REQUESTS);
+
+		// docs
+		result.andDo(document("[fail] login - too many requests",
+				preprocessRequest(prettyPrint()),
+				preprocessResponse(prettyPrint()),
+				resource(ResourceSnippetParameters.builder().tag("admin").responseFields(ERROR_RESPONSE_FIELDS).build())));
+	}
+
+	@Test
+	public void testLoginWhenTooManyRequestsForAccount() throws Exception {
+		willThrow(BusinessException.TOO_MANY_REQUESTS)
+			.given(rateLimiter).acquire(RateLimitType.ACCOUNT, "login:example@email.com");
+
+		ResultActions result = mockMvc.perform(post("/api/admin/login")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(
+					new AdminRequest("example@email.com", "password"))))
+			.andExpect(status().isTooManyRequests());
+
+		checkErrorResponse(result, BusinessException.TOO_MANY_REQUESTS);
+		then(adminService).should(never()).login(anyString(), anyString());
+	}
 }
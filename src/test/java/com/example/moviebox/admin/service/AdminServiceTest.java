@@ -4,83 +4,123 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.*;
 
+import com.example.moviebox.configuration.security.*;
 import com.example.moviebox.jwt.dto.TokenDto;
-import com.example.moviebox.utils.MailUtils;
+import com.example.moviebox.mail.service.MailOutboxService;
+import com.example.moviebox.utils.MailMessage;
 import com.example.moviebox.exception.*;
 import com.example.moviebox.jwt.*;
 import com.example.moviebox.user.domain.*;
+import io.jsonwebtoken.Jwts;
 import java.util.Optional;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.mail.*;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
 class AdminServiceTest {
 	@Mock
-	private PasswordEncoder passwordEncoder;
+	private PasswordHasher passwordHasher;
 	@Mock
 	private JwtTokenProvider jwtProvider;
 	@Mock
-	private MailUtils mailUtil;
+	private EmailAuthKeyProvider emailAuthKeyProvider;
+	@Mock
+	private MailOutboxService mailOutboxService;
 	@Mock
 	private UserRepository userRepository;
+	@Mock
+	private SecurityUserCache securityUserCache;
+	@Mock
+	private RegisteredEmailFilter registeredEmailFilter;
 
 	@InjectMocks
 	private AdminService adminService;
 
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(adminService, "serverDomain", "http://localhost:8080");
+	}
+
 	@Test
 	public void testRegister() {
-		given(userRepository.existsByEmail(anyString()))
-			.willReturn(false);
-		given(passwordEncoder.encode(anyString()))
+		given(passwordHasher.encode(anyString()))
 			.willReturn("encoded-password");
-		given(userRepository.save(any()))
-			.willReturn(User.builder()
-				.email("email@gmail.com")
-				.build());
-		willDoNothing()
-			.given(mailUtil).sendMail(anyString(), anyString(), anyString());
+		given(userRepository.saveAndFlush(any()))
+			.willAnswer(invocation -> invocation.getArgument(0));
+		given(emailAuthKeyProvider.createKey(any(User.class)))
+			.willReturn("signed-key");
 		ArgumentCaptor<User> captor = ArgumentCaptor.forClass(User.class);
 
 		adminService.register("email@gmail.com", "pw");
 
-		verify(userRepository, times(1)).save(captor.capture());
+		verify(userRepository, times(1)).saveAndFlush(captor.capture());
 		assertEquals(Role.ADMIN, captor.getValue().getRole());
 		assertEquals("email@gmail.com", captor.getValue().getEmail());
 		assertEquals("encoded-password", captor.getValue().getPassword());
 		assertFalse(captor.getValue().isEmailAuth());
 		assertNotNull(captor.getValue().getEmailAuthKey());
+		ArgumentCaptor<MailMessage> mailCaptor = ArgumentCaptor.forClass(MailMessage.class);
+		verify(mailOutboxService, times(1)).save(mailCaptor.capture());
+		assertEquals("email@gmail.com", mailCaptor.getValue().getTo());
+		assertTrue(mailCaptor.getValue().getText()
+			.contains("http://localhost:8080/api/admin/email-auth?key=signed-key"));
+		verify(registeredEmailFilter, times(1)).addAfterCommit("email@gmail.com");
+		verify(userRepository, never()).existsByEmail(anyString());
 	}
 
 	@Test
 	public void testRegisterByExistEmail() {
-		given(userRepository.existsByEmail(anyString()))
+		given(passwordHasher.encode(anyString()))
+			.willReturn("encoded-password");
+		given(userRepository.saveAndFlush(any()))
+			.willThrow(new DataIntegrityViolationException("Duplicate entry"));
+		given(userRepository.existsByEmail("email@gmail.com"))
 			.willReturn(true);
 
 		BusinessException exception = assertThrows(BusinessException.class,
 			() -> adminService.register("email@gmail.com", "pw"));
 
 		assertEquals(BusinessException.EMAIL_ALREADY_EXIST, exception);
+		verify(mailOutboxService, never()).save(any());
 	}
 
 	@Test
-	public void testRegisterWhenMailExceptionThrown() {
-		given(userRepository.existsByEmail(anyString()))
-			.willReturn(false);
-		given(passwordEncoder.encode(anyString()))
+	public void testRegisterByOtherIntegrityViolation() {
+		DataIntegrityViolationException violation = new DataIntegrityViolationException("Data too long");
+		given(passwordHasher.encode(anyString()))
 			.willReturn("encoded-password");
-		given(userRepository.save(any()))
-			.willReturn(User.builder()
-				.email("email@gmail.com")
-				.build());
-		willThrow(new MailSendException(""))
-			.given(mailUtil).sendMail(anyString(), anyString(), anyString());
+		given(userRepository.saveAndFlush(any()))
+			.willThrow(violation);
+		given(userRepository.existsByEmail("email@gmail.com"))
+			.willReturn(false);
 
-		assertThrows(MailException.class,
-			() -> adminService.register("email@gmail.com", "pw"));
+		assertSame(violation, assertThrows(DataIntegrityViolationException.class,
+			() -> adminService.register("email@gmail.com", "pw")));
+		verify(mailOutboxService, never()).save(any());
+	}
+
+	@Test
+	public void testIsEmailAvailableWhenNeverRegistered() {
+		given(registeredEmailFilter.mightBeRegistered(anyString()))
+			.willReturn(false);
+
+		assertTrue(adminService.isEmailAvailable("email@gmail.com"));
+		verify(userRepository, never()).existsByEmail(anyString());
+	}
+
+	@Test
+	public void testIsEmailAvailableWhenMightBeRegistered() {
+		given(registeredEmailFilter.mightBeRegistered(anyString()))
+			.willReturn(true);
+		given(userRepository.existsByEmail(anyString()))
+			.willReturn(true);
+
+		assertFalse(adminService.isEmailAvailable("email@gmail.com"));
 	}
 
 	@Test
@@ -101,6 +141,59 @@ class AdminServiceTest {
 		verify(userRepository, times(1)).save(captor.capture());
 		assertTrue(captor.getValue().isEmailAuth());
 		assertNotNull(captor.getValue().getEmailAuthDate());
+		verify(securityUserCache, times(1)).evictAfterCommit(1L);
+	}
+
+	@Test
+	public void testAuthenticateMailBySignedKey() {
+		User user = User.builder()
+			.id(1L)
+			.email("email")
+			.password("pw")
+			.emailAuthKey("nonce")
+			.build();
+		given(emailAuthKeyProvider.parse(anyString()))
+			.willReturn(JwtParseResult.success(Jwts.claims().setSubject("1")));
+		given(userRepository.findById(anyLong()))
+			.willReturn(Optional.of(user));
+		given(emailAuthKeyProvider.matchesNonce(any(), eq("nonce")))
+			.willReturn(true);
+
+		adminService.authenticateMail("header.payload.signature");
+
+		assertTrue(user.isEmailAuth());
+		verify(userRepository, never()).findByEmailAuthKey(anyString());
+		verify(userRepository, times(1)).save(user);
+	}
+
+	@Test
+	public void testAuthenticateMailBySignedKeyWithWrongNonce() {
+		given(emailAuthKeyProvider.parse(anyString()))
+			.willReturn(JwtParseResult.success(Jwts.claims().setSubject("1")));
+		given(userRepository.findById(anyLong()))
+			.willReturn(Optional.of(User.builder()
+				.id(1L)
+				.emailAuthKey("reissued-nonce")
+				.build()));
+		given(emailAuthKeyProvider.matchesNonce(any(), anyString()))
+			.willReturn(false);
+
+		BusinessException exception = assertThrows(BusinessException.class,
+			() -> adminService.authenticateMail("header.payload.signature"));
+
+		assertEquals(BusinessException.EMAIL_AUTH_KEY_INVALID, exception);
+	}
+
+	@Test
+	public void testAuthenticateMailByExpiredSignedKey() {
+		given(emailAuthKeyProvider.parse(anyString()))
+			.willReturn(JwtParseResult.failure(JwtParseResult.Failure.EXPIRED));
+
+		BusinessException exception = assertThrows(BusinessException.class,
+			() -> adminService.authenticateMail("header.payload.signature"));
+
+		assertEquals(BusinessException.EMAIL_AUTH_KEY_EXPIRED, exception);
+		verify(userRepository, never()).findById(anyLong());
 	}
 
 	@Test
@@ -141,9 +234,9 @@ class AdminServiceTest {
 				.role(Role.ADMIN)
 				.isEmailAuth(true)
 				.build()));
-		given(passwordEncoder.matches(anyString(), anyString()))
+		given(passwordHasher.matches(anyString(), anyString()))
 			.willReturn(true);
-		given(jwtProvider.generateAccessTokenAndRefreshToken(anyLong()))
+		given(jwtProvider.generateAccessTokenAndRefreshToken(any(UserDetails.class)))
 			.willReturn(TokenDto.builder()
 				.grantType("Bearer")
 				.accessToken("access-token")
@@ -157,6 +250,63 @@ class AdminServiceTest {
 		assertEquals("refresh-token", tokenDto.getRefreshToken());
 	}
 
+	@Test
+	public void testLoginWhenPasswordEncodingOutdated() {
+		User user = User.builder()
+			.id(1L)
+			.email("email")
+			.password("{bcrypt}$2a$04$outdated")
+			.role(Role.ADMIN)
+			.isEmailAuth(true)
+			.build();
+		given(userRepository.findByEmail(anyString()))
+			.willReturn(Optional.of(user));
+		given(passwordHasher.matches(anyString(), anyString()))
+			.willReturn(true);
+		given(passwordHasher.upgradeEncoding(anyString()))
+			.willReturn(true);
+		given(passwordHasher.encode(anyString()))
+			.willReturn("{bcrypt}$2a$12$upgraded");
+		given(userRepository.changePasswordIfUnchanged(1L, "{bcrypt}$2a$04$outdated", "{bcrypt}$2a$12$upgraded"))
+			.willReturn(1);
+		given(jwtProvider.generateAccessTokenAndRefreshToken(any(UserDetails.class)))
+			.willReturn(TokenDto.builder().build());
+
+		adminService.login("email", "pw");
+
+		assertEquals("{bcrypt}$2a$12$upgraded", user.getPassword());
+		verify(userRepository, never()).save(any(User.class));
+		verify(securityUserCache, times(1)).evict(1L);
+	}
+
+	@Test
+	public void testLoginWhenPasswordChangedDuringUpgrade() {
+		User user = User.builder()
+			.id(1L)
+			.email("email")
+			.password("{bcrypt}$2a$04$outdated")
+			.role(Role.ADMIN)
+			.isEmailAuth(true)
+			.build();
+		given(userRepository.findByEmail(anyString()))
+			.willReturn(Optional.of(user));
+		given(passwordHasher.matches(anyString(), anyString()))
+			.willReturn(true);
+		given(passwordHasher.upgradeEncoding(anyString()))
+			.willReturn(true);
+		given(passwordHasher.encode(anyString()))
+			.willReturn("{bcrypt}$2a$12$upgraded");
+		given(userRepository.changePasswordIfUnchanged(anyLong(), anyString(), anyString()))
+			.willReturn(0);	// 그 사이 다른 요청이 비밀번호를 변경
+		given(jwtProvider.generateAccessTokenAndRefreshToken(any(UserDetails.class)))
+			.willReturn(TokenDto.builder().build());
+
+		adminService.login("email", "pw");
+
+		assertEquals("{bcrypt}$2a$04$outdated", user.getPassword());
+		verify(securityUserCache, never()).evict(anyLong());
+	}
+
 	@Test
 	public void testLoginByWrongEmail() {
 		given(userRepository.findByEmail(anyString()))
@@ -195,7 +345,7 @@ class AdminServiceTest {
 				.role(Role.ADMIN)
 				.isEmailAuth(true)
 				.build()));
-		given(passwordEncoder.matches(anyString(), anyString()))
+		given(passwordHasher.matches(anyString(), anyString()))
 			.willReturn(false);
 
 		BusinessException exception = assertThrows(BusinessException.class,
@@ -0,0 +1,71 @@
+package com.example.moviebox.admin.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import com.example.moviebox.user.domain.*;
+import java.util.*;
+import org.junit.jupiter.api.*;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.*;
+
+class RegisteredEmailFilterTest {
+	private final UserRepository userRepository = mock(UserRepository.class);
+	private final RegisteredEmailFilter registeredEmailFilter = new RegisteredEmailFilter(userRepository, 1000, 0.01);
+
+	@Test
+	@DisplayName("적재 전에는 모든 이메일이 가입됐을 수 있다고 응답한다")
+	void testMightBeRegisteredBeforeLoaded() {
+		assertTrue(registeredEmailFilter.mightBeRegistered("email@gmail.com"));
+	}
+
+	@Test
+	@DisplayName("가입된 이메일을 회원 번호 순으로 이어서 적재한다")
+	void testSync() {
+		given(userRepository.findEmailsByIdGreaterThan(eq(0L), any(Pageable.class)))
+			.willReturn(List.of(userEmail(1L, "Email1@gmail.com"), userEmail(2L, "email2@gmail.com")));
+		given(userRepository.findEmailsByIdGreaterThan(eq(2L), any(Pageable.class)))
+			.willReturn(List.of(userEmail(3L, "email3@gmail.com")));
+
+		registeredEmailFilter.sync();
+		assertTrue(registeredEmailFilter.mightBeRegistered("email1@gmail.com"));
+		assertFalse(registeredEmailFilter.mightBeRegistered("email3@gmail.com"));
+
+		registeredEmailFilter.sync();
+		assertTrue(registeredEmailFilter.mightBeRegistered("email3@gmail.com"));
+		assertFalse(registeredEmailFilter.mightBeRegistered("new@gmail.com"));
+	}
+
+	@Test
+	@DisplayName("트랜잭션 안에서 추가한 이메일은 commit 이후에 반영된다")
+	void testAddAfterCommit() {
+		given(userRepository.findEmailsByIdGreaterThan(anyLong(), any(Pageable.class)))
+			.willReturn(List.of());
+		registeredEmailFilter.sync();
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			registeredEmailFilter.addAfterCommit("email@gmail.com");
+			assertFalse(registeredEmailFilter.mightBeRegistered("email@gmail.com"));
+
+			TransactionSynchronizationUtils.triggerAfterCommit();
+			assertTrue(registeredEmailFilter.mightBeRegistered("email@gmail.com"));
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	private UserEmail userEmail(long id, String email) {
+		return new UserEmail() {
+			@Override
+			public long getId() {
+				return id;
+			}
+
+			@Override
+			public String getEmail() {
+				return email;
+			}
+		};
+	}
+}
@@ -0,0 +1,92 @@
+package com.example.moviebox.common.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import com.example.moviebox.common.redis.EmbeddedRedisExtension;
+import com.example.moviebox.exception.BusinessException;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+class RateLimiterTest {
+	@RegisterExtension
+	static EmbeddedRedisExtension redis = new EmbeddedRedisExtension();
+
+	private static RedisTemplate<String, String> redisTemplate;
+
+	@BeforeAll
+	static void initRedisTemplate() {
+		redisTemplate = redis.createStringRedisTemplate();
+	}
+
+	@Test
+	@DisplayName("capacity 만큼 허용한 뒤 초과한 요청은 429 로 거절한다")
+	void testAcquire() {
+		RateLimiter rateLimiter = new RateLimiter(redisTemplate, 3, 0.001, 3, 0.001, 1000, 10);
+
+		for (int i = 0; i < 3; i++) {
+			rateLimiter.acquire(RateLimitType.IP, "127.0.0.1");
+		}
+		BusinessException exception = assertThrows(BusinessException.class,
+			() -> rateLimiter.acquire(RateLimitType.IP, "127.0.0.1"));
+
+		assertEquals(BusinessException.TOO_MANY_REQUESTS, exception);
+		assertTrue(rateLimiter.tryAcquire(RateLimitType.IP, "127.0.0.2"));
+		assertTrue(rateLimiter.tryAcquire(RateLimitType.ACCOUNT, "127.0.0.1"));
+	}
+
+	@Test
+	@DisplayName("시간이 지나면 token 이 다시 채워진다")
+	void testRefill() throws InterruptedException {
+		RateLimiter rateLimiter = new RateLimiter(redisTemplate, 1, 20, 1, 20, 1000, 10);
+
+		assertTrue(rateLimiter.tryAcquire(RateLimitType.ACCOUNT, "login:email"));
+		assertFalse(rateLimiter.tryAcquire(RateLimitType.ACCOUNT, "login:email"));
+		Thread.sleep(100);
+
+		assertTrue(rateLimiter.tryAcquire(RateLimitType.ACCOUNT, "login:email"));
+	}
+
+	@Test
+	@DisplayName("여러 서버(RateLimiter)가 같은 bucket 을 공유한다")
+	void testSharedBucket() {
+		RateLimiter server1 = new RateLimiter(redisTemplate, 2, 0.001, 2, 0.001, 1000, 10);
+		RateLimiter server2 = new RateLimiter(redisTemplate, 2, 0.001, 2, 0.001, 1000, 10);
+
+		assertTrue(server1.tryAcquire(RateLimitType.IP, "127.0.0.1"));
+		assertTrue(server2.tryAcquire(RateLimitType.IP, "127.0.0.1"));
+
+		assertFalse(server1.tryAcquire(RateLimitType.IP, "127.0.0.1"));
+	}
+
+	@Test
+	@DisplayName("Redis 호출에 실패하면 서버 메모리의 bucket 으로 제한한다")
+	@SuppressWarnings("unchecked")
+	void testAcquireWhenRedisFailed() {
+		RedisTemplate<String, String> failingRedisTemplate = mock(RedisTemplate.class);
+		given(failingRedisTemplate.execute(any(RedisScript.class), anyList(), (Object[])any()))
+			.willThrow(new RedisConnectionFailureException("connection refused"));
+		RateLimiter rateLimiter = new RateLimiter(failingRedisTemplate, 2, 0.001, 2, 0.001, 1000, 10);
+
+		assertTrue(rateLimiter.tryAcquire(RateLimitType.IP, "127.0.0.1"));
+		assertTrue(rateLimiter.tryAcquire(RateLimitType.IP, "127.0.0.1"));
+		assertFalse(rateLimiter.tryAcquire(RateLimitType.IP, "127.0.0.1"));
+
+		verify(failingRedisTemplate, times(1)).execute(any(RedisScript.class), anyList(), (Object[])any());	// fallback 동안 Redis 호출 X
+	}
+
+	@Test
+	@DisplayName("충전량이 0 이하이면 만들 수 없다")
+	void testInvalidRefill() {
+		assertThrows(IllegalArgumentException.class,
+			() -> new RateLimiter(redisTemplate, 3, 0, 3, 0.001, 1000, 10));
+		assertThrows(IllegalArgumentException.class,
+			() -> new RateLimiter(redisTemplate, 3, 0.001, 3, -1, 1000, 10));
+		assertThrows(IllegalArgumentException.class,
+			() -> new LocalTokenBucket(3, 0, System.currentTimeMillis()));
+	}
+}
@@ -0,0 +1,71 @@
+package com.example.moviebox.common.redis;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import org.junit.jupiter.api.extension.*;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import redis.embedded.RedisServer;
+
+// Git Action 에서도 실행할 수 있도록 embedded redis 사용
+// 테스트 JVM 마다 빈 포트에 서버 하나를 띄워 모든 테스트 클래스가 공유하고, 테스트마다 데이터를 비운다.
+// 사용: @RegisterExtension static EmbeddedRedisExtension redis = new EmbeddedRedisExtension();
+public class EmbeddedRedisExtension implements BeforeAllCallback, BeforeEachCallback {
+	private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(EmbeddedRedisExtension.class);
+
+	private EmbeddedRedis embeddedRedis;
+
+	@Override
+	public void beforeAll(ExtensionContext context) {
+		embeddedRedis = context.getRoot().getStore(NAMESPACE)
+			.getOrComputeIfAbsent(EmbeddedRedis.class, key -> new EmbeddedRedis(), EmbeddedRedis.class);
+	}
+
+	@Override
+	public void beforeEach(ExtensionContext context) {
+		embeddedRedis.connectionFactory.getConnection().flushAll();
+	}
+
+	public LettuceConnectionFactory getConnectionFactory() {
+		return embeddedRedis.connectionFactory;
+	}
+
+	public RedisTemplate<String, String> createStringRedisTemplate() {
+		RedisTemplate<String, String> redisTemplate = new RedisTemplate<>();
+		redisTemplate.setKeySerializer(new StringRedisSerializer());
+		redisTemplate.setValueSerializer(new StringRedisSerializer());
+		redisTemplate.setConnectionFactory(getConnectionFactory());
+		redisTemplate.afterPropertiesSet();
+		return redisTemplate;
+	}
+
+	// 모든 테스트가 끝나면 root store 가 닫으면서 서버를 내린다.
+	private static class EmbeddedRedis implements ExtensionContext.Store.CloseableResource {
+		private final RedisServer redisServer;
+		private final LettuceConnectionFactory connectionFactory;
+
+		private EmbeddedRedis() {
+			int port = findFreePort();
+			redisServer = new RedisServer(port);
+			redisServer.start();
+			connectionFactory = new LettuceConnectionFactory("localhost", port);
+			connectionFactory.afterPropertiesSet();
+		}
+
+		@Override
+		public void close() {
+			connectionFactory.destroy();
+			redisServer.stop();
+		}
+
+		private static int findFreePort() {
+			try (ServerSocket socket = new ServerSocket(0)) {
+				return socket.getLocalPort();
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+	}
+}
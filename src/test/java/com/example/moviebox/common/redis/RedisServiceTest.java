@@ -0,0 +1,194 @@
+package com.example.moviebox.common.redis;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.*;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.*;
+
+class RedisServiceTest {
+	@RegisterExtension
+	static EmbeddedRedisExtension redis = new EmbeddedRedisExtension();
+
+	private static RedisTemplate<String, byte[]> redisTemplate;
+
+	@BeforeAll
+	static void initRedisTemplate() {
+		redisTemplate = new RedisTemplate<>();
+		redisTemplate.setKeySerializer(new StringRedisSerializer());
+		redisTemplate.setValueSerializer(RedisSerializer.byteArray());
+		redisTemplate.setHashKeySerializer(RedisSerializer.byteArray());
+		redisTemplate.setHashValueSerializer(RedisSerializer.byteArray());
+		redisTemplate.setConnectionFactory(redis.getConnectionFactory());
+		redisTemplate.afterPropertiesSet();
+	}
+
+	@DisplayName("Refresh Token을 저장하고 같은 토큰인지 비교할 수 있다.")
+	@ParameterizedTest
+	@EnumSource(RefreshTokenLayout.class)
+	public void testSetAndMatchRefreshTokenValue(RefreshTokenLayout layout) {
+		RedisService redisService = createRedisService(layout);
+		redisService.setRefreshTokenValue(1L, "refresh-token");
+
+		assertTrue(matches(redisService, 1L, "refresh-token"));
+		assertFalse(matches(redisService, 1L, "wrong-token"));
+		assertFalse(matches(redisService, 2L, "refresh-token"));
+	}
+
+	@DisplayName("저장된 토큰과 이전 토큰이 같으면 새 토큰으로 교체한다.")
+	@ParameterizedTest
+	@EnumSource(RefreshTokenLayout.class)
+	public void testRotateRefreshTokenValue(RefreshTokenLayout layout) {
+		RedisService redisService = createRedisService(layout);
+		redisService.setRefreshTokenValue(1L, "refresh-token1");
+
+		assertTrue(redisService.rotateRefreshTokenValue(1L, "refresh-token1", "refresh-token2"));
+		assertTrue(matches(redisService, 1L, "refresh-token2"));
+		assertFalse(matches(redisService, 1L, "refresh-token1"));
+	}
+
+	@DisplayName("저장된 토큰과 이전 토큰이 다르거나 저장된 토큰이 없으면 교체하지 않는다.")
+	@ParameterizedTest
+	@EnumSource(RefreshTokenLayout.class)
+	public void testRotateRefreshTokenValueByWrongToken(RefreshTokenLayout layout) {
+		RedisService redisService = createRedisService(layout);
+		redisService.setRefreshTokenValue(1L, "refresh-token1");
+
+		assertFalse(redisService.rotateRefreshTokenValue(1L, "wrong-token", "refresh-token2"));
+		assertFalse(redisService.rotateRefreshTokenValue(2L, "refresh-token1", "refresh-token2"));
+		assertTrue(matches(redisService, 1L, "refresh-token1"));
+		assertFalse(matches(redisService, 2L, "refresh-token2"));
+	}
+
+	@DisplayName("같은 토큰으로 동시에 교체하면 하나만 성공한다.")
+	@ParameterizedTest
+	@EnumSource(RefreshTokenLayout.class)
+	public void testRotateRefreshTokenValueConcurrently(RefreshTokenLayout layout) throws Exception {
+		RedisService redisService = createRedisService(layout);
+		redisService.setRefreshTokenValue(1L, "refresh-token");
+		int threadCount = 16;
+		ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+		CountDownLatch startLatch = new CountDownLatch(1);
+
+		Future<?>[] futures = new Future<?>[threadCount];
+		for (int i = 0; i < threadCount; i++) {
+			String newToken = "new-refresh-token" + i;
+			futures[i] = executorService.submit(() -> {
+				startLatch.await();
+				return redisService.rotateRefreshTokenValue(1L, "refresh-token", newToken);
+			});
+		}
+		startLatch.countDown();
+
+		int successCount = 0;
+		for (Future<?> future : futures) {
+			if ((Boolean) future.get()) {
+				successCount++;
+			}
+		}
+		executorService.shutdown();
+		assertEquals(1, successCount);
+	}
+
+	@DisplayName("KEY 구조에서는 회원마다 key에 digest를 저장하고 TTL을 건다.")
+	@Test
+	public void testKeyLayout() {
+		createRedisService(RefreshTokenLayout.KEY).setRefreshTokenValue(1L, "refresh-token");
+
+		assertEquals(32, redisTemplate.opsForValue().get("RT:1").length);
+		assertTrue(redisTemplate.getExpire("RT:1", TimeUnit.DAYS) >= 29);
+	}
+
+	@DisplayName("digest 저장 이전에 원본으로 저장된 토큰도 비교하고 교체할 수 있다.")
+	@Test
+	public void testLegacyRefreshTokenValue() {
+		RedisService redisService = createRedisService(RefreshTokenLayout.KEY);
+		redisTemplate.opsForValue().set("RT:1", "legacy-refresh-token".getBytes(StandardCharsets.UTF_8));
+
+		assertTrue(matches(redisService, 1L, "legacy-refresh-token"));
+		assertTrue(redisService.rotateRefreshTokenValue(1L, "legacy-refresh-token", "refresh-token2"));
+		assertTrue(matches(redisService, 1L, "refresh-token2"));
+	}
+
+	@DisplayName("HASH_BUCKET 구조에서는 같은 구간의 회원을 하나의 hash에 저장한다.")
+	@Test
+	public void testHashBucketLayout() {
+		RedisService redisService = createRedisService(RefreshTokenLayout.HASH_BUCKET);
+		redisService.setRefreshTokenValue(1L, "refresh-token1");
+		redisService.setRefreshTokenValue(99L, "refresh-token99");
+		redisService.setRefreshTokenValue(100L, "refresh-token100");
+
+		assertEquals(2, redisTemplate.opsForHash().size("RTB:0"));
+		assertEquals(1, redisTemplate.opsForHash().size("RTB:1"));
+		assertTrue(redisTemplate.getExpire("RTB:0", TimeUnit.DAYS) >= 29);
+		assertTrue(matches(redisService, 99L, "refresh-token99"));
+	}
+
+	@DisplayName("HASH_BUCKET 구조에서 만료된 필드는 조회할 때 지운다.")
+	@Test
+	public void testHashBucketLayoutExpiredField() {
+		RedisService redisService = createRedisService(RefreshTokenLayout.HASH_BUCKET);
+		redisService.setRefreshTokenValue(1L, "refresh-token");
+		byte[] field = expireHashBucketField("RTB:0", "1");
+
+		assertFalse(redisService.rotateRefreshTokenValue(1L, "refresh-token", "refresh-token2"));
+		assertFalse(redisTemplate.opsForHash().hasKey("RTB:0", field));
+	}
+
+	@DisplayName("저장된 digest 와 마지막 byte 만 달라도 교체하지 않는다.")
+	@ParameterizedTest
+	@EnumSource(RefreshTokenLayout.class)
+	public void testRotateComparesWholeDigest(RefreshTokenLayout layout) {
+		RedisService redisService = createRedisService(layout);
+		redisService.setRefreshTokenValue(1L, "refresh-token");
+		if (layout == RefreshTokenLayout.KEY) {
+			byte[] value = redisTemplate.opsForValue().get("RT:1");
+			value[value.length - 1] ^= 1;
+			redisTemplate.opsForValue().set("RT:1", value);
+		} else {
+			byte[] field = "1".getBytes(StandardCharsets.UTF_8);
+			byte[] value = (byte[]) redisTemplate.opsForHash().get("RTB:0", field);
+			value[value.length - 1] ^= 1;
+			redisTemplate.opsForHash().put("RTB:0", field, value);
+		}
+
+		assertFalse(redisService.rotateRefreshTokenValue(1L, "refresh-token", "refresh-token2"));
+	}
+
+	@DisplayName("HASH_BUCKET 구조에서 토큰을 저장하면 같은 bucket 의 만료된 다른 회원의 필드도 지운다.")
+	@Test
+	public void testHashBucketLayoutSweepsExpiredFields() {
+		RedisService redisService = createRedisService(RefreshTokenLayout.HASH_BUCKET);
+		redisService.setRefreshTokenValue(1L, "refresh-token1");
+		byte[] field = expireHashBucketField("RTB:0", "1");
+
+		redisService.setRefreshTokenValue(2L, "refresh-token2");
+
+		assertFalse(redisTemplate.opsForHash().hasKey("RTB:0", field));
+		assertEquals(1, redisTemplate.opsForHash().size("RTB:0"));
+	}
+
+	private static RedisService createRedisService(RefreshTokenLayout layout) {
+		return new RedisService(redisTemplate, layout, 100);
+	}
+
+	// 필드의 만료 시각을 과거로 변경
+	private static byte[] expireHashBucketField(String key, String fieldName) {
+		byte[] field = fieldName.getBytes(StandardCharsets.UTF_8);
+		byte[] value = (byte[]) redisTemplate.opsForHash().get(key, field);
+		ByteBuffer.wrap(value).putLong(System.currentTimeMillis() - 1);
+		redisTemplate.opsForHash().put(key, field, value);
+		return field;
+	}
+
+	// 저장된 토큰과 같은지 확인 (같은 토큰으로 교체해 보고 저장된 값은 바꾸지 않음)
+	private static boolean matches(RedisService redisService, long userId, String token) {
+		return redisService.rotateRefreshTokenValue(userId, token, token);
+	}
+}
@@ -0,0 +1,91 @@
+package com.example.moviebox.configuration.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.example.moviebox.exception.BusinessException;
+import java.util.concurrent.*;
+import org.junit.jupiter.api.*;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+class PasswordHasherTest {
+	private PasswordHasher passwordHasher;
+
+	@AfterEach
+	void tearDown() {
+		passwordHasher.shutdown();
+	}
+
+	@Test
+	@DisplayName("전용 스레드에서 해싱하고 검증한다")
+	void testEncodeAndMatches() {
+		passwordHasher = new PasswordHasher(new BCryptPasswordEncoder(4), 1, 1, 2000);
+
+		String encodedPassword = passwordHasher.encode("pw");
+
+		assertTrue(passwordHasher.matches("pw", encodedPassword));
+		assertFalse(passwordHasher.matches("wrong-pw", encodedPassword));
+	}
+
+	@Test
+	@DisplayName("저장된 해시의 strength 가 현재 설정보다 낮으면 다시 해싱해야 한다")
+	void testUpgradeEncoding() {
+		passwordHasher = new PasswordHasher(new BCryptPasswordEncoder(5), 1, 1, 2000);
+
+		assertTrue(passwordHasher.upgradeEncoding(new BCryptPasswordEncoder(4).encode("pw")));
+		assertFalse(passwordHasher.upgradeEncoding(new BCryptPasswordEncoder(5).encode("pw")));
+	}
+
+	@Test
+	@DisplayName("대기열이 가득 차면 기다리지 않고 SERVER_BUSY 로 거절한다")
+	void testEncodeWhenQueueFull() throws Exception {
+		CountDownLatch latch = new CountDownLatch(1);
+		passwordHasher = new PasswordHasher(blockingPasswordEncoder(latch), 1, 1, 2000);
+		ExecutorService callers = Executors.newFixedThreadPool(2);
+		Future<String> running = callers.submit(() -> passwordHasher.encode("pw"));	// 해싱 스레드 점유
+		Thread.sleep(100);
+		Future<String> queued = callers.submit(() -> passwordHasher.encode("pw"));	// 대기열
+		Thread.sleep(100);
+
+		BusinessException exception = assertThrows(BusinessException.class,
+			() -> passwordHasher.encode("pw"));
+
+		assertEquals(BusinessException.SERVER_BUSY, exception);
+		latch.countDown();
+		assertEquals("encoded", running.get(5, TimeUnit.SECONDS));
+		assertEquals("encoded", queued.get(5, TimeUnit.SECONDS));
+		callers.shutdown();
+	}
+
+	@Test
+	@DisplayName("대기 시간이 초과되면 SERVER_BUSY 로 거절한다")
+	void testEncodeWhenTimeout() {
+		CountDownLatch latch = new CountDownLatch(1);
+		passwordHasher = new PasswordHasher(blockingPasswordEncoder(latch), 1, 1, 50);
+
+		BusinessException exception = assertThrows(BusinessException.class,
+			() -> passwordHasher.encode("pw"));
+
+		assertEquals(BusinessException.SERVER_BUSY, exception);
+		latch.countDown();
+	}
+
+	private PasswordEncoder blockingPasswordEncoder(CountDownLatch latch) {
+		return new PasswordEncoder() {
+			@Override
+			public String encode(CharSequence rawPassword) {
+				try {
+					latch.await(5, TimeUnit.SECONDS);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				return "encoded";
+			}
+
+			@Override
+			public boolean matches(CharSequence rawPassword, String encodedPassword) {
+				return false;
+			}
+		};
+	}
+}
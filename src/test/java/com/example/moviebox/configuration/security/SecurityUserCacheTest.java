@@ -0,0 +1,52 @@
+package com.example.moviebox.configuration.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.example.moviebox.user.domain.*;
+import org.junit.jupiter.api.*;
+import org.springframework.transaction.support.*;
+
+class SecurityUserCacheTest {
+	private final SecurityUserCache securityUserCache = new SecurityUserCache(100, 30);
+
+	@AfterEach
+	void clearSynchronization() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	@Test
+	@DisplayName("트랜잭션 안에서 evict 하면 commit 이후에 캐시에서 제거된다")
+	void testEvictAfterCommit() {
+		securityUserCache.get(1L, SecurityUserCacheTest::load);
+		TransactionSynchronizationManager.initSynchronization();
+
+		securityUserCache.evictAfterCommit(1L);
+		securityUserCache.get(1L, SecurityUserCacheTest::load);	// commit 전에는 그대로 캐시됨
+		assertEquals(1, securityUserCache.getHitCount());
+
+		TransactionSynchronizationUtils.triggerAfterCommit();
+		securityUserCache.get(1L, SecurityUserCacheTest::load);
+		assertEquals(2, securityUserCache.getMissCount());
+	}
+
+	@Test
+	@DisplayName("트랜잭션 밖에서는 바로 캐시에서 제거된다")
+	void testEvictAfterCommitWithoutTransaction() {
+		securityUserCache.get(1L, SecurityUserCacheTest::load);
+
+		securityUserCache.evictAfterCommit(1L);
+		securityUserCache.get(1L, SecurityUserCacheTest::load);
+
+		assertEquals(2, securityUserCache.getMissCount());
+	}
+
+	private static SecurityUser load(long userId) {
+		return new SecurityUser(User.builder()
+			.id(userId)
+			.password("pw")
+			.role(Role.ADMIN)
+			.build());
+	}
+}
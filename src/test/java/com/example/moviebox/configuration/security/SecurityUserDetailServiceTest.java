@@ -2,7 +2,7 @@ package com.example.moviebox.configuration.security;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.anyLong;
-import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.*;
 
 import com.example.moviebox.exception.BusinessException;
 import com.example.moviebox.user.domain.Role;
@@ -13,6 +13,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.core.userdetails.UserDetails;
 
@@ -20,6 +21,8 @@ import org.springframework.security.core.userdetails.UserDetails;
 class SecurityUserDetailServiceTest {
 	@Mock
 	private UserRepository userRepository;
+	@Spy
+	private SecurityUserCache securityUserCache = new SecurityUserCache(100, 30);
 
 	@InjectMocks
 	private SecurityUserDetailService securityUserDetailService;
@@ -50,4 +53,38 @@ class SecurityUserDetailServiceTest {
 
 		assertEquals(BusinessException.USER_NOT_FOUND_BY_USERID, exception);
 	}
+
+	@Test
+	public void testLoadUserByUsernameFromCache() {
+		given(userRepository.findById(anyLong()))
+			.willReturn(Optional.of(User.builder()
+				.id(1)
+				.password("password")
+				.role(Role.ADMIN)
+				.build()));
+
+		securityUserDetailService.loadUserByUsername("1");
+		UserDetails userDetails = securityUserDetailService.loadUserByUsername("1");
+
+		assertEquals("1", userDetails.getUsername());
+		verify(userRepository, times(1)).findById(1L);
+		assertEquals(1, securityUserCache.getHitCount());
+		assertEquals(1, securityUserCache.getMissCount());
+	}
+
+	@Test
+	public void testLoadUserByUsernameAfterEvict() {
+		given(userRepository.findById(anyLong()))
+			.willReturn(Optional.of(User.builder()
+				.id(1)
+				.password("password")
+				.role(Role.ADMIN)
+				.build()));
+
+		securityUserDetailService.loadUserByUsername("1");
+		securityUserCache.evict(1L);
+		securityUserDetailService.loadUserByUsername("1");
+
+		verify(userRepository, times(2)).findById(1L);
+	}
 }
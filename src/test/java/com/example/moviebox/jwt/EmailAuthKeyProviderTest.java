@@ -0,0 +1,72 @@
+package com.example.moviebox.jwt;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.example.moviebox.user.domain.User;
+import io.jsonwebtoken.*;
+import io.jsonwebtoken.io.*;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.*;
+
+class EmailAuthKeyProviderTest {
+	private static final String SECRET_KEY =
+		Encoders.BASE64.encode(Keys.secretKeyFor(SignatureAlgorithm.HS256).getEncoded());
+
+	private final EmailAuthKeyProvider emailAuthKeyProvider = new EmailAuthKeyProvider(SECRET_KEY, 24);
+
+	@Test
+	@DisplayName("인증 키에 회원 번호와 nonce 가 담긴다")
+	void testCreateKeyAndParse() {
+		String authKey = emailAuthKeyProvider.createKey(createUser());
+
+		JwtParseResult result = emailAuthKeyProvider.parse(authKey);
+
+		assertTrue(result.isValid());
+		assertEquals("1", result.getClaims().getSubject());
+		assertTrue(emailAuthKeyProvider.matchesNonce(result.getClaims(), "nonce"));
+		assertFalse(emailAuthKeyProvider.matchesNonce(result.getClaims(), "reissued-nonce"));
+		assertFalse(EmailAuthKeyProvider.isLegacyKey(authKey));
+	}
+
+	@Test
+	@DisplayName("만료된 인증 키")
+	void testParseExpiredKey() {
+		EmailAuthKeyProvider expiredKeyProvider = new EmailAuthKeyProvider(SECRET_KEY, -1);
+		String authKey = expiredKeyProvider.createKey(createUser());
+
+		assertEquals(JwtParseResult.Failure.EXPIRED, emailAuthKeyProvider.parse(authKey).getFailure());
+	}
+
+	@Test
+	@DisplayName("변조된 인증 키")
+	void testParseTamperedKey() {
+		String authKey = emailAuthKeyProvider.createKey(createUser());
+		String tamperedKey = authKey.substring(0, authKey.length() - 2) + "xx";
+
+		assertEquals(JwtParseResult.Failure.INVALID, emailAuthKeyProvider.parse(tamperedKey).getFailure());
+	}
+
+	@Test
+	@DisplayName("인증 키는 jwt.secret 으로 서명되지 않아 Access Token 으로 사용할 수 없다")
+	void testKeyNotAcceptedAsAccessToken() {
+		String authKey = emailAuthKeyProvider.createKey(createUser());
+		JwtParser accessTokenParser = Jwts.parserBuilder()
+			.setSigningKey(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET_KEY)))
+			.build();
+
+		assertThrows(io.jsonwebtoken.security.SecurityException.class, () -> accessTokenParser.parseClaimsJws(authKey));
+	}
+
+	@Test
+	@DisplayName("UUID 형식의 인증 키는 이전 방식으로 처리한다")
+	void testIsLegacyKey() {
+		assertTrue(EmailAuthKeyProvider.isLegacyKey("0b7d0e5c-3c5e-4f7a-9f0e-2f6f4b0b6c1d"));
+	}
+
+	private User createUser() {
+		return User.builder()
+			.id(1L)
+			.emailAuthKey("nonce")
+			.build();
+	}
+}
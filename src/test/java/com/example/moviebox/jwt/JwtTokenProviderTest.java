@@ -1,8 +1,8 @@
 package com.example.moviebox.jwt;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.BDDMockito.given;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
 
 import com.example.moviebox.common.redis.RedisService;
 import com.example.moviebox.configuration.security.SecurityUser;
@@ -20,8 +20,11 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.*;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.DisabledException;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
 @SpringBootTest
@@ -33,11 +36,13 @@ class JwtTokenProviderTest {
 	@Value("${jwt.secret}")
 	private String secretKeyString;
 	private JwtTokenProvider jwtProvider;
+	private VerifiedTokenCache verifiedTokenCache;
 	private Key secretKey;
 
 	@BeforeEach
 	private void initEach() {
-		jwtProvider = new JwtTokenProvider(userDetailsService, redisService, secretKeyString);
+		verifiedTokenCache = new VerifiedTokenCache(100);
+		jwtProvider = new JwtTokenProvider(userDetailsService, redisService, verifiedTokenCache, secretKeyString);
 
 		byte[] keyBytes = Decoders.BASE64.decode(secretKeyString);
 		this.secretKey = Keys.hmacShaKeyFor(keyBytes);
@@ -46,13 +51,23 @@ class JwtTokenProviderTest {
 	@DisplayName("관리자 권한의 토큰이 올바르게 생성된다.")
 	@Test
 	public void testGenerateAccessTokenAndRefreshToken() {
-		TokenDto tokenDto = jwtProvider.generateAccessTokenAndRefreshToken(1L);
+		TokenDto tokenDto = jwtProvider.generateAccessTokenAndRefreshToken(createAdminUser());
 
 		assertNotNull(tokenDto.getGrantType());
 		assertNotNull(tokenDto.getAccessToken());
 		assertNotNull(tokenDto.getRefreshToken());
 	}
 
+	@DisplayName("같은 시각에 발급한 Refresh Token도 서로 다르다.")
+	@Test
+	public void testRefreshTokenIsUnique() {
+		TokenDto first = jwtProvider.generateAccessTokenAndRefreshToken(createAdminUser());
+		TokenDto second = jwtProvider.generateAccessTokenAndRefreshToken(createAdminUser());
+
+		assertNotEquals(first.getRefreshToken(), second.getRefreshToken());
+		assertNotNull(jwtProvider.parseToken(first.getRefreshToken()).getClaims().getId());
+	}
+
 	@DisplayName("토큰에서 올바른 인증 정보를 조회한다.")
 	@Test
 	public void testGetAuthentication() {
@@ -63,7 +78,7 @@ class JwtTokenProviderTest {
 				.role(Role.ADMIN)
 				.build()));
 
-		TokenDto tokenDto = jwtProvider.generateAccessTokenAndRefreshToken(1L);
+		TokenDto tokenDto = jwtProvider.generateAccessTokenAndRefreshToken(createAdminUser());
 		String accessToken = tokenDto.getAccessToken();
 
 		Authentication authentication = jwtProvider.getAuthentication(accessToken);
@@ -108,7 +123,7 @@ class JwtTokenProviderTest {
 	@DisplayName("토큰이 올바르면 true를 반환한다.")
 	@Test
 	public void testIsValidateToken() {
-		TokenDto tokenDto = jwtProvider.generateAccessTokenAndRefreshToken(1L);
+		TokenDto tokenDto = jwtProvider.generateAccessTokenAndRefreshToken(createAdminUser());
 		String accessToken = tokenDto.getAccessToken();
 		String refreshToken = tokenDto.getAccessToken();
 
@@ -146,6 +161,115 @@ class JwtTokenProviderTest {
 		assertFalse(jwtProvider.isValidateToken(""));
 	}
 
+	@DisplayName("토큰이 올바르면 파싱된 Claims를 반환한다.")
+	@Test
+	public void testParseToken() {
+		TokenDto tokenDto = jwtProvider.generateAccessTokenAndRefreshToken(createAdminUser());
+
+		JwtParseResult result = jwtProvider.parseToken(tokenDto.getAccessToken());
+
+		assertTrue(result.isValid());
+		assertEquals("1", result.getClaims().getSubject());
+	}
+
+	@DisplayName("요청 인증용 Access Token만 검증 결과를 캐시하고, 인증에 필요한 claim만 담는다.")
+	@Test
+	public void testParseAccessToken() {
+		TokenDto tokenDto = jwtProvider.generateAccessTokenAndRefreshToken(createAdminUser());
+
+		assertTrue(jwtProvider.parseToken(tokenDto.getAccessToken()).isValid());
+		assertNull(verifiedTokenCache.get(tokenDto.getAccessToken()));	// 재발급 경로는 캐시하지 않음
+		AccessTokenClaims claims = jwtProvider.parseAccessToken(tokenDto.getAccessToken()).orElseThrow();
+		assertEquals("1", claims.getSubject());
+		assertEquals("ROLE_ADMIN", claims.getAuthorities());
+		assertTrue(claims.isEnabled());
+		assertSame(claims, jwtProvider.parseAccessToken(tokenDto.getAccessToken()).orElseThrow());
+
+		assertTrue(jwtProvider.parseToken(tokenDto.getRefreshToken()).isValid());
+		assertTrue(jwtProvider.parseAccessToken(tokenDto.getRefreshToken()).isEmpty());	// 회원 번호가 없는 토큰
+		assertNull(verifiedTokenCache.get(tokenDto.getRefreshToken()));
+		assertTrue(jwtProvider.parseAccessToken("invalidToken").isEmpty());
+	}
+
+	@DisplayName("토큰 검증에 실패하면 실패 사유를 반환한다.")
+	@Test
+	public void testParseTokenByInvalidToken() {
+		Date expiredDate = new Date(new Date().getTime() - 1);
+		Date validDate = new Date(new Date().getTime() + 365 * 24 * 60 * 60 * 1000L);
+
+		assertEquals(JwtParseResult.Failure.INVALID, jwtProvider.parseToken("invalidToken").getFailure());
+		assertEquals(JwtParseResult.Failure.EXPIRED,
+			jwtProvider.parseToken(createAdminToken(expiredDate, secretKey)).getFailure());
+		assertEquals(JwtParseResult.Failure.INVALID,
+			jwtProvider.parseToken(createAdminToken(validDate, createInvalidSecretKey())).getFailure());
+		assertEquals(JwtParseResult.Failure.EMPTY, jwtProvider.parseToken("").getFailure());
+	}
+
+	@DisplayName("회원 번호로 토큰을 생성하면 DB에서 조회한 권한이 담기고, Refresh Token은 저장하지 않는다.")
+	@Test
+	public void testCreateAccessTokenAndRefreshToken() {
+		given(userDetailsService.loadUserByUsername("1"))
+			.willReturn(createAdminUser());
+
+		TokenDto tokenDto = jwtProvider.createAccessTokenAndRefreshToken(1L);
+
+		Claims claims = jwtProvider.parseToken(tokenDto.getAccessToken()).getClaims();
+		assertEquals("1", claims.getSubject());
+		assertEquals("ROLE_ADMIN", claims.get("auth"));
+		verify(redisService, never()).setRefreshTokenValue(anyLong(), anyString());
+	}
+
+	@DisplayName("stateless 모드에서는 DB 조회 없이 토큰의 claim으로 인증 정보를 만든다.")
+	@Test
+	public void testGetAuthenticationWhenStateless() {
+		ReflectionTestUtils.setField(jwtProvider, "statelessAuthentication", true);
+		TokenDto tokenDto = jwtProvider.generateAccessTokenAndRefreshToken(createAdminUser());
+
+		Authentication authentication = jwtProvider.getAuthentication(tokenDto.getAccessToken());
+
+		assertEquals("1", authentication.getName());
+		assertEquals("[ROLE_ADMIN]", authentication.getAuthorities().toString());
+		assertTrue(((UserDetails) authentication.getPrincipal()).isEnabled());
+		verify(userDetailsService, never()).loadUserByUsername(anyString());
+	}
+
+	@DisplayName("stateless 모드에서 비활성 계정의 토큰은 인증하지 않는다.")
+	@Test
+	public void testGetAuthenticationWhenStatelessAndDisabled() {
+		ReflectionTestUtils.setField(jwtProvider, "statelessAuthentication", true);
+		TokenDto tokenDto = jwtProvider.generateAccessTokenAndRefreshToken(new SecurityUser(User.builder()
+			.id(1L)
+			.password("pw")
+			.role(Role.ADMIN)
+			.isEmailAuth(false)
+			.build()));
+
+		assertThrows(DisabledException.class, () -> jwtProvider.getAuthentication(tokenDto.getAccessToken()));
+		verify(userDetailsService, never()).loadUserByUsername(anyString());
+	}
+
+	@DisplayName("stateless 모드라도 권한 claim이 없는 토큰은 DB에서 인증 정보를 조회한다.")
+	@Test
+	public void testGetAuthenticationWhenStatelessWithoutAuthoritiesClaim() {
+		ReflectionTestUtils.setField(jwtProvider, "statelessAuthentication", true);
+		given(userDetailsService.loadUserByUsername("1"))
+			.willReturn(createAdminUser());
+		Date expirationDate = new Date(new Date().getTime() + 365 * 24 * 60 * 60 * 1000L);
+
+		Authentication authentication = jwtProvider.getAuthentication(createAdminToken(expirationDate, secretKey));
+
+		assertEquals("[ROLE_ADMIN]", authentication.getAuthorities().toString());
+	}
+
+	private static SecurityUser createAdminUser() {
+		return new SecurityUser(User.builder()
+			.id(1L)
+			.password("pw")
+			.role(Role.ADMIN)
+			.isEmailAuth(true)
+			.build());
+	}
+
 	private static String createAdminToken(Date expirationDate, Key secretKey) {
 		Claims claims = Jwts.claims().setSubject("1");
 		claims.put("role", Role.ADMIN);
@@ -0,0 +1,45 @@
+package com.example.moviebox.jwt;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.jsonwebtoken.Jwts;
+import java.util.Date;
+import org.junit.jupiter.api.*;
+
+class VerifiedTokenCacheTest {
+	private final VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(100);
+
+	@DisplayName("캐시에 저장된 토큰은 같은 claim을 반환한다.")
+	@Test
+	public void testGet() {
+		AccessTokenClaims claims = createClaims(new Date(new Date().getTime() + 60 * 1000L));
+		verifiedTokenCache.put("token", claims);
+
+		assertSame(claims, verifiedTokenCache.get("token"));
+		assertNull(verifiedTokenCache.get("other-token"));
+		assertNull(verifiedTokenCache.get(null));
+	}
+
+	@DisplayName("만료된 토큰과 만료 시간이 없는 토큰은 캐시하지 않는다.")
+	@Test
+	public void testPutExpiredToken() {
+		verifiedTokenCache.put("expired-token", createClaims(new Date(new Date().getTime() - 1)));
+		verifiedTokenCache.put("no-expiration-token", createClaims(null));
+
+		assertNull(verifiedTokenCache.get("expired-token"));
+		assertNull(verifiedTokenCache.get("no-expiration-token"));
+	}
+
+	@DisplayName("최대 크기가 0이면 캐시를 사용하지 않는다.")
+	@Test
+	public void testDisabledCache() {
+		VerifiedTokenCache disabledCache = new VerifiedTokenCache(0);
+		disabledCache.put("token", createClaims(new Date(new Date().getTime() + 60 * 1000L)));
+
+		assertNull(disabledCache.get("token"));
+	}
+
+	private static AccessTokenClaims createClaims(Date expiration) {
+		return AccessTokenClaims.from(Jwts.claims().setSubject("1").setExpiration(expiration), "auth", "enabled");
+	}
+}
@@ -4,18 +4,18 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
 
+import com.example.moviebox.common.ratelimit.RateLimiter;
 import com.example.moviebox.common.redis.RedisService;
-import com.example.moviebox.configuration.security.SecurityUser;
 import com.example.moviebox.exception.BusinessException;
 import com.example.moviebox.jwt.*;
 import com.example.moviebox.jwt.dto.TokenDto;
-import com.example.moviebox.user.domain.*;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 
 @ExtendWith(MockitoExtension.class)
 class TokenServiceTest {
@@ -23,29 +23,20 @@ class TokenServiceTest {
 	private JwtTokenProvider jwtProvider;
 	@Mock
 	private RedisService redisService;
+	@Mock
+	private RateLimiter rateLimiter;
 
 	@InjectMocks
 	private TokenService tokenService;
 
 	@Test
 	public void testReissue() {
-		given(jwtProvider.isValidateToken(anyString()))
+		given(jwtProvider.parseToken(anyString()))
+			.willReturn(JwtParseResult.success(createClaims()));
+		given(jwtProvider.createAccessTokenAndRefreshToken(anyLong()))
+			.willReturn(createTokenDto());
+		given(redisService.rotateRefreshTokenValue(1L, "refresh-token1", "refresh-token2"))
 			.willReturn(true);
-		SecurityUser userDetails = new SecurityUser(User.builder()
-			.id(1L)
-			.password("pw")
-			.role(Role.ADMIN)
-			.build());
-		given(jwtProvider.getAuthentication(anyString()))
-			.willReturn(new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities()));
-		given(redisService.getRefreshTokenValue(anyLong()))
-			.willReturn("refresh-token1");
-		given(jwtProvider.generateAccessTokenAndRefreshToken(anyLong()))
-			.willReturn(TokenDto.builder()
-				.grantType("Bearer")
-				.accessToken("access-token2")
-				.refreshToken("refresh-token2")
-				.build());
 
 		TokenDto tokenResponse = tokenService.reissue("access-token1", "refresh-token1");
 
@@ -56,8 +47,8 @@ class TokenServiceTest {
 
 	@Test
 	public void testReissueByWrongAccessToken() {
-		given(jwtProvider.isValidateToken("access-token"))
-			.willReturn(false);
+		given(jwtProvider.parseToken("access-token"))
+			.willReturn(JwtParseResult.failure(JwtParseResult.Failure.INVALID));
 
 		BusinessException exception = assertThrows(BusinessException.class,
 			() -> tokenService.reissue("access-token", "refresh-token"));
@@ -67,10 +58,10 @@ class TokenServiceTest {
 
 	@Test
 	public void testReissueByWrongRefreshToken() {
-		given(jwtProvider.isValidateToken(anyString()))
-			.willReturn(true);
-		given(jwtProvider.isValidateToken("refresh-token"))
-			.willReturn(false);
+		given(jwtProvider.parseToken("access-token"))
+			.willReturn(JwtParseResult.success(createClaims()));
+		given(jwtProvider.parseToken("refresh-token"))
+			.willReturn(JwtParseResult.failure(JwtParseResult.Failure.EXPIRED));
 
 		BusinessException exception = assertThrows(BusinessException.class,
 			() -> tokenService.reissue("access-token", "refresh-token"));
@@ -80,17 +71,12 @@ class TokenServiceTest {
 
 	@Test
 	public void testReissueByPreviousRefreshToken() {
-		given(jwtProvider.isValidateToken(anyString()))
-			.willReturn(true);
-		SecurityUser userDetails = new SecurityUser(User.builder()
-			.id(1L)
-			.password("pw")
-			.role(Role.ADMIN)
-			.build());
-		given(jwtProvider.getAuthentication(anyString()))
-			.willReturn(new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities()));
-		given(redisService.getRefreshTokenValue(anyLong()))
-			.willReturn("new-refresh-token");
+		given(jwtProvider.parseToken(anyString()))
+			.willReturn(JwtParseResult.success(createClaims()));
+		given(jwtProvider.createAccessTokenAndRefreshToken(anyLong()))
+			.willReturn(createTokenDto());
+		given(redisService.rotateRefreshTokenValue(1L, "previous-refresh-token", "refresh-token2"))	// 이미 다른 토큰으로 교체됨
+			.willReturn(false);
 
 		BusinessException exception = assertThrows(BusinessException.class,
 			() -> tokenService.reissue("access-token", "previous-refresh-token"));
@@ -100,21 +86,28 @@ class TokenServiceTest {
 
 	@Test
 	public void testReissueByExpiredRefreshToken() {
-		given(jwtProvider.isValidateToken(anyString()))
-			.willReturn(true);
-		SecurityUser userDetails = new SecurityUser(User.builder()
-			.id(1L)
-			.password("pw")
-			.role(Role.ADMIN)
-			.build());
-		given(jwtProvider.getAuthentication(anyString()))
-			.willReturn(new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities()));
-		given(redisService.getRefreshTokenValue(anyLong()))
-			.willReturn(null);
+		given(jwtProvider.parseToken(anyString()))
+			.willReturn(JwtParseResult.success(createClaims()));
+		given(jwtProvider.createAccessTokenAndRefreshToken(anyLong()))
+			.willReturn(createTokenDto());
+		given(redisService.rotateRefreshTokenValue(1L, "refresh-token", "refresh-token2"))	// 저장된 토큰이 만료되어 없음
+			.willReturn(false);
 
 		BusinessException exception = assertThrows(BusinessException.class,
 			() -> tokenService.reissue("access-token", "refresh-token"));
 
 		assertEquals(BusinessException.EXPIRED_REFRESH_TOKEN, exception);
 	}
+
+	private static TokenDto createTokenDto() {
+		return TokenDto.builder()
+			.grantType("Bearer")
+			.accessToken("access-token2")
+			.refreshToken("refresh-token2")
+			.build();
+	}
+
+	private static Claims createClaims() {
+		return Jwts.claims().setSubject("1");
+	}
 }
@@ -0,0 +1,78 @@
+package com.example.moviebox.mail.service;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import com.example.moviebox.mail.domain.*;
+import com.example.moviebox.utils.*;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.*;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.*;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mail.MailSendException;
+
+@ExtendWith(MockitoExtension.class)
+class MailOutboxRelayTest {
+	@Mock
+	private MailOutboxService mailOutboxService;
+	@Mock
+	private MailDispatcher mailDispatcher;
+
+	@InjectMocks
+	private MailOutboxRelay mailOutboxRelay;
+
+	@Test
+	@DisplayName("발송에 성공한 메일은 완료 처리한다")
+	void testRelay() {
+		given(mailOutboxService.claim())
+			.willReturn(List.of(createMailOutbox()));
+		given(mailDispatcher.dispatch(any(MailMessage.class)))
+			.willReturn(CompletableFuture.completedFuture(null));
+
+		mailOutboxRelay.relay();
+
+		verify(mailOutboxService, times(1)).complete(1L, "lease-1");
+	}
+
+	@Test
+	@DisplayName("발송에 실패한 메일은 실패 처리한다")
+	void testRelayWhenSendFailed() {
+		given(mailOutboxService.claim())
+			.willReturn(List.of(createMailOutbox()));
+		given(mailDispatcher.dispatch(any(MailMessage.class)))
+			.willReturn(CompletableFuture.failedFuture(new MailSendException("")));
+
+		mailOutboxRelay.relay();
+
+		verify(mailOutboxService, times(1)).fail(1L, "lease-1");
+	}
+
+	@Test
+	@DisplayName("발송 큐가 가득 찬 경우 선점을 해제한다")
+	void testRelayWhenQueueFull() {
+		given(mailOutboxService.claim())
+			.willReturn(List.of(createMailOutbox()));
+		given(mailDispatcher.dispatch(any(MailMessage.class)))
+			.willReturn(CompletableFuture.failedFuture(new RejectedExecutionException()));
+
+		mailOutboxRelay.relay();
+
+		verify(mailOutboxService, times(1)).release(1L, "lease-1");
+		verify(mailOutboxService, never()).fail(anyLong(), anyString());
+	}
+
+	private MailOutbox createMailOutbox() {
+		return MailOutbox.builder()
+			.id(1L)
+			.recipient("email@gmail.com")
+			.subject("제목")
+			.text("내용")
+			.status(MailOutboxStatus.SENDING)
+			.availableAt(LocalDateTime.now())
+			.leaseToken("lease-1")
+			.build();
+	}
+}
@@ -0,0 +1,132 @@
+package com.example.moviebox.mail.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import com.example.moviebox.mail.domain.*;
+import com.example.moviebox.utils.MailMessage;
+import java.time.LocalDateTime;
+import java.util.*;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.*;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class MailOutboxServiceTest {
+	@Mock
+	private MailOutboxRepository mailOutboxRepository;
+
+	@InjectMocks
+	private MailOutboxService mailOutboxService;
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(mailOutboxService, "batchSize", 10);
+		ReflectionTestUtils.setField(mailOutboxService, "leaseSeconds", 300L);
+		ReflectionTestUtils.setField(mailOutboxService, "maxAttempts", 2);
+		ReflectionTestUtils.setField(mailOutboxService, "retryDelaySeconds", 60L);
+	}
+
+	@Test
+	@DisplayName("메일을 PENDING 상태로 outbox 에 저장한다")
+	void testSave() {
+		ArgumentCaptor<MailOutbox> captor = ArgumentCaptor.forClass(MailOutbox.class);
+
+		mailOutboxService.save(new MailMessage("email@gmail.com", "제목", "내용"));
+
+		verify(mailOutboxRepository, times(1)).save(captor.capture());
+		assertEquals("email@gmail.com", captor.getValue().getRecipient());
+		assertEquals(MailOutboxStatus.PENDING, captor.getValue().getStatus());
+	}
+
+	@Test
+	@DisplayName("선점한 메일은 lease 만료 시각까지 SENDING 상태가 된다")
+	void testClaim() {
+		MailOutbox mail = createMailOutbox(MailOutboxStatus.PENDING);
+		given(mailOutboxRepository.findClaimable(anyCollection(), any(LocalDateTime.class), any(Pageable.class)))
+			.willReturn(List.of(mail));
+
+		List<MailOutbox> claimed = mailOutboxService.claim();
+
+		assertEquals(1, claimed.size());
+		assertEquals(MailOutboxStatus.SENDING, mail.getStatus());
+		assertTrue(mail.getAvailableAt().isAfter(LocalDateTime.now().plusSeconds(290)));
+		assertNotNull(mail.getLeaseToken());
+	}
+
+	@Test
+	@DisplayName("발송이 완료되면 SENT 상태가 된다")
+	void testComplete() {
+		MailOutbox mail = createMailOutbox(MailOutboxStatus.SENDING);
+		given(mailOutboxRepository.findByIdForUpdate(anyLong()))
+			.willReturn(Optional.of(mail));
+
+		mailOutboxService.complete(1L, "lease-1");
+
+		assertEquals(MailOutboxStatus.SENT, mail.getStatus());
+		assertNotNull(mail.getSentAt());
+	}
+
+	@Test
+	@DisplayName("발송에 실패하면 최대 시도 횟수 전까지 다시 PENDING 상태가 된다")
+	void testFail() {
+		MailOutbox mail = createMailOutbox(MailOutboxStatus.SENDING);
+		given(mailOutboxRepository.findByIdForUpdate(anyLong()))
+			.willReturn(Optional.of(mail));
+
+		mailOutboxService.fail(1L, "lease-1");
+		assertEquals(MailOutboxStatus.PENDING, mail.getStatus());
+		assertEquals(1, mail.getAttempts());
+
+		mail.claim("lease-2", LocalDateTime.now());
+		mailOutboxService.fail(1L, "lease-2");
+		assertEquals(MailOutboxStatus.FAILED, mail.getStatus());
+	}
+
+	@Test
+	@DisplayName("이미 다른 상태로 바뀐 메일은 변경하지 않는다")
+	void testCompleteWhenNotSending() {
+		MailOutbox mail = createMailOutbox(MailOutboxStatus.SENT);
+		given(mailOutboxRepository.findByIdForUpdate(anyLong()))
+			.willReturn(Optional.of(mail));
+
+		mailOutboxService.fail(1L, "lease-1");
+
+		assertEquals(MailOutboxStatus.SENT, mail.getStatus());
+		assertEquals(0, mail.getAttempts());
+	}
+
+	@Test
+	@DisplayName("lease 가 만료되어 다른 노드가 다시 선점한 메일은 이전 노드의 결과로 바꾸지 않는다")
+	void testCompleteWhenLeaseReclaimed() {
+		MailOutbox mail = createMailOutbox(MailOutboxStatus.SENDING);
+		mail.claim("lease-2", LocalDateTime.now().plusSeconds(300));
+		given(mailOutboxRepository.findByIdForUpdate(anyLong()))
+			.willReturn(Optional.of(mail));
+
+		mailOutboxService.complete(1L, "lease-1");
+		mailOutboxService.fail(1L, "lease-1");
+		mailOutboxService.release(1L, "lease-1");
+
+		assertEquals(MailOutboxStatus.SENDING, mail.getStatus());
+		assertEquals("lease-2", mail.getLeaseToken());
+		assertNull(mail.getSentAt());
+		assertEquals(0, mail.getAttempts());
+	}
+
+	private MailOutbox createMailOutbox(MailOutboxStatus status) {
+		return MailOutbox.builder()
+			.id(1L)
+			.recipient("email@gmail.com")
+			.subject("제목")
+			.text("내용")
+			.status(status)
+			.availableAt(LocalDateTime.now())
+			.leaseToken("lease-1")
+			.build();
+	}
+}
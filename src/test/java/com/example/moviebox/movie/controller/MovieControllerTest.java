@@ -0,0 +1,110 @@
+package com.example.moviebox.movie.controller;
+
+import static com.epages.restdocs.apispec.MockMvcRestDocumentationWrapper.document;
+import static com.epages.restdocs.apispec.ResourceDocumentation.resource;
+import static org.mockito.BDDMockito.*;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.*;
+import static org.springframework.restdocs.operation.preprocess.Preprocessors.*;
+import static org.springframework.restdocs.payload.PayloadDocumentation.*;
+import static org.springframework.restdocs.request.RequestDocumentation.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.epages.restdocs.apispec.ResourceSnippetParameters;
+import com.example.moviebox.BaseControllerTest;
+import com.example.moviebox.exception.BusinessException;
+import com.example.moviebox.movie.dto.MovieGrade;
+import com.example.moviebox.movie.service.MovieGradeService;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.restdocs.AutoConfigureRestDocs;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.ResultActions;
+
+@WebMvcTest(MovieController.class)
+@AutoConfigureRestDocs(outputDir = "build/generated-snippets")
+class MovieControllerTest extends BaseControllerTest {
+	@MockBean
+	private MovieGradeService movieGradeService;
+
+	@Test
+	@WithMockUser(username = "3")
+	public void testAddGrade() throws Exception {
+		willDoNothing()
+			.given(movieGradeService).addGrade(1L, 3L, 8);
+
+		ResultActions result = mockMvc.perform(post("/api/movies/{movieId}/grades", 1L)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(new MovieGrade.Request(8))))
+			.andExpect(status().isCreated())
+			.andExpect(jsonPath("$.success").value(true));
+		then(movieGradeService).should().addGrade(1L, 3L, 8);
+
+		// docs
+		result.andDo(document("[success] add grade",
+			preprocessRequest(prettyPrint()),
+			preprocessResponse(prettyPrint()),
+			resource(ResourceSnippetParameters.builder()
+				.summary("영화 평점 등록")
+				.tag("movie")
+				.pathParameters(
+					parameterWithName("movieId").description("영화 번호")
+				)
+				.requestFields(
+					fieldWithPath("score").description("평점 (1 ~ 10)")
+				)
+				.build())
+		));
+	}
+
+	@Test
+	@WithMockUser(username = "3")
+	public void testAddGradeInvalidScore() throws Exception {
+		willThrow(BusinessException.INVALID_GRADE_SCORE)
+			.given(movieGradeService).addGrade(1L, 3L, 11);
+
+		ResultActions result = mockMvc.perform(post("/api/movies/{movieId}/grades", 1L)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(new MovieGrade.Request(11))))
+			.andExpect(status().isBadRequest());
+		checkErrorResponse(result, BusinessException.INVALID_GRADE_SCORE);
+
+		// docs
+		result.andDo(document("[fail] add grade - invalid score",
+			preprocessRequest(prettyPrint()),
+			preprocessResponse(prettyPrint()),
+			resource(ResourceSnippetParameters.builder().tag("movie").responseFields(ERROR_RESPONSE_FIELDS).build())));
+	}
+
+	@Test
+	public void testGetGrade() throws Exception {
+		given(movieGradeService.getGrade(1L))
+			.willReturn(8.5f);
+
+		ResultActions result = mockMvc.perform(get("/api/movies/{movieId}/grade", 1L))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.success").value(true))
+			.andExpect(jsonPath("$.data.movieId").value(1))
+			.andExpect(jsonPath("$.data.grade").value(8.5));
+
+		// docs
+		result.andDo(document("[success] get grade",
+			preprocessRequest(prettyPrint()),
+			preprocessResponse(prettyPrint()),
+			resource(ResourceSnippetParameters.builder()
+				.summary("영화 평점 조회")
+				.tag("movie")
+				.pathParameters(
+					parameterWithName("movieId").description("영화 번호")
+				)
+				.responseFields(
+					fieldWithPath("success").description("요청 성공 여부"),
+					fieldWithPath("data.movieId").description("영화 번호"),
+					fieldWithPath("data.grade").description("평균 평점"),
+					fieldWithPath("error").description("에러 내용")
+				)
+				.build())
+		));
+	}
+}
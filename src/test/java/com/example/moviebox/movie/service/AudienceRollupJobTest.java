@@ -0,0 +1,34 @@
+package com.example.moviebox.movie.service;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.OptionalLong;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.*;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class AudienceRollupJobTest {
+	@Mock
+	private AudienceRollupService audienceRollupService;
+
+	@InjectMocks
+	private AudienceRollupJob audienceRollupJob;
+
+	@Test
+	@DisplayName("반영할 상영이 없을 때까지 마지막 상영 번호 다음부터 이어서 반영한다")
+	void testRollUp() {
+		given(audienceRollupService.rollUpChunk(any(), eq(0L)))
+			.willReturn(OptionalLong.of(500L));
+		given(audienceRollupService.rollUpChunk(any(), eq(500L)))
+			.willReturn(OptionalLong.of(730L));
+		given(audienceRollupService.rollUpChunk(any(), eq(730L)))
+			.willReturn(OptionalLong.empty());
+
+		audienceRollupJob.rollUp();
+
+		verify(audienceRollupService, times(3)).rollUpChunk(any(), anyLong());
+	}
+}
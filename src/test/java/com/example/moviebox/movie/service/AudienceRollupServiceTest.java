@@ -0,0 +1,85 @@
+package com.example.moviebox.movie.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import com.example.moviebox.movie.domain.MovieRepository;
+import com.example.moviebox.screening.domain.*;
+import java.time.LocalDateTime;
+import java.util.*;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.*;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class AudienceRollupServiceTest {
+	@Mock
+	private ScreeningRepository screeningRepository;
+	@Mock
+	private MovieRepository movieRepository;
+
+	@InjectMocks
+	private AudienceRollupService audienceRollupService;
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(audienceRollupService, "chunkSize", 100);
+	}
+
+	@Test
+	@DisplayName("예약 좌석 수를 영화별로 합쳐 한 번씩 더하고 반영 여부를 표시한다")
+	void testRollUpChunk() {
+		LocalDateTime endedBefore = LocalDateTime.now();
+		given(screeningRepository.findUnreflectedAudiences(eq(endedBefore), eq(0L), any(Pageable.class)))
+			.willReturn(List.of(
+				createScreeningAudience(1L, 10L, 3),
+				createScreeningAudience(2L, 20L, 1),
+				createScreeningAudience(5L, 10L, 2),
+				createScreeningAudience(7L, 30L, 0)));
+
+		OptionalLong lastId = audienceRollupService.rollUpChunk(endedBefore, 0L);
+
+		assertEquals(7L, lastId.getAsLong());
+		verify(movieRepository, times(1)).increaseAudience(10L, 5);
+		verify(movieRepository, times(1)).increaseAudience(20L, 1);
+		verify(movieRepository, never()).increaseAudience(eq(30L), anyInt());
+		verify(screeningRepository, times(1)).markReflectedInAudience(List.of(1L, 2L, 5L, 7L));
+	}
+
+	@Test
+	@DisplayName("반영할 상영이 없는 경우")
+	void testRollUpChunkEmpty() {
+		given(screeningRepository.findUnreflectedAudiences(any(), anyLong(), any(Pageable.class)))
+			.willReturn(List.of());
+
+		assertTrue(audienceRollupService.rollUpChunk(LocalDateTime.now(), 7L).isEmpty());
+		verify(screeningRepository, never()).markReflectedInAudience(anyCollection());
+	}
+
+	private ScreeningAudience createScreeningAudience(long id, long movieId, int reservedSeats) {
+		SeatMap seatMap = SeatMap.empty(100);
+		for (int i = 0; i < reservedSeats; i++) {
+			seatMap.reserve(i * 30);
+		}
+		return new ScreeningAudience() {
+			@Override
+			public long getId() {
+				return id;
+			}
+
+			@Override
+			public long getMovieId() {
+				return movieId;
+			}
+
+			@Override
+			public SeatMap getSeatMap() {
+				return seatMap;
+			}
+		};
+	}
+}
@@ -0,0 +1,192 @@
+package com.example.moviebox.movie.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import com.example.moviebox.common.redis.EmbeddedRedisExtension;
+import com.example.moviebox.exception.BusinessException;
+import com.example.moviebox.movie.domain.*;
+import java.time.LocalDateTime;
+import java.util.*;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+class MovieGradeServiceTest {
+	@RegisterExtension
+	static EmbeddedRedisExtension redis = new EmbeddedRedisExtension();
+
+	private static RedisTemplate<String, String> redisTemplate;
+
+	private MovieRepository movieRepository;
+	private JdbcTemplate jdbcTemplate;
+	private MovieGradeService movieGradeService;
+
+	@BeforeAll
+	static void initRedisTemplate() {
+		redisTemplate = redis.createStringRedisTemplate();
+	}
+
+	@BeforeEach
+	void initEach() {
+		movieRepository = mock(MovieRepository.class);
+		jdbcTemplate = mock(JdbcTemplate.class);
+		given(movieRepository.findById(anyLong()))
+			.willAnswer(invocation -> Optional.of(Movie.builder().id(invocation.getArgument(0)).build()));
+		movieGradeService = new MovieGradeService(redisTemplate, movieRepository, jdbcTemplate);
+	}
+
+	@Test
+	@DisplayName("평점을 등록하면 Redis 에 누적한 평균으로 조회된다")
+	void testAddGrade() {
+		movieGradeService.addGrade(1L, 1L, 7);
+		movieGradeService.addGrade(1L, 2L, 10);
+
+		assertEquals(8.5f, movieGradeService.getGrade(1L));
+		then(movieRepository).should(times(1)).findById(1L);	// 처음 한 번만 DB 에서 합계/개수를 불러온다
+	}
+
+	@Test
+	@DisplayName("같은 회원이 다시 평점을 남기면 개수는 그대로 두고 점수만 바꾼다")
+	@SuppressWarnings("unchecked")
+	void testAddGradeAgain() {
+		movieGradeService.addGrade(1L, 1L, 7);
+		movieGradeService.addGrade(1L, 2L, 10);
+		movieGradeService.addGrade(1L, 1L, 3);
+
+		assertEquals(6.5f, movieGradeService.getGrade(1L));
+		movieGradeService.flush();
+		ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+		then(jdbcTemplate).should(times(1)).batchUpdate(anyString(), captor.capture());
+		assertEquals(13L, captor.getValue().get(0)[0]);
+		assertEquals(2L, captor.getValue().get(0)[1]);
+	}
+
+	@Test
+	@DisplayName("DB 에 저장된 합계/개수에서 이어서 평균을 계산한다")
+	void testAddGradeFromStoredTotal() {
+		given(movieRepository.findById(1L))
+			.willReturn(Optional.of(Movie.builder().id(1L).grade(8.0f).gradeSum(24L).gradeCount(3)
+				.gradeUpdatedAt(LocalDateTime.now()).build()));
+
+		movieGradeService.addGrade(1L, 1L, 4);
+
+		assertEquals(7.0f, movieGradeService.getGrade(1L));
+	}
+
+	@Test
+	@DisplayName("합계/개수 없이 저장된 평점은 평점 하나로 보고 새 평점과 함께 평균을 계산한다")
+	@SuppressWarnings("unchecked")
+	void testAddGradeToLegacyGrade() {
+		given(movieRepository.findById(1L))
+			.willReturn(Optional.of(Movie.builder().id(1L).grade(9.0f).build()));
+
+		movieGradeService.addGrade(1L, 1L, 2);
+		movieGradeService.flush();
+
+		assertEquals(5.5f, movieGradeService.getGrade(1L));
+		ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+		then(jdbcTemplate).should(times(1)).batchUpdate(anyString(), captor.capture());
+		assertEquals(11L, captor.getValue().get(0)[0]);
+		assertEquals(2L, captor.getValue().get(0)[1]);
+		assertEquals(5.5f, captor.getValue().get(0)[3]);
+	}
+
+	@Test
+	@DisplayName("범위를 벗어난 점수나 없는 영화에는 평점을 등록할 수 없다")
+	void testAddGradeInvalid() {
+		given(movieRepository.findById(2L))
+			.willReturn(Optional.empty());
+
+		assertEquals(BusinessException.INVALID_GRADE_SCORE, assertThrows(BusinessException.class,
+			() -> movieGradeService.addGrade(1L, 1L, 0)));
+		assertEquals(BusinessException.INVALID_GRADE_SCORE, assertThrows(BusinessException.class,
+			() -> movieGradeService.addGrade(1L, 1L, 11)));
+		assertEquals(BusinessException.MOVIE_NOT_FOUND, assertThrows(BusinessException.class,
+			() -> movieGradeService.addGrade(2L, 1L, 5)));
+		assertEquals(0, redisTemplate.opsForSet().size("MG:dirty"));
+	}
+
+	@Test
+	@DisplayName("Redis 에 평점이 없으면 DB 에 저장된 평점으로 조회된다")
+	void testGetGradeFromDatabase() {
+		given(movieRepository.findById(1L))
+			.willReturn(Optional.of(Movie.builder().id(1L).grade(6.5f).build()));
+		given(movieRepository.findById(2L))
+			.willReturn(Optional.empty());
+
+		assertEquals(6.5f, movieGradeService.getGrade(1L));
+		assertEquals(BusinessException.MOVIE_NOT_FOUND, assertThrows(BusinessException.class,
+			() -> movieGradeService.getGrade(2L)));
+	}
+
+	@Test
+	@DisplayName("평점이 바뀐 영화만 한 번의 batch update 로 저장한다")
+	@SuppressWarnings("unchecked")
+	void testFlush() {
+		movieGradeService.addGrade(1L, 1L, 7);
+		movieGradeService.addGrade(1L, 2L, 10);
+		movieGradeService.addGrade(2L, 1L, 4);
+
+		movieGradeService.flush();
+		movieGradeService.flush();	// 바뀐 영화가 없으면 저장하지 않음
+
+		ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+		then(jdbcTemplate).should(times(1)).batchUpdate(anyString(), captor.capture());
+		Map<Long, Float> grades = new HashMap<>();
+		captor.getValue().forEach(args -> grades.put((Long)args[4], (Float)args[3]));
+		assertEquals(Map.of(1L, 8.5f, 2L, 4.0f), grades);
+		captor.getValue().forEach(args -> assertEquals(args[1], args[5]));	// 저장한 개수보다 적으면 덮어쓰지 않음
+		assertEquals(8.5f, movieGradeService.getGrade(1L));
+	}
+
+	@Test
+	@DisplayName("저장에 실패하면 다음 주기에 다시 저장한다")
+	@SuppressWarnings("unchecked")
+	void testFlushFailure() {
+		movieGradeService.addGrade(1L, 1L, 7);
+		given(jdbcTemplate.batchUpdate(anyString(), anyList()))
+			.willThrow(new QueryTimeoutException("timeout"))
+			.willReturn(new int[] {1});
+
+		movieGradeService.flush();
+		movieGradeService.flush();
+
+		ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+		then(jdbcTemplate).should(times(2)).batchUpdate(anyString(), captor.capture());
+		assertEquals(1L, captor.getValue().get(0)[4]);
+		assertEquals(7.0f, captor.getValue().get(0)[3]);
+		assertEquals(0, redisTemplate.opsForSet().size("MG:dirty"));
+	}
+
+	@Test
+	@DisplayName("합계/개수 없이 저장된 평점은 이어서 저장하고, 이미 더 많이 센 평점은 되돌리지 않는다")
+	void testFlushToDatabase() {
+		JdbcTemplate h2 = new JdbcTemplate(new DriverManagerDataSource(
+			"jdbc:h2:mem:movie-grade;MODE=MySQL;DB_CLOSE_DELAY=-1"));
+		h2.execute("create table movie (id bigint primary key, grade float, grade_sum bigint, grade_count int,"
+			+ " grade_updated_at timestamp)");
+		h2.update("insert into movie values (1, 9.0, 0, 0, null), (2, 8.0, 40, 5, current_timestamp)");
+		given(movieRepository.findById(1L))
+			.willReturn(Optional.of(Movie.builder().id(1L).grade(9.0f).build()));
+		movieGradeService = new MovieGradeService(redisTemplate, movieRepository, h2);
+
+		movieGradeService.addGrade(1L, 1L, 2);
+		movieGradeService.addGrade(2L, 1L, 6);	// Redis 는 아직 저장 전 개수(0)에서 시작
+		movieGradeService.flush();
+
+		Map<String, Object> legacy = h2.queryForMap("select * from movie where id = 1");
+		assertEquals(5.5f, ((Number)legacy.get("GRADE")).floatValue());
+		assertEquals(11L, ((Number)legacy.get("GRADE_SUM")).longValue());
+		assertEquals(2, ((Number)legacy.get("GRADE_COUNT")).intValue());
+		assertNotNull(legacy.get("GRADE_UPDATED_AT"));
+		Map<String, Object> stale = h2.queryForMap("select * from movie where id = 2");
+		assertEquals(8.0f, ((Number)stale.get("GRADE")).floatValue());
+		assertEquals(5, ((Number)stale.get("GRADE_COUNT")).intValue());
+		h2.execute("drop table movie");
+	}
+}
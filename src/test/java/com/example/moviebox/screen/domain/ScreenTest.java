@@ -0,0 +1,15 @@
+package com.example.moviebox.screen.domain;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.*;
+
+class ScreenTest {
+	@Test
+	@DisplayName("좌석 이름만으로 열을 가를 수 없는 배치는 새로 저장할 수 없다")
+	void testValidateSeats() {
+		assertDoesNotThrow(() -> Screen.builder().seats("A:2_2,B:4").build().validateSeats());
+		assertThrows(IllegalArgumentException.class, () -> Screen.builder().seats("A:4,A:4").build().validateSeats());
+		assertThrows(IllegalArgumentException.class, () -> Screen.builder().seats("A1:4").build().validateSeats());
+	}
+}
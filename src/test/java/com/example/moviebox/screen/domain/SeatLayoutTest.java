@@ -0,0 +1,71 @@
+package com.example.moviebox.screen.domain;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.*;
+
+class SeatLayoutTest {
+	@Test
+	@DisplayName("열 이름과 구역별 좌석 수로 좌석 번호를 매긴다")
+	void testParse() {
+		SeatLayout layout = SeatLayout.parse("A:4_8_4,B:16");
+
+		assertEquals(32, layout.getTotalSeats());
+		assertEquals(2, layout.getRowCount());
+		assertEquals(3, layout.getBlockCount(0));
+		assertEquals(8, layout.getBlockSize(0, 1));
+		assertEquals(16, layout.getRowSeatCount(1));
+		assertEquals(0, layout.ordinalOf("A1"));
+		assertEquals(15, layout.ordinalOf("A16"));
+		assertEquals(16, layout.ordinalOf("B1"));
+		assertEquals(-1, layout.ordinalOf("A17"));
+		assertEquals(-1, layout.ordinalOf("C1"));
+		assertEquals(-1, layout.ordinalOf("A01"));
+		assertEquals(-1, layout.ordinalOf("A"));
+		assertEquals("B1", layout.nameOf(16));
+	}
+
+	@Test
+	@DisplayName("형식이 잘못된 좌석 배치")
+	void testParseInvalidLayout() {
+		assertThrows(IllegalArgumentException.class, () -> SeatLayout.parse("A4_8"));
+		assertThrows(IllegalArgumentException.class, () -> SeatLayout.parse("A:4_0"));
+		assertThrows(IllegalArgumentException.class, () -> SeatLayout.parse("A:x"));
+	}
+
+	@Test
+	@DisplayName("열 이름이 겹치거나 숫자로 끝나는 배치는 새로 저장할 수 없지만, 저장된 배치는 예전처럼 읽는다")
+	void testAmbiguousRowNames() {
+		assertThrows(IllegalArgumentException.class, () -> SeatLayout.validate("A:4,A:4"));
+		assertThrows(IllegalArgumentException.class, () -> SeatLayout.validate("A:12,A1:4"));
+		assertEquals(4, SeatLayout.validate("A:4").getTotalSeats());
+
+		SeatLayout duplicated = SeatLayout.parse("A:4,A:2");
+		assertEquals(6, duplicated.getTotalSeats());
+		assertEquals(4, duplicated.ordinalOf("A1"));
+		assertEquals(3, duplicated.ordinalOf("A4"));
+
+		SeatLayout digitRow = SeatLayout.parse("A:12,A1:4");
+		assertEquals(12, digitRow.ordinalOf("A11"));
+		assertEquals(13, digitRow.ordinalOf("A12"));
+		assertEquals(0, digitRow.ordinalOf("A1"));
+		assertEquals(15, digitRow.ordinalOf("A14"));
+		assertEquals("A14", digitRow.nameOf(15));
+	}
+
+	@Test
+	@DisplayName("좌석 번호로 열과 통로 위치를 찾는다")
+	void testRowAndAisle() {
+		SeatLayout layout = SeatLayout.parse("A:4_8_4,BB:16");
+
+		assertEquals(0, layout.rowOf(15));
+		assertEquals(1, layout.rowOf(16));
+		assertEquals("BB", layout.getRowName(layout.rowOf(31)));
+		assertEquals(20, layout.ordinalOf("BB5"));
+		assertTrue(layout.isAisleAfter(3));
+		assertTrue(layout.isAisleAfter(11));
+		assertFalse(layout.isAisleAfter(15));
+		assertFalse(layout.isAisleAfter(20));
+		assertThrows(IndexOutOfBoundsException.class, () -> layout.nameOf(32));
+	}
+}
@@ -0,0 +1,38 @@
+package com.example.moviebox.screen.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.example.moviebox.screen.domain.*;
+import org.junit.jupiter.api.*;
+
+class SeatLayoutCacheTest {
+	@Test
+	@DisplayName("같은 상영관의 같은 배치는 다시 parse 하지 않는다")
+	void testGet() {
+		SeatLayoutCache seatLayoutCache = new SeatLayoutCache(100);
+		SeatLayout layout = seatLayoutCache.get(createScreen(100L, "A:4"));
+
+		assertSame(layout, seatLayoutCache.get(createScreen(100L, "A:4")));
+		assertNotSame(layout, seatLayoutCache.get(createScreen(101L, "A:4")));
+	}
+
+	@Test
+	@DisplayName("배치가 바뀌면 다시 만든다")
+	void testInvalidate() {
+		SeatLayoutCache seatLayoutCache = new SeatLayoutCache(100);
+		SeatLayout layout = seatLayoutCache.get(createScreen(200L, "A:4"));
+
+		SeatLayout changed = seatLayoutCache.get(createScreen(200L, "A:4_4"));
+
+		assertEquals(8, changed.getTotalSeats());
+		assertNotSame(layout, changed);
+		assertSame(changed, seatLayoutCache.get(createScreen(200L, "A:4_4")));
+	}
+
+	private Screen createScreen(long id, String seats) {
+		return Screen.builder()
+			.id(id)
+			.seats(seats)
+			.build();
+	}
+}
@@ -0,0 +1,216 @@
+package com.example.moviebox.screening.controller;
+
+import static com.epages.restdocs.apispec.MockMvcRestDocumentationWrapper.document;
+import static com.epages.restdocs.apispec.ResourceDocumentation.resource;
+import static org.mockito.BDDMockito.*;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.*;
+import static org.springframework.restdocs.operation.preprocess.Preprocessors.*;
+import static org.springframework.restdocs.payload.PayloadDocumentation.*;
+import static org.springframework.restdocs.request.RequestDocumentation.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.epages.restdocs.apispec.ResourceSnippetParameters;
+import com.example.moviebox.BaseControllerTest;
+import com.example.moviebox.exception.BusinessException;
+import com.example.moviebox.screening.domain.SeatHold;
+import com.example.moviebox.screening.dto.HeldSeats;
+import com.example.moviebox.screening.service.SeatHoldService;
+import com.example.moviebox.screening.service.SeatRecommendationService;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.restdocs.AutoConfigureRestDocs;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.ResultActions;
+
+@WebMvcTest(ScreeningController.class)
+@AutoConfigureRestDocs(outputDir = "build/generated-snippets")
+class ScreeningControllerTest extends BaseControllerTest {
+	@MockBean
+	private SeatRecommendationService seatRecommendationService;
+	@MockBean
+	private SeatHoldService seatHoldService;
+
+	@Test
+	public void testBestSeats() throws Exception {
+		given(seatRecommendationService.recommend(1L, 2))
+			.willReturn(List.of("F7", "F8"));
+
+		ResultActions result = mockMvc.perform(get("/api/screenings/{screeningId}/best-seats", 1L)
+				.param("count", "2"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.success").value(true))
+			.andExpect(jsonPath("$.data.screeningId").value(1))
+			.andExpect(jsonPath("$.data.seatNames[0]").value("F7"))
+			.andExpect(jsonPath("$.data.seatNames[1]").value("F8"));
+
+		// docs
+		result.andDo(document("[success] best seats",
+			preprocessRequest(prettyPrint()),
+			preprocessResponse(prettyPrint()),
+			resource(ResourceSnippetParameters.builder()
+				.summary("나란히 앉을 수 있는 좌석 추천")
+				.tag("screening")
+				.pathParameters(
+					parameterWithName("screeningId").description("상영 번호")
+				)
+				.requestParameters(
+					parameterWithName("count").description("좌석 수 (1 ~ 10)")
+				)
+				.responseFields(
+					fieldWithPath("success").description("요청 성공 여부"),
+					fieldWithPath("data.screeningId").description("상영 번호"),
+					fieldWithPath("data.seatNames").description("추천 좌석 (왼쪽부터)"),
+					fieldWithPath("error").description("에러 내용")
+				)
+				.build())
+		));
+	}
+
+	@Test
+	public void testBestSeatsNotFound() throws Exception {
+		given(seatRecommendationService.recommend(1L, 4))
+			.willThrow(BusinessException.CONTIGUOUS_SEATS_NOT_FOUND);
+
+		ResultActions result = mockMvc.perform(get("/api/screenings/{screeningId}/best-seats", 1L)
+				.param("count", "4"))
+			.andExpect(status().isConflict());
+		checkErrorResponse(result, BusinessException.CONTIGUOUS_SEATS_NOT_FOUND);
+
+		// docs
+		result.andDo(document("[fail] best seats - no contiguous seats",
+			preprocessRequest(prettyPrint()),
+			preprocessResponse(prettyPrint()),
+			resource(ResourceSnippetParameters.builder().tag("screening").responseFields(ERROR_RESPONSE_FIELDS).build())));
+	}
+
+	@Test
+	public void testHold() throws Exception {
+		given(seatHoldService.hold(1L, List.of("F7", "F8")))
+			.willReturn(new SeatHold("hold-1", 1L, List.of("F7", "F8"), LocalDateTime.of(2023, 1, 1, 12, 5)));
+
+		ResultActions result = mockMvc.perform(post("/api/screenings/{screeningId}/holds", 1L)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(new HeldSeats.Request(List.of("F7", "F8")))))
+			.andExpect(status().isCreated())
+			.andExpect(jsonPath("$.success").value(true))
+			.andExpect(jsonPath("$.data.holdId").value("hold-1"))
+			.andExpect(jsonPath("$.data.seatNames[1]").value("F8"));
+
+		// docs
+		result.andDo(document("[success] hold seats",
+			preprocessRequest(prettyPrint()),
+			preprocessResponse(prettyPrint()),
+			resource(ResourceSnippetParameters.builder()
+				.summary("결제 전 좌석 임시 점유")
+				.tag("screening")
+				.pathParameters(
+					parameterWithName("screeningId").description("상영 번호")
+				)
+				.requestFields(
+					fieldWithPath("seatNames").description("점유할 좌석 (최대 10개)")
+				)
+				.responseFields(
+					fieldWithPath("success").description("요청 성공 여부"),
+					fieldWithPath("data.holdId").description("점유 번호 (결제 확정/취소에 사용)"),
+					fieldWithPath("data.screeningId").description("상영 번호"),
+					fieldWithPath("data.seatNames").description("점유한 좌석"),
+					fieldWithPath("data.expiresAt").description("점유 만료 시각"),
+					fieldWithPath("error").description("에러 내용")
+				)
+				.build())
+		));
+	}
+
+	@Test
+	public void testHoldAlreadyHeld() throws Exception {
+		given(seatHoldService.hold(1L, List.of("F7")))
+			.willThrow(BusinessException.SEAT_ALREADY_HELD);
+
+		ResultActions result = mockMvc.perform(post("/api/screenings/{screeningId}/holds", 1L)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(new HeldSeats.Request(List.of("F7")))))
+			.andExpect(status().isConflict());
+		checkErrorResponse(result, BusinessException.SEAT_ALREADY_HELD);
+
+		// docs
+		result.andDo(document("[fail] hold seats - already held",
+			preprocessRequest(prettyPrint()),
+			preprocessResponse(prettyPrint()),
+			resource(ResourceSnippetParameters.builder().tag("screening").responseFields(ERROR_RESPONSE_FIELDS).build())));
+	}
+
+	@Test
+	public void testConfirm() throws Exception {
+		given(seatHoldService.confirm(1L, "hold-1"))
+			.willReturn(List.of("F7", "F8"));
+
+		ResultActions result = mockMvc.perform(post("/api/screenings/{screeningId}/holds/{holdId}/confirm", 1L, "hold-1"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.success").value(true))
+			.andExpect(jsonPath("$.data.seatNames[0]").value("F7"));
+
+		// docs
+		result.andDo(document("[success] confirm held seats",
+			preprocessRequest(prettyPrint()),
+			preprocessResponse(prettyPrint()),
+			resource(ResourceSnippetParameters.builder()
+				.summary("결제 완료 - 점유한 좌석 예약 확정")
+				.tag("screening")
+				.pathParameters(
+					parameterWithName("screeningId").description("상영 번호"),
+					parameterWithName("holdId").description("점유 번호")
+				)
+				.responseFields(
+					fieldWithPath("success").description("요청 성공 여부"),
+					fieldWithPath("data.screeningId").description("상영 번호"),
+					fieldWithPath("data.seatNames").description("예약한 좌석"),
+					fieldWithPath("error").description("에러 내용")
+				)
+				.build())
+		));
+	}
+
+	@Test
+	public void testConfirmNotSaved() throws Exception {
+		given(seatHoldService.confirm(1L, "hold-1"))
+			.willThrow(BusinessException.SEAT_UPDATE_CONFLICT);
+
+		ResultActions result = mockMvc.perform(post("/api/screenings/{screeningId}/holds/{holdId}/confirm", 1L, "hold-1"))
+			.andExpect(status().isServiceUnavailable());
+		checkErrorResponse(result, BusinessException.SEAT_UPDATE_CONFLICT);
+
+		// docs
+		result.andDo(document("[fail] confirm held seats - not saved",
+			preprocessRequest(prettyPrint()),
+			preprocessResponse(prettyPrint()),
+			resource(ResourceSnippetParameters.builder().tag("screening").responseFields(ERROR_RESPONSE_FIELDS).build())));
+	}
+
+	@Test
+	public void testRelease() throws Exception {
+		willDoNothing()
+			.given(seatHoldService).release(1L, "hold-1");
+
+		ResultActions result = mockMvc.perform(delete("/api/screenings/{screeningId}/holds/{holdId}", 1L, "hold-1"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.success").value(true));
+		then(seatHoldService).should().release(1L, "hold-1");
+
+		// docs
+		result.andDo(document("[success] release held seats",
+			preprocessRequest(prettyPrint()),
+			preprocessResponse(prettyPrint()),
+			resource(ResourceSnippetParameters.builder()
+				.summary("결제 취소 - 좌석 점유 해제")
+				.tag("screening")
+				.pathParameters(
+					parameterWithName("screeningId").description("상영 번호"),
+					parameterWithName("holdId").description("점유 번호")
+				)
+				.build())
+		));
+	}
+}
@@ -0,0 +1,83 @@
+package com.example.moviebox.screening.domain;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.*;
+
+class ConcurrentSeatMapTest {
+	@Test
+	@DisplayName("여러 word 에 걸친 좌석을 한 번에 선점한다")
+	void testTryReserve() {
+		ConcurrentSeatMap seatMap = ConcurrentSeatMap.from(SeatMap.empty(200));
+
+		assertTrue(seatMap.tryReserve(3, 64, 130, 199));
+
+		assertTrue(seatMap.isReserved(64));
+		assertTrue(seatMap.isReserved(199));
+		assertEquals(4, seatMap.countReserved());
+	}
+
+	@Test
+	@DisplayName("하나라도 이미 예약된 좌석이 있으면 아무것도 선점하지 않는다")
+	void testTryReserveAllOrNothing() {
+		ConcurrentSeatMap seatMap = ConcurrentSeatMap.from(SeatMap.empty(200));
+		seatMap.tryReserve(150);
+
+		assertFalse(seatMap.tryReserve(1, 70, 150));
+
+		assertFalse(seatMap.isReserved(1));
+		assertFalse(seatMap.isReserved(70));
+		assertEquals(1, seatMap.countReserved());
+	}
+
+	@Test
+	@DisplayName("해제한 좌석은 다시 선점할 수 있고, 스냅샷에 반영된다")
+	void testReleaseAndSnapshot() {
+		ConcurrentSeatMap seatMap = ConcurrentSeatMap.from(SeatMap.empty(100));
+		seatMap.tryReserve(10, 11);
+
+		seatMap.release(10);
+
+		SeatMap snapshot = seatMap.snapshot();
+		assertFalse(snapshot.isReserved(10));
+		assertTrue(snapshot.isReserved(11));
+		assertTrue(seatMap.tryReserve(10));
+	}
+
+	@Test
+	@DisplayName("여러 스레드가 겹치는 좌석을 선점해도 좌석마다 한 번만 선점된다")
+	void testTryReserveConcurrently() throws Exception {
+		int seats = 256;
+		int threads = 8;
+		ConcurrentSeatMap seatMap = ConcurrentSeatMap.from(SeatMap.empty(seats));
+		AtomicInteger reservedSeats = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		CountDownLatch start = new CountDownLatch(1);
+
+		List<Future<?>> futures = new ArrayList<>();
+		for (int t = 0; t < threads; t++) {
+			int offset = t;
+			futures.add(executor.submit(() -> {
+				start.await();
+				for (int i = 0; i < seats; i++) {	// 스레드마다 다른 위치에서 시작해 word 경계를 넘는 두 좌석을 선점
+					int first = (i + offset * 31) % seats;
+					int second = (first + 63) % seats;
+					if (first != second && seatMap.tryReserve(first, second)) {
+						reservedSeats.addAndGet(2);
+					}
+				}
+				return null;
+			}));
+		}
+		start.countDown();
+		for (Future<?> future : futures) {
+			future.get(10, TimeUnit.SECONDS);
+		}
+		executor.shutdown();
+
+		assertEquals(reservedSeats.get(), seatMap.countReserved());
+	}
+}
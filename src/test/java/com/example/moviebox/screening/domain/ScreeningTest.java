@@ -0,0 +1,45 @@
+package com.example.moviebox.screening.domain;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.example.moviebox.exception.BusinessException;
+import com.example.moviebox.screen.domain.Screen;
+import org.junit.jupiter.api.*;
+
+class ScreeningTest {
+	@Test
+	@DisplayName("빈 좌석 수를 조회한다")
+	void testGetFreeSeatCount() {
+		Screening screening = createScreening();
+
+		screening.getSeatMap().reserve(1);
+
+		assertEquals(11, screening.getFreeSeatCount());
+	}
+
+	@Test
+	@DisplayName("좌석 bitmap 이 없는 상영")
+	void testReserveWithoutSeatMap() {
+		Screening screening = Screening.builder()
+			.screen(Screen.builder()
+				.seats("A:2_4,B:6")
+				.totalSeats(12)
+				.build())
+			.build();
+
+		assertEquals(BusinessException.SEAT_MAP_UNAVAILABLE, assertThrows(BusinessException.class,
+			screening::requireSeatMap));
+		assertEquals(BusinessException.SEAT_MAP_UNAVAILABLE, assertThrows(BusinessException.class,
+			screening::getFreeSeatCount));
+	}
+
+	private Screening createScreening() {
+		return Screening.builder()
+			.screen(Screen.builder()
+				.seats("A:2_4,B:6")
+				.totalSeats(12)
+				.build())
+			.seatMap(SeatMap.empty(12))
+			.build();
+	}
+}
@@ -0,0 +1,62 @@
+package com.example.moviebox.screening.domain;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.*;
+import java.util.List;
+import org.junit.jupiter.api.*;
+
+class ScreeningTimetableTest {
+	private static final LocalDate DAY = LocalDate.of(2023, 3, 1);
+
+	@Test
+	@DisplayName("시간이 겹치는 상영은 추가하지 않고 겹치는 상영 번호를 알려준다")
+	void testAdd() {
+		ScreeningTimetable timetable = new ScreeningTimetable();
+		timetable.add(1L, at(10, 0), at(12, 0));
+		timetable.add(2L, at(14, 0), at(16, 0));
+
+		assertEquals(1L, timetable.add(3L, at(11, 0), at(13, 0)).getAsLong());
+		assertEquals(2L, timetable.add(3L, at(13, 0), at(17, 0)).getAsLong());
+		assertEquals(2L, timetable.add(3L, at(14, 30), at(15, 0)).getAsLong());
+		assertTrue(timetable.add(3L, at(12, 0), at(14, 0)).isEmpty());	// 앞 상영 종료 = 다음 상영 시작
+		assertEquals(3, timetable.size());
+	}
+
+	@Test
+	@DisplayName("이미 저장된 상영이 서로 겹치면 하나의 구간으로 합친다")
+	void testAddExisting() {
+		ScreeningTimetable timetable = new ScreeningTimetable();
+		timetable.addExisting(1L, at(10, 0), at(12, 0));
+		timetable.addExisting(2L, at(14, 0), at(16, 0));
+		timetable.addExisting(3L, at(11, 0), at(15, 0));
+		timetable.addExisting(4L, at(10, 0), at(10, 30));
+
+		assertEquals(1, timetable.size());
+		assertEquals(1L, timetable.findOverlap(at(15, 30), at(17, 0)).getAsLong());
+		assertTrue(timetable.add(5L, at(16, 0), at(17, 0)).isEmpty());
+	}
+
+	@Test
+	@DisplayName("하루 중 상영이 없는 구간을 찾는다")
+	void testFindFreeSlots() {
+		ScreeningTimetable timetable = new ScreeningTimetable();
+		timetable.add(1L, DAY.minusDays(1).atTime(23, 0), at(1, 0));	// 전날 시작한 심야 상영
+		timetable.add(2L, at(10, 0), at(12, 0));
+		timetable.add(3L, at(12, 30), at(14, 0));
+		timetable.add(4L, at(22, 0), DAY.plusDays(1).atTime(0, 30));
+
+		List<ScreeningTimetable.FreeSlot> freeSlots = timetable.findFreeSlots(DAY.atStartOfDay(),
+			DAY.plusDays(1).atStartOfDay(), Duration.ofHours(1));
+
+		assertEquals(2, freeSlots.size());
+		assertEquals(at(1, 0), freeSlots.get(0).getStart());
+		assertEquals(at(10, 0), freeSlots.get(0).getEnd());
+		assertEquals(at(14, 0), freeSlots.get(1).getStart());
+		assertEquals(at(22, 0), freeSlots.get(1).getEnd());
+	}
+
+	private static LocalDateTime at(int hour, int minute) {
+		return DAY.atTime(hour, minute);
+	}
+}
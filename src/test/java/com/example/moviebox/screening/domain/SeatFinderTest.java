@@ -0,0 +1,57 @@
+package com.example.moviebox.screening.domain;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.example.moviebox.screen.domain.SeatLayout;
+import org.junit.jupiter.api.*;
+
+class SeatFinderTest {
+	@Test
+	@DisplayName("비어 있으면 가운데 열의 가운데 좌석을 고른다")
+	void testFindBestInEmptyScreen() {
+		SeatLayout layout = SeatLayout.parse("A:10,B:10,C:10");
+
+		int first = SeatFinder.findBest(layout, SeatMap.empty(30), 2).getAsInt();
+
+		assertEquals("B5", layout.nameOf(first));
+	}
+
+	@Test
+	@DisplayName("통로를 건너는 묶음은 고르지 않는다")
+	void testFindBestNotCrossingAisle() {
+		SeatLayout layout = SeatLayout.parse("A:3_3");
+
+		int first = SeatFinder.findBest(layout, SeatMap.empty(6), 4).orElse(-1);
+
+		assertEquals(-1, first);
+	}
+
+	@Test
+	@DisplayName("예약된 좌석을 피해 가운데에 가장 가까운 묶음을 고른다")
+	void testFindBestAroundReservedSeats() {
+		SeatLayout layout = SeatLayout.parse("A:2_6_2");
+		SeatMap reserved = SeatMap.empty(10);
+		reserved.reserve(layout.ordinalOf("A5"));
+
+		int first = SeatFinder.findBest(layout, reserved, 3).getAsInt();
+
+		assertEquals("A6", layout.nameOf(first));	// A2~A4 는 통로를 건넘, A6~A8 이 가운데에 가장 가까움
+	}
+
+	@Test
+	@DisplayName("64석이 넘는 구역에서도 word 경계를 넘어 찾는다")
+	void testFindBestAcrossWords() {
+		SeatLayout layout = SeatLayout.parse("A:130");
+		SeatMap reserved = SeatMap.empty(130);
+		for (int i = 0; i < 130; i++) {
+			if (i < 60 || i > 68) {
+				reserved.reserve(i);
+			}
+		}
+
+		int first = SeatFinder.findBest(layout, reserved, 9).getAsInt();
+
+		assertEquals(60, first);
+		assertFalse(SeatFinder.findBest(layout, reserved, 10).isPresent());
+	}
+}
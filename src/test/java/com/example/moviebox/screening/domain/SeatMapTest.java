@@ -0,0 +1,92 @@
+package com.example.moviebox.screening.domain;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.*;
+
+class SeatMapTest {
+	@Test
+	@DisplayName("좌석을 예약/취소하고 빈 좌석 수를 센다")
+	void testReserveAndRelease() {
+		SeatMap seatMap = SeatMap.empty(100);
+
+		seatMap.reserve(0);
+		seatMap.reserve(63);
+		seatMap.reserve(64);
+		seatMap.reserve(99);
+		seatMap.release(63);
+
+		assertTrue(seatMap.isReserved(0));
+		assertFalse(seatMap.isReserved(63));
+		assertTrue(seatMap.isReserved(64));
+		assertEquals(3, seatMap.countReserved());
+		assertEquals(97, seatMap.countFree());
+		assertThrows(IndexOutOfBoundsException.class, () -> seatMap.reserve(100));
+	}
+
+	@Test
+	@DisplayName("byte 배열로 변환했다가 같은 상태로 복원한다")
+	void testBytesRoundTrip() {
+		SeatMap seatMap = SeatMap.empty(150);
+		seatMap.reserve(1);
+		seatMap.reserve(70);
+		seatMap.reserve(149);
+
+		byte[] bytes = seatMap.toBytes();
+		SeatMap restored = SeatMap.fromBytes(bytes);
+
+		assertEquals(4 + 19, bytes.length);
+		assertEquals(seatMap, restored);
+		assertEquals(150, restored.size());
+		assertTrue(restored.isReserved(149));
+	}
+
+	@Test
+	@DisplayName("복사본을 바꿔도 원본은 바뀌지 않는다")
+	void testCopy() {
+		SeatMap seatMap = SeatMap.empty(10);
+		SeatMap copy = seatMap.copy();
+
+		copy.reserve(3);
+
+		assertFalse(seatMap.isReserved(3));
+		assertNotEquals(seatMap, copy);
+	}
+
+	@Test
+	@DisplayName("변경분을 적용하면 다른 요청이 바꾼 좌석은 유지된다")
+	void testApplyChange() {
+		SeatMap before = SeatMap.empty(70);
+		before.reserve(1);
+		SeatMap after = before.copy();
+		after.release(1);
+		after.reserve(65);
+		SeatMap current = before.copy();
+		current.reserve(2);
+
+		SeatMap merged = new SeatMapChange(before, after).applyTo(current);
+
+		assertFalse(merged.isReserved(1));
+		assertTrue(merged.isReserved(2));
+		assertTrue(merged.isReserved(65));
+		assertEquals(2, merged.countReserved());
+	}
+
+	@Test
+	@DisplayName("새로 예약한 좌석이 이미 예약되어 있으면 충돌이다")
+	void testApplyChangeConflict() {
+		SeatMap before = SeatMap.empty(70);
+		before.reserve(1);
+		SeatMap after = before.copy();
+		after.reserve(65);
+		SeatMap current = before.copy();
+		current.release(1);
+		current.reserve(65);
+
+		SeatMapChange change = new SeatMapChange(before, after);
+
+		assertTrue(change.conflictsWith(current));
+		assertFalse(change.conflictsWith(before));
+		assertThrows(IllegalStateException.class, () -> change.applyTo(current));
+	}
+}
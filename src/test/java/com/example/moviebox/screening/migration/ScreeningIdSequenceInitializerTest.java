@@ -0,0 +1,55 @@
+package com.example.moviebox.screening.migration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.*;
+
+class ScreeningIdSequenceInitializerTest {
+	private JdbcTemplate jdbcTemplate;
+	private ScreeningIdSequenceInitializer initializer;
+
+	@BeforeEach
+	void setUp() {
+		DriverManagerDataSource dataSource = new DriverManagerDataSource(
+			"jdbc:h2:mem:screening-id-sequence;MODE=MySQL;DB_CLOSE_DELAY=-1");
+		jdbcTemplate = new JdbcTemplate(dataSource);
+		jdbcTemplate.execute("drop all objects");
+		jdbcTemplate.execute("create table screening (id bigint primary key)");
+		jdbcTemplate.execute("create table screening_seq (next_val bigint)");
+		initializer = new ScreeningIdSequenceInitializer(jdbcTemplate, new DataSourceTransactionManager(dataSource));
+	}
+
+	@Test
+	@DisplayName("다음 번호를 기존 상영 번호 뒤로 옮긴다")
+	void testRun() {
+		jdbcTemplate.update("insert into screening values (41), (42)");
+		jdbcTemplate.update("insert into screening_seq values (1)");
+
+		initializer.initialize();
+
+		assertEquals(43L, jdbcTemplate.queryForObject("select next_val from screening_seq", Long.class));
+	}
+
+	@Test
+	@DisplayName("이미 뒤에 있으면 그대로 둔다")
+	void testRunWhenAlreadyAhead() {
+		jdbcTemplate.update("insert into screening values (41)");
+		jdbcTemplate.update("insert into screening_seq values (201)");
+
+		initializer.initialize();
+
+		assertEquals(201L, jdbcTemplate.queryForObject("select next_val from screening_seq", Long.class));
+	}
+
+	@Test
+	@DisplayName("채번 테이블이 비어 있으면 행을 만든다")
+	void testRunWhenEmpty() {
+		jdbcTemplate.update("insert into screening values (7)");
+
+		initializer.initialize();
+
+		assertEquals(8L, jdbcTemplate.queryForObject("select next_val from screening_seq", Long.class));
+	}
+}
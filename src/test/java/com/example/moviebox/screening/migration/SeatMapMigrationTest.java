@@ -0,0 +1,83 @@
+package com.example.moviebox.screening.migration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.example.moviebox.screening.domain.SeatMap;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+class SeatMapMigrationTest {
+	private JdbcTemplate jdbcTemplate;
+	private SeatMapMigration seatMapMigration;
+
+	@BeforeEach
+	void setUp() {
+		jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+			"jdbc:h2:mem:seat-map-migration;MODE=MySQL;DB_CLOSE_DELAY=-1"));
+		jdbcTemplate.execute("drop all objects");
+		jdbcTemplate.execute("create table screen (id bigint primary key, seats varchar(255) not null)");
+		jdbcTemplate.execute("create table screening (id bigint primary key, seats longtext not null,"
+			+ " seat_map varbinary(2048), screen_id bigint)");
+		seatMapMigration = new SeatMapMigration(jdbcTemplate, new ObjectMapper());
+	}
+
+	@Test
+	@DisplayName("JSON 좌석 정보를 bitmap 으로 변환한다")
+	void testRun() {
+		jdbcTemplate.update("insert into screen values (1, 'A:2_2,B:4')");
+		jdbcTemplate.update("insert into screening (id, seats, screen_id) values (1, ?, 1)",
+			"{\"A1\":true,\"A2\":false,\"B4\":true}");
+		jdbcTemplate.update("insert into screening (id, seats, screen_id) values (2, '{}', 1)");
+
+		seatMapMigration.migrate();
+
+		SeatMap seatMap = SeatMap.fromBytes(jdbcTemplate.queryForObject(
+			"select seat_map from screening where id = 1", byte[].class));
+		assertEquals(8, seatMap.size());
+		assertTrue(seatMap.isReserved(0));
+		assertFalse(seatMap.isReserved(1));
+		assertTrue(seatMap.isReserved(7));
+		assertEquals(8, SeatMap.fromBytes(jdbcTemplate.queryForObject(
+			"select seat_map from screening where id = 2", byte[].class)).countFree());
+
+		// 새 행은 seats 없이 저장 가능
+		jdbcTemplate.update("insert into screening (id, screen_id) values (3, 1)");
+	}
+
+	@Test
+	@DisplayName("이미 변환된 행은 다시 변환하지 않는다")
+	void testRunTwice() {
+		SeatMap migrated = SeatMap.empty(8);
+		migrated.reserve(5);
+		jdbcTemplate.update("insert into screen values (1, 'A:2_2,B:4')");
+		jdbcTemplate.update("insert into screening (id, seats, seat_map, screen_id) values (1, '{\"A1\":true}', ?, 1)",
+			(Object)migrated.toBytes());
+
+		seatMapMigration.migrate();
+
+		assertEquals(migrated, SeatMap.fromBytes(jdbcTemplate.queryForObject(
+			"select seat_map from screening where id = 1", byte[].class)));
+	}
+
+	@Test
+	@DisplayName("변환할 수 없는 행은 건너뛰고, 상영관이 없는 행은 좌석이 없는 bitmap 으로 변환한다")
+	void testRunWithInvalidRows() {
+		jdbcTemplate.update("insert into screen values (1, 'A:2_2,B:4')");
+		jdbcTemplate.update("insert into screen values (2, 'A:x')");
+		jdbcTemplate.update("insert into screening (id, seats, screen_id) values (1, 'not json', 1)");
+		jdbcTemplate.update("insert into screening (id, seats, screen_id) values (2, '{}', 2)");
+		jdbcTemplate.update("insert into screening (id, seats, screen_id) values (3, '{\"A1\":true}', null)");
+		jdbcTemplate.update("insert into screening (id, seats, screen_id) values (4, '{\"A1\":true}', 1)");
+
+		seatMapMigration.migrate();
+
+		assertNull(jdbcTemplate.queryForObject("select seat_map from screening where id = 1", byte[].class));
+		assertNull(jdbcTemplate.queryForObject("select seat_map from screening where id = 2", byte[].class));
+		assertEquals(0, SeatMap.fromBytes(jdbcTemplate.queryForObject(
+			"select seat_map from screening where id = 3", byte[].class)).size());
+		assertTrue(SeatMap.fromBytes(jdbcTemplate.queryForObject(
+			"select seat_map from screening where id = 4", byte[].class)).isReserved(0));
+	}
+}
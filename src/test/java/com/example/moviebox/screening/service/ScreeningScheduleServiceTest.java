@@ -0,0 +1,140 @@
+package com.example.moviebox.screening.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import com.example.moviebox.exception.BusinessException;
+import com.example.moviebox.movie.domain.*;
+import com.example.moviebox.screen.domain.*;
+import com.example.moviebox.screen.service.SeatLayoutCache;
+import com.example.moviebox.screening.domain.*;
+import com.example.moviebox.screening.dto.ScreeningSchedule;
+import java.time.*;
+import java.util.*;
+import javax.persistence.EntityManager;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.*;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class ScreeningScheduleServiceTest {
+	@Mock
+	private MovieRepository movieRepository;
+	@Mock
+	private ScreenRepository screenRepository;
+	@Mock
+	private ScreeningRepository screeningRepository;
+	@Mock
+	private ScreeningTimetableIndex screeningTimetableIndex;
+	@Spy
+	private SeatLayoutCache seatLayoutCache = new SeatLayoutCache(100);
+	@Mock
+	private EntityManager entityManager;
+
+	@InjectMocks
+	private ScreeningScheduleService screeningScheduleService;
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(screeningScheduleService, "batchSize", 4);
+	}
+
+	@Test
+	@DisplayName("상영관 x 날짜 x 시작 시각마다 상영을 만들고 batch-size 개씩 flush 한다")
+	void testCreateSchedule() {
+		given(movieRepository.findById(1L))
+			.willReturn(Optional.of(Movie.builder().id(1L).runningTime(120).build()));
+		given(screenRepository.findAllById(anyIterable()))
+			.willReturn(List.of(createScreen(10L), createScreen(11L)));
+		ArgumentCaptor<Screening> captor = ArgumentCaptor.forClass(Screening.class);
+
+		int createdCount = screeningScheduleService.createSchedule(new ScreeningSchedule.Request(1L, List.of(10L, 11L),
+			LocalDate.of(2023, 3, 1), LocalDate.of(2023, 3, 3), List.of(LocalTime.of(10, 0), LocalTime.of(14, 30))));
+
+		assertEquals(12, createdCount);
+		verify(entityManager, times(12)).persist(captor.capture());
+		verify(entityManager, times(4)).flush();	// 4, 8, 12 번째 + 마지막
+		Screening first = captor.getAllValues().get(0);
+		assertEquals(LocalDateTime.of(2023, 3, 1, 10, 0), first.getScreenedAt());
+		assertEquals(LocalDateTime.of(2023, 3, 1, 12, 0), first.getEndedAt());
+		assertEquals(8, first.getFreeSeatCount());
+		verify(screeningTimetableIndex, times(1)).add(10L, first.getId(), first.getScreenedAt(), first.getEndedAt());
+	}
+
+	@Test
+	@DisplayName("같은 상영관에 시간이 겹치는 상영이 있는 경우")
+	void testCreateScheduleOverlapped() {
+		given(movieRepository.findById(1L))
+			.willReturn(Optional.of(Movie.builder().id(1L).runningTime(120).build()));
+		given(screenRepository.findAllById(anyIterable()))
+			.willReturn(List.of(createScreen(10L)));
+		willDoNothing().willThrow(BusinessException.SCREENING_OVERLAPPED)
+			.given(screeningTimetableIndex).add(anyLong(), anyLong(), any(), any());
+
+		BusinessException exception = assertThrows(BusinessException.class,
+			() -> screeningScheduleService.createSchedule(new ScreeningSchedule.Request(1L, List.of(10L),
+				LocalDate.of(2023, 3, 1), LocalDate.of(2023, 3, 1), List.of(LocalTime.of(10, 0), LocalTime.of(11, 0)))));
+
+		assertEquals(BusinessException.SCREENING_OVERLAPPED, exception);
+	}
+
+	@Test
+	@DisplayName("다른 서버에서 저장한 상영과 겹치면 DB 에서 다시 확인해 거절한다")
+	void testCreateScheduleOverlappedInDatabase() {
+		given(movieRepository.findById(1L))
+			.willReturn(Optional.of(Movie.builder().id(1L).runningTime(120).build()));
+		given(screenRepository.findAllById(anyIterable()))
+			.willReturn(List.of(createScreen(10L)));
+		ScreeningTime existing = mock(ScreeningTime.class);
+		given(existing.getId()).willReturn(99L);
+		given(existing.getScreenedAt()).willReturn(LocalDateTime.of(2023, 3, 1, 11, 0));
+		given(existing.getEndedAt()).willReturn(LocalDateTime.of(2023, 3, 1, 13, 0));
+		given(screeningRepository.findTimesForUpdate(10L, LocalDateTime.of(2023, 3, 1, 10, 0),
+			LocalDateTime.of(2023, 3, 1, 12, 0)))
+			.willReturn(List.of(existing));
+
+		BusinessException exception = assertThrows(BusinessException.class,
+			() -> screeningScheduleService.createSchedule(new ScreeningSchedule.Request(1L, List.of(10L),
+				LocalDate.of(2023, 3, 1), LocalDate.of(2023, 3, 1), List.of(LocalTime.of(10, 0)))));
+
+		assertEquals(BusinessException.SCREENING_OVERLAPPED, exception);
+		verify(screeningTimetableIndex, never()).add(anyLong(), anyLong(), any(), any());
+	}
+
+	@Test
+	@DisplayName("종료 날짜가 시작 날짜보다 빠른 경우")
+	void testCreateScheduleWithInvalidPeriod() {
+		BusinessException exception = assertThrows(BusinessException.class,
+			() -> screeningScheduleService.createSchedule(new ScreeningSchedule.Request(1L, List.of(10L),
+				LocalDate.of(2023, 3, 3), LocalDate.of(2023, 3, 1), List.of(LocalTime.of(10, 0)))));
+
+		assertEquals(BusinessException.INVALID_SCHEDULE_PERIOD, exception);
+	}
+
+	@Test
+	@DisplayName("존재하지 않는 상영관이 포함된 경우")
+	void testCreateScheduleWithUnknownScreen() {
+		given(movieRepository.findById(1L))
+			.willReturn(Optional.of(Movie.builder().id(1L).runningTime(120).build()));
+		given(screenRepository.findAllById(anyIterable()))
+			.willReturn(List.of(createScreen(10L)));
+
+		BusinessException exception = assertThrows(BusinessException.class,
+			() -> screeningScheduleService.createSchedule(new ScreeningSchedule.Request(1L, List.of(10L, 12L),
+				LocalDate.of(2023, 3, 1), LocalDate.of(2023, 3, 1), List.of(LocalTime.of(10, 0)))));
+
+		assertEquals(BusinessException.SCREEN_NOT_FOUND, exception);
+		verify(entityManager, never()).persist(any());
+	}
+
+	private Screen createScreen(long id) {
+		return Screen.builder()
+			.id(id)
+			.seats("A:4,B:4")
+			.totalSeats(8)
+			.build();
+	}
+}
@@ -0,0 +1,70 @@
+package com.example.moviebox.screening.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import com.example.moviebox.exception.BusinessException;
+import com.example.moviebox.screening.domain.*;
+import java.util.Map;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+@ExtendWith(MockitoExtension.class)
+class ScreeningSeatUpdaterTest {
+	@Mock
+	private ScreeningSeatService screeningSeatService;
+
+	@Test
+	@DisplayName("version 이 충돌하면 다시 읽어 재시도한다")
+	void testSaveRetry() {
+		ScreeningSeatUpdater screeningSeatUpdater = new ScreeningSeatUpdater(screeningSeatService, 5, 1, 5);
+		willThrow(new ObjectOptimisticLockingFailureException(Screening.class, 1L))
+			.willThrow(new ObjectOptimisticLockingFailureException(Screening.class, 1L))
+			.willReturn(Map.of())
+			.given(screeningSeatService).saveSeatChanges(anyMap());
+
+		screeningSeatUpdater.saveSeatChanges(changes());
+
+		verify(screeningSeatService, times(3)).saveSeatChanges(anyMap());
+		assertEquals(2, screeningSeatUpdater.getConflictCount());
+		assertEquals(0, screeningSeatUpdater.getExhaustedCount());
+	}
+
+	@Test
+	@DisplayName("재시도 횟수를 넘기면 실패한다")
+	void testSaveRetryExhausted() {
+		ScreeningSeatUpdater screeningSeatUpdater = new ScreeningSeatUpdater(screeningSeatService, 3, 1, 5);
+		willThrow(new ObjectOptimisticLockingFailureException(Screening.class, 1L))
+			.given(screeningSeatService).saveSeatChanges(anyMap());
+
+		BusinessException exception = assertThrows(BusinessException.class,
+			() -> screeningSeatUpdater.saveSeatChanges(changes()));
+
+		assertEquals(BusinessException.SEAT_UPDATE_CONFLICT, exception);
+		verify(screeningSeatService, times(3)).saveSeatChanges(anyMap());
+		assertEquals(1, screeningSeatUpdater.getExhaustedCount());
+	}
+
+	@Test
+	@DisplayName("version 충돌이 아닌 실패는 재시도하지 않는다")
+	void testSaveNotFound() {
+		ScreeningSeatUpdater screeningSeatUpdater = new ScreeningSeatUpdater(screeningSeatService, 5, 1, 5);
+		willThrow(BusinessException.SCREENING_NOT_FOUND)
+			.given(screeningSeatService).saveSeatChanges(anyMap());
+
+		assertThrows(BusinessException.class, () -> screeningSeatUpdater.saveSeatChanges(changes()));
+
+		verify(screeningSeatService, times(1)).saveSeatChanges(anyMap());
+		assertEquals(0, screeningSeatUpdater.getConflictCount());
+	}
+
+	private Map<Long, SeatMapChange> changes() {
+		SeatMap after = SeatMap.empty(8);
+		after.reserve(0);
+		return Map.of(1L, new SeatMapChange(SeatMap.empty(8), after));
+	}
+}
@@ -0,0 +1,89 @@
+package com.example.moviebox.screening.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import com.example.moviebox.exception.BusinessException;
+import com.example.moviebox.screening.domain.*;
+import java.time.*;
+import java.util.List;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.*;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ScreeningTimetableIndexTest {
+	private static final LocalDate DAY = LocalDate.of(2023, 3, 1);
+
+	@Mock
+	private ScreeningRepository screeningRepository;
+
+	private ScreeningTimetableIndex screeningTimetableIndex;
+
+	@BeforeEach
+	void setUp() {
+		screeningTimetableIndex = new ScreeningTimetableIndex(screeningRepository, 60);
+	}
+
+	@Test
+	@DisplayName("처음 조회할 때 상영관의 상영 시간을 불러오고, 이후에는 다시 조회하지 않는다")
+	void testLoad() {
+		given(screeningRepository.findTimesByScreenId(eq(1L), any()))
+			.willReturn(List.of(createScreeningTime(10L, DAY.atTime(10, 0), DAY.atTime(12, 0))));
+
+		assertEquals(BusinessException.SCREENING_OVERLAPPED, assertThrows(BusinessException.class,
+			() -> screeningTimetableIndex.add(1L, 11L, DAY.atTime(11, 0), DAY.atTime(13, 0))));
+		screeningTimetableIndex.add(1L, 11L, DAY.atTime(12, 0), DAY.atTime(14, 0));
+
+		assertEquals(2, screeningTimetableIndex.findFreeSlots(1L, DAY, Duration.ZERO).size());
+		verify(screeningRepository, times(1)).findTimesByScreenId(eq(1L), any());
+	}
+
+	@Test
+	@DisplayName("시간이 겹치는 상영")
+	void testAddOverlapped() {
+		given(screeningRepository.findTimesByScreenId(eq(1L), any()))
+			.willReturn(List.of(createScreeningTime(10L, DAY.atTime(10, 0), DAY.atTime(12, 0))));
+
+		BusinessException exception = assertThrows(BusinessException.class,
+			() -> screeningTimetableIndex.add(1L, 11L, DAY.atTime(11, 0), DAY.atTime(13, 0)));
+
+		assertEquals(BusinessException.SCREENING_OVERLAPPED, exception);
+	}
+
+	@Test
+	@DisplayName("아직 끝나지 않은 상영만 불러오고, 서로 겹치는 기존 상영은 버리지 않는다")
+	void testLoadOverlappingExistingScreenings() {
+		given(screeningRepository.findTimesByScreenId(eq(1L), any()))
+			.willReturn(List.of(createScreeningTime(10L, DAY.atTime(10, 0), DAY.atTime(12, 0)),
+				createScreeningTime(11L, DAY.atTime(11, 0), DAY.atTime(13, 0))));
+
+		assertEquals(BusinessException.SCREENING_OVERLAPPED, assertThrows(BusinessException.class,
+			() -> screeningTimetableIndex.add(1L, 12L, DAY.atTime(12, 30), DAY.atTime(14, 0))));
+		List<ScreeningTimetable.FreeSlot> freeSlots = screeningTimetableIndex.findFreeSlots(1L, DAY, Duration.ZERO);
+		assertEquals(DAY.atTime(13, 0), freeSlots.get(1).getStart());
+		ArgumentCaptor<LocalDateTime> endedAfter = ArgumentCaptor.forClass(LocalDateTime.class);
+		verify(screeningRepository).findTimesByScreenId(eq(1L), endedAfter.capture());
+		assertFalse(endedAfter.getValue().isBefore(LocalDateTime.now().minusMinutes(1)));
+	}
+
+	private ScreeningTime createScreeningTime(long id, LocalDateTime screenedAt, LocalDateTime endedAt) {
+		return new ScreeningTime() {
+			@Override
+			public long getId() {
+				return id;
+			}
+
+			@Override
+			public LocalDateTime getScreenedAt() {
+				return screenedAt;
+			}
+
+			@Override
+			public LocalDateTime getEndedAt() {
+				return endedAt;
+			}
+		};
+	}
+}
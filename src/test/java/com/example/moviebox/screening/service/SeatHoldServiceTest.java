@@ -0,0 +1,195 @@
+package com.example.moviebox.screening.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import com.example.moviebox.common.redis.EmbeddedRedisExtension;
+import com.example.moviebox.exception.BusinessException;
+import com.example.moviebox.screen.domain.SeatLayout;
+import com.example.moviebox.screening.domain.*;
+import java.util.List;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+
+class SeatHoldServiceTest {
+	@RegisterExtension
+	static EmbeddedRedisExtension redis = new EmbeddedRedisExtension();
+
+	private static RedisTemplate<String, String> redisTemplate;
+
+	private SeatReservationEngine seatReservationEngine;
+
+	@BeforeAll
+	static void initRedisTemplate() {
+		redisTemplate = redis.createStringRedisTemplate();
+	}
+
+	@BeforeEach
+	void initEach() {
+		seatReservationEngine = mock(SeatReservationEngine.class);
+		given(seatReservationEngine.getSeatLayout(1L))
+			.willReturn(SeatLayout.parse("A:2_2,B:4"));
+		given(seatReservationEngine.getSeatMap(1L))
+			.willAnswer(invocation -> SeatMap.empty(8));
+	}
+
+	@Test
+	@DisplayName("점유한 좌석은 예매할 수 없는 좌석으로 조회된다")
+	void testHold() {
+		SeatHoldService seatHoldService = new SeatHoldService(new SeatHoldStore(redisTemplate), seatReservationEngine, 300);
+
+		SeatHold seatHold = seatHoldService.hold(1L, List.of("A1", "B4"));
+
+		SeatMap unavailable = seatHoldService.getUnavailableSeats(1L);
+		assertTrue(unavailable.isReserved(0));
+		assertTrue(unavailable.isReserved(7));
+		assertEquals(2, unavailable.countReserved());
+		assertEquals(List.of("A1", "B4"), seatHold.getSeatNames());
+		assertTrue(redisTemplate.getExpire("SH:1") > 0);
+	}
+
+	@Test
+	@DisplayName("다른 점유와 겹치는 좌석이 있으면 아무 좌석도 점유하지 않는다")
+	void testHoldOverlapping() {
+		SeatHoldService seatHoldService = new SeatHoldService(new SeatHoldStore(redisTemplate), seatReservationEngine, 300);
+		seatHoldService.hold(1L, List.of("B1"));
+
+		BusinessException exception = assertThrows(BusinessException.class,
+			() -> seatHoldService.hold(1L, List.of("A2", "B1")));
+
+		assertEquals(BusinessException.SEAT_ALREADY_HELD, exception);
+		assertFalse(seatHoldService.getUnavailableSeats(1L).isReserved(1));
+	}
+
+	@Test
+	@DisplayName("이미 예약된 좌석은 점유할 수 없다")
+	void testHoldReservedSeat() {
+		SeatMap reserved = SeatMap.empty(8);
+		reserved.reserve(2);
+		given(seatReservationEngine.getSeatMap(1L))
+			.willReturn(reserved);
+		SeatHoldService seatHoldService = new SeatHoldService(new SeatHoldStore(redisTemplate), seatReservationEngine, 300);
+
+		BusinessException exception = assertThrows(BusinessException.class,
+			() -> seatHoldService.hold(1L, List.of("A3")));
+
+		assertEquals(BusinessException.SEAT_ALREADY_RESERVED, exception);
+	}
+
+	@Test
+	@DisplayName("취소하면 점유한 좌석 전체를 해제한다")
+	void testRelease() {
+		SeatHoldService seatHoldService = new SeatHoldService(new SeatHoldStore(redisTemplate), seatReservationEngine, 300);
+		SeatHold first = seatHoldService.hold(1L, List.of("A1", "A2"));
+		seatHoldService.hold(1L, List.of("B1"));
+
+		seatHoldService.release(1L, first.getHoldId());
+
+		SeatMap unavailable = seatHoldService.getUnavailableSeats(1L);
+		assertFalse(unavailable.isReserved(0));
+		assertFalse(unavailable.isReserved(1));
+		assertTrue(unavailable.isReserved(4));
+		assertNotNull(seatHoldService.hold(1L, List.of("A1")));
+	}
+
+	@Test
+	@DisplayName("만료된 점유의 좌석은 다시 점유할 수 있다")
+	void testHoldExpired() throws InterruptedException {
+		SeatHoldService seatHoldService = new SeatHoldService(new SeatHoldStore(redisTemplate), seatReservationEngine, 1);
+		seatHoldService.hold(1L, List.of("A1"));
+
+		Thread.sleep(1100);
+
+		assertEquals(0, seatHoldService.getUnavailableSeats(1L).countReserved());
+		assertNotNull(seatHoldService.hold(1L, List.of("A1")));
+	}
+
+	@Test
+	@DisplayName("점유하는 사이에 예약된 좌석이 있으면 점유를 되돌린다")
+	void testHoldWhenReservedWhileHolding() {
+		SeatMap reserved = SeatMap.empty(8);
+		reserved.reserve(0);
+		given(seatReservationEngine.getSeatMap(1L))
+			.willReturn(SeatMap.empty(8), reserved);
+		SeatHoldService seatHoldService = new SeatHoldService(new SeatHoldStore(redisTemplate), seatReservationEngine, 300);
+
+		BusinessException exception = assertThrows(BusinessException.class,
+			() -> seatHoldService.hold(1L, List.of("A1", "A2")));
+
+		assertEquals(BusinessException.SEAT_ALREADY_RESERVED, exception);
+		assertTrue(new SeatHoldStore(redisTemplate).findActiveOrdinals(1L).isEmpty());
+	}
+
+	@Test
+	@DisplayName("결제가 완료되면 점유한 좌석을 예약하고 점유를 해제한다")
+	void testConfirm() {
+		SeatHoldService seatHoldService = new SeatHoldService(new SeatHoldStore(redisTemplate), seatReservationEngine, 300);
+		SeatHold seatHold = seatHoldService.hold(1L, List.of("A1", "B4"));
+
+		List<String> reserved = seatHoldService.confirm(1L, seatHold.getHoldId());
+
+		assertEquals(List.of("A1", "B4"), reserved);
+		then(seatReservationEngine).should().reserve(1L, List.of("A1", "B4"), seatHold.getHoldId());
+		assertTrue(new SeatHoldStore(redisTemplate).findActiveOrdinals(1L).isEmpty());
+	}
+
+	@Test
+	@DisplayName("예약에 실패하면 점유를 그대로 남긴다")
+	void testConfirmFailed() {
+		SeatHoldService seatHoldService = new SeatHoldService(new SeatHoldStore(redisTemplate), seatReservationEngine, 300);
+		SeatHold seatHold = seatHoldService.hold(1L, List.of("A1"));
+		willThrow(BusinessException.SEAT_UPDATE_CONFLICT)
+			.given(seatReservationEngine).reserve(1L, List.of("A1"), seatHold.getHoldId());
+
+		assertEquals(BusinessException.SEAT_UPDATE_CONFLICT, assertThrows(BusinessException.class,
+			() -> seatHoldService.confirm(1L, seatHold.getHoldId())));
+
+		assertEquals(List.of(0), new SeatHoldStore(redisTemplate).findActiveOrdinals(1L));
+	}
+
+	@Test
+	@DisplayName("만료되었거나 없는 점유는 결제를 확정할 수 없다")
+	void testConfirmExpired() {
+		SeatHoldService seatHoldService = new SeatHoldService(new SeatHoldStore(redisTemplate), seatReservationEngine, 300);
+
+		assertEquals(BusinessException.SEAT_HOLD_EXPIRED, assertThrows(BusinessException.class,
+			() -> seatHoldService.confirm(1L, "unknown")));
+		then(seatReservationEngine).should(never()).reserve(anyLong(), anyList(), anyString());
+	}
+
+	@Test
+	@DisplayName("좌석 수가 범위를 벗어나거나 같은 좌석이 중복되면 점유할 수 없다")
+	void testHoldInvalidSeatCount() {
+		SeatHoldService seatHoldService = new SeatHoldService(new SeatHoldStore(redisTemplate), seatReservationEngine, 300);
+
+		assertEquals(BusinessException.INVALID_SEAT_COUNT, assertThrows(BusinessException.class,
+			() -> seatHoldService.hold(1L, List.of())));
+		assertEquals(BusinessException.INVALID_SEAT_COUNT, assertThrows(BusinessException.class,
+			() -> seatHoldService.hold(1L, List.of("A1", "A1"))));
+	}
+
+	@Test
+	@DisplayName("다른 사용자가 점유 중인 좌석은 예약할 수 없다")
+	void testCheckHeldByOthers() {
+		SeatHoldStore seatHoldStore = new SeatHoldStore(redisTemplate);
+		seatHoldStore.hold(1L, "hold-1", System.currentTimeMillis() + 60_000, new int[] {0, 1});
+
+		assertEquals(SeatHoldStore.HoldCheck.HELD_BY_OTHERS, seatHoldStore.check(1L, new int[] {1, 2}, null));
+		assertEquals(SeatHoldStore.HoldCheck.HELD_BY_OTHERS, seatHoldStore.check(1L, new int[] {1}, "hold-2"));
+		assertEquals(SeatHoldStore.HoldCheck.AVAILABLE, seatHoldStore.check(1L, new int[] {2, 3}, null));
+		assertEquals(SeatHoldStore.HoldCheck.AVAILABLE, seatHoldStore.check(1L, new int[] {0, 1}, "hold-1"));
+	}
+
+	@Test
+	@DisplayName("점유가 만료되었거나 점유하지 않은 좌석이 섞여 있으면 결제를 확정할 수 없다")
+	void testCheckNotHeld() {
+		SeatHoldStore seatHoldStore = new SeatHoldStore(redisTemplate);
+		seatHoldStore.hold(1L, "hold-1", System.currentTimeMillis() + 60_000, new int[] {0});
+		seatHoldStore.hold(1L, "hold-2", System.currentTimeMillis() - 1, new int[] {5});
+
+		assertEquals(SeatHoldStore.HoldCheck.NOT_HELD, seatHoldStore.check(1L, new int[] {0, 2}, "hold-1"));
+		assertEquals(SeatHoldStore.HoldCheck.NOT_HELD, seatHoldStore.check(1L, new int[] {5}, "hold-2"));
+		assertEquals(SeatHoldStore.HoldCheck.AVAILABLE, seatHoldStore.check(1L, new int[] {5}, null));
+	}
+}
@@ -0,0 +1,190 @@
+package com.example.moviebox.screening.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import com.example.moviebox.exception.BusinessException;
+import com.example.moviebox.screen.domain.Screen;
+import com.example.moviebox.screen.service.SeatLayoutCache;
+import com.example.moviebox.screening.domain.*;
+import java.time.LocalDateTime;
+import java.util.*;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.*;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class SeatReservationEngineTest {
+	@Mock
+	private ScreeningRepository screeningRepository;
+	@Mock
+	private ScreeningSeatUpdater screeningSeatUpdater;
+	@Mock
+	private SeatHoldStore seatHoldStore;
+	@Captor
+	private ArgumentCaptor<Map<Long, SeatMapChange>> changesCaptor;
+
+	private SeatReservationEngine seatReservationEngine;
+
+	@BeforeEach
+	void setUp() {
+		seatReservationEngine = new SeatReservationEngine(screeningRepository, screeningSeatUpdater, seatHoldStore,
+			new SeatLayoutCache(100), 60_000, 100, 600);
+		lenient().when(seatHoldStore.check(anyLong(), any(int[].class), any()))
+			.thenReturn(SeatHoldStore.HoldCheck.AVAILABLE);
+	}
+
+	@Test
+	@DisplayName("예약한 좌석은 응답 전에 DB 의 현재 좌석에 변경분만 반영한다")
+	void testReserve() {
+		given(screeningRepository.findById(1L))
+			.willReturn(Optional.of(createScreening(1L, LocalDateTime.now().plusHours(2))));
+
+		seatReservationEngine.reserve(1L, List.of("A1", "B2"), "hold-1");
+
+		verify(screeningRepository, times(1)).findById(1L);
+		verify(screeningSeatUpdater, times(1)).saveSeatChanges(changesCaptor.capture());
+		SeatMap current = SeatMap.empty(8);	// 다른 서버가 B4 를 예약한 상태
+		current.reserve(7);
+		SeatMap merged = changesCaptor.getValue().get(1L).applyTo(current);
+		assertTrue(merged.isReserved(0));
+		assertTrue(merged.isReserved(5));
+		assertTrue(merged.isReserved(7));
+		assertEquals(3, merged.countReserved());
+		assertEquals(2, seatReservationEngine.getSeatMap(1L).countReserved());
+	}
+
+	@Test
+	@DisplayName("이미 예약된 좌석이 포함되면 아무 좌석도 예약하지 않는다")
+	void testReserveAlreadyReservedSeat() {
+		given(screeningRepository.findById(1L))
+			.willReturn(Optional.of(createScreening(1L, LocalDateTime.now().plusHours(2))));
+		seatReservationEngine.reserve(1L, List.of("B1"), "hold-1");
+
+		BusinessException exception = assertThrows(BusinessException.class,
+			() -> seatReservationEngine.reserve(1L, List.of("A1", "B1"), "hold-2"));
+
+		assertEquals(BusinessException.SEAT_ALREADY_RESERVED, exception);
+		assertFalse(seatReservationEngine.getSeatMap(1L).isReserved(0));
+		verify(screeningSeatUpdater, times(1)).saveSeatChanges(anyMap());
+	}
+
+	@Test
+	@DisplayName("다른 사용자가 점유 중인 좌석이 포함되면 아무 좌석도 예약하지 않는다")
+	void testReserveHeldSeat() {
+		given(screeningRepository.findById(1L))
+			.willReturn(Optional.of(createScreening(1L, LocalDateTime.now().plusHours(2))));
+		given(seatHoldStore.check(eq(1L), any(int[].class), eq("hold-1")))
+			.willReturn(SeatHoldStore.HoldCheck.HELD_BY_OTHERS);
+
+		BusinessException exception = assertThrows(BusinessException.class,
+			() -> seatReservationEngine.reserve(1L, List.of("A1", "B1"), "hold-1"));
+
+		assertEquals(BusinessException.SEAT_ALREADY_HELD, exception);
+		assertEquals(0, seatReservationEngine.getSeatMap(1L).countReserved());
+		verify(screeningSeatUpdater, never()).saveSeatChanges(anyMap());
+	}
+
+	@Test
+	@DisplayName("점유가 만료된 좌석은 결제를 확정할 수 없다")
+	void testReserveExpiredHold() {
+		given(screeningRepository.findById(1L))
+			.willReturn(Optional.of(createScreening(1L, LocalDateTime.now().plusHours(2))));
+		given(seatHoldStore.check(eq(1L), any(int[].class), eq("hold-1")))
+			.willReturn(SeatHoldStore.HoldCheck.NOT_HELD);
+
+		BusinessException exception = assertThrows(BusinessException.class,
+			() -> seatReservationEngine.reserve(1L, List.of("A1"), "hold-1"));
+
+		assertEquals(BusinessException.SEAT_HOLD_EXPIRED, exception);
+		assertFalse(seatReservationEngine.getSeatMap(1L).isReserved(0));
+	}
+
+	@Test
+	@DisplayName("종료된 상영")
+	void testReserveEndedScreening() {
+		given(screeningRepository.findById(1L))
+			.willReturn(Optional.of(createScreening(1L, LocalDateTime.now().minusMinutes(1))));
+
+		BusinessException exception = assertThrows(BusinessException.class,
+			() -> seatReservationEngine.reserve(1L, List.of("A1"), "hold-1"));
+
+		assertEquals(BusinessException.SCREENING_ALREADY_ENDED, exception);
+	}
+
+	@Test
+	@DisplayName("DB 에 저장하지 못하면 예약이 실패하고 선점을 되돌린다")
+	void testReserveWhenSaveFailed() {
+		given(screeningRepository.findById(1L))
+			.willReturn(Optional.of(createScreening(1L, LocalDateTime.now().plusHours(2))));
+		given(screeningSeatUpdater.saveSeatChanges(anyMap()))
+			.willThrow(BusinessException.SEAT_UPDATE_CONFLICT);
+
+		BusinessException exception = assertThrows(BusinessException.class,
+			() -> seatReservationEngine.reserve(1L, List.of("A1"), "hold-1"));
+
+		assertEquals(BusinessException.SEAT_UPDATE_CONFLICT, exception);
+		assertEquals(0, seatReservationEngine.getSeatMap(1L).countReserved());
+	}
+
+	@Test
+	@DisplayName("다른 서버가 먼저 예약한 좌석이면 예약이 실패하고 DB 상태로 다시 맞춘다")
+	void testReserveWhenReservedElsewhere() {
+		given(screeningRepository.findById(1L))
+			.willReturn(Optional.of(createScreening(1L, LocalDateTime.now().plusHours(2))));
+		SeatMap current = SeatMap.empty(8);	// 다른 서버가 A1, B4 를 예약한 상태
+		current.reserve(0);
+		current.reserve(7);
+		given(screeningSeatUpdater.saveSeatChanges(anyMap()))
+			.willReturn(Map.of(1L, current));
+
+		BusinessException exception = assertThrows(BusinessException.class,
+			() -> seatReservationEngine.reserve(1L, List.of("A1", "A2"), "hold-1"));
+
+		assertEquals(BusinessException.SEAT_ALREADY_RESERVED, exception);
+		assertEquals(current, seatReservationEngine.getSeatMap(1L));
+	}
+
+	@Test
+	@DisplayName("refresh 간격이 지나면 다른 서버가 바꾼 좌석을 DB 에서 다시 읽는다")
+	void testRefresh() {
+		seatReservationEngine = new SeatReservationEngine(screeningRepository, screeningSeatUpdater, seatHoldStore,
+			new SeatLayoutCache(100), 0, 100, 600);
+		Screening reservedElsewhere = createScreening(1L, LocalDateTime.now().plusHours(2));
+		reservedElsewhere.getSeatMap().reserve(4);
+		given(screeningRepository.findById(1L))
+			.willReturn(Optional.of(createScreening(1L, LocalDateTime.now().plusHours(2))))
+			.willReturn(Optional.of(reservedElsewhere));
+
+		assertTrue(seatReservationEngine.getSeatMap(1L).isReserved(4));
+		assertThrows(BusinessException.class,
+			() -> seatReservationEngine.reserve(1L, List.of("B1"), "hold-1"));
+		verify(screeningSeatUpdater, never()).saveSeatChanges(anyMap());
+	}
+
+	@Test
+	@DisplayName("없는 상영은 메모리에 올리지 않는다")
+	void testLoadNotFound() {
+		given(screeningRepository.findById(2L))
+			.willReturn(Optional.empty());
+
+		assertThrows(BusinessException.class, () -> seatReservationEngine.getSeatMap(2L));
+		assertThrows(BusinessException.class, () -> seatReservationEngine.getSeatMap(2L));
+
+		verify(screeningRepository, times(2)).findById(2L);
+	}
+
+	private Screening createScreening(long id, LocalDateTime endedAt) {
+		return Screening.builder()
+			.id(id)
+			.endedAt(endedAt)
+			.screen(Screen.builder()
+				.seats("A:2_2,B:4")
+				.totalSeats(8)
+				.build())
+			.seatMap(SeatMap.empty(8))
+			.build();
+	}
+}
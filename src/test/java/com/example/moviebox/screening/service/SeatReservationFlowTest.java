@@ -0,0 +1,132 @@
+package com.example.moviebox.screening.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.example.moviebox.common.redis.EmbeddedRedisExtension;
+import com.example.moviebox.common.status.PlaceStatus;
+import com.example.moviebox.exception.BusinessException;
+import com.example.moviebox.movie.domain.*;
+import com.example.moviebox.screen.domain.*;
+import com.example.moviebox.screen.service.SeatLayoutCache;
+import com.example.moviebox.screening.domain.*;
+import com.example.moviebox.theater.domain.*;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.*;
+
+// 점유 -> 결제 확정을 DB(H2)와 Redis(embedded)까지 거쳐 확인 - 서버 두 대는 SeatReservationEngine 두 개로 흉내낸다.
+@DataJpaTest
+@Import({ScreeningSeatService.class, ScreeningSeatUpdater.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)	// 예약이 실제로 커밋되는지 확인
+class SeatReservationFlowTest {
+	@RegisterExtension
+	static EmbeddedRedisExtension redis = new EmbeddedRedisExtension();
+
+	@Autowired
+	private ScreeningRepository screeningRepository;
+	@Autowired
+	private ScreenRepository screenRepository;
+	@Autowired
+	private TheaterRepository theaterRepository;
+	@Autowired
+	private MovieRepository movieRepository;
+	@Autowired
+	private ScreeningSeatUpdater screeningSeatUpdater;
+
+	private SeatHoldStore seatHoldStore;
+	private long screeningId;
+
+	@BeforeEach
+	void initEach() {
+		seatHoldStore = new SeatHoldStore(redis.createStringRedisTemplate());
+		Theater theater = theaterRepository.save(Theater.builder().name("theater").status(PlaceStatus.OPEN).build());
+		Screen screen = screenRepository.save(Screen.builder()
+			.name("1관")
+			.seats("A:2_2,B:4")
+			.totalSeats(8)
+			.status(PlaceStatus.OPEN)
+			.theater(theater)
+			.build());
+		screeningId = screeningRepository.save(Screening.builder()
+			.screenedAt(LocalDateTime.now().plusHours(1))
+			.endedAt(LocalDateTime.now().plusHours(3))
+			.seatMap(SeatMap.empty(8))
+			.screen(screen)
+			.movie(movieRepository.save(Movie.builder().title("movie").build()))
+			.build()).getId();
+	}
+
+	@AfterEach
+	void cleanUp() {
+		screeningRepository.deleteAll();
+		screenRepository.deleteAll();
+		theaterRepository.deleteAll();
+		movieRepository.deleteAll();
+	}
+
+	@Test
+	@DisplayName("결제를 확정하면 응답 전에 DB 에 예약이 저장되고 점유가 해제된다")
+	void testHoldAndConfirm() {
+		SeatHoldService seatHoldService = createSeatHoldService(createEngine());
+		SeatHold seatHold = seatHoldService.hold(screeningId, List.of("A1", "B4"));
+
+		assertEquals(List.of("A1", "B4"), seatHoldService.confirm(screeningId, seatHold.getHoldId()));
+
+		SeatMap saved = screeningRepository.findById(screeningId).orElseThrow().getSeatMap();
+		assertTrue(saved.isReserved(0));
+		assertTrue(saved.isReserved(7));
+		assertEquals(2, saved.countReserved());
+		assertTrue(seatHoldStore.findActiveOrdinals(screeningId).isEmpty());
+	}
+
+	@Test
+	@DisplayName("다른 서버가 먼저 예약한 좌석은 결제를 확정할 수 없고, 먼저 한 예약은 그대로 남는다")
+	void testConfirmReservedOnOtherNode() {
+		SeatHoldService node1 = createSeatHoldService(createEngine());
+		SeatHoldService node2 = createSeatHoldService(createEngine());
+		assertEquals(0, node1.getUnavailableSeats(screeningId).countReserved());	// node1 메모리에 올려둔 상태
+		node2.confirm(screeningId, node2.hold(screeningId, List.of("A1")).getHoldId());
+
+		SeatHold seatHold = node1.hold(screeningId, List.of("A1", "A2"));	// node1 은 아직 A1 예약을 모른다.
+		BusinessException exception = assertThrows(BusinessException.class,
+			() -> node1.confirm(screeningId, seatHold.getHoldId()));
+
+		assertEquals(BusinessException.SEAT_ALREADY_RESERVED, exception);
+		SeatMap saved = screeningRepository.findById(screeningId).orElseThrow().getSeatMap();
+		assertTrue(saved.isReserved(0));
+		assertFalse(saved.isReserved(1));
+		assertTrue(node1.getUnavailableSeats(screeningId).isReserved(0));	// DB 상태로 다시 맞춤
+	}
+
+	@Test
+	@DisplayName("서로 다른 좌석은 두 서버에서 예약해도 모두 저장된다")
+	void testConfirmOnBothNodes() {
+		SeatHoldService node1 = createSeatHoldService(createEngine());
+		SeatHoldService node2 = createSeatHoldService(createEngine());
+		SeatHold first = node1.hold(screeningId, List.of("A1"));
+		SeatHold second = node2.hold(screeningId, List.of("B1", "B2"));
+
+		node1.confirm(screeningId, first.getHoldId());
+		node2.confirm(screeningId, second.getHoldId());
+
+		SeatMap saved = screeningRepository.findById(screeningId).orElseThrow().getSeatMap();
+		assertTrue(saved.isReserved(0));
+		assertTrue(saved.isReserved(4));
+		assertTrue(saved.isReserved(5));
+		assertEquals(3, saved.countReserved());
+	}
+
+	private SeatReservationEngine createEngine() {
+		return new SeatReservationEngine(screeningRepository, screeningSeatUpdater, seatHoldStore,
+			new SeatLayoutCache(100), 60_000, 100, 600);
+	}
+
+	private SeatHoldService createSeatHoldService(SeatReservationEngine engine) {
+		return new SeatHoldService(seatHoldStore, engine, 300);
+	}
+}
@@ -0,0 +1,39 @@
+package com.example.moviebox.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.*;
+
+class BloomFilterTest {
+	@Test
+	@DisplayName("추가한 값은 항상 포함된 것으로 응답한다")
+	void testPutAndMightContain() {
+		BloomFilter bloomFilter = new BloomFilter(1000, 0.01);
+
+		for (int i = 0; i < 1000; i++) {
+			bloomFilter.put("user" + i + "@email.com");
+		}
+
+		for (int i = 0; i < 1000; i++) {
+			assertTrue(bloomFilter.mightContain("user" + i + "@email.com"));
+		}
+	}
+
+	@Test
+	@DisplayName("추가하지 않은 값의 오탐 비율은 설정한 값 근처로 유지된다")
+	void testFalsePositiveRate() {
+		BloomFilter bloomFilter = new BloomFilter(10_000, 0.01);
+		for (int i = 0; i < 10_000; i++) {
+			bloomFilter.put("user" + i + "@email.com");
+		}
+
+		int falsePositives = 0;
+		for (int i = 0; i < 10_000; i++) {
+			if (bloomFilter.mightContain("new-user" + i + "@email.com")) {
+				falsePositives++;
+			}
+		}
+
+		assertTrue(falsePositives < 300, "false positives: " + falsePositives);
+	}
+}
@@ -0,0 +1,162 @@
+package com.example.moviebox.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import java.util.*;
+import java.util.concurrent.*;
+import javax.mail.internet.MimeMessage;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.*;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+class MailDispatcherTest {
+	@RegisterExtension
+	static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+	private MailDispatcher mailDispatcher;
+
+	@AfterEach
+	void tearDown() throws InterruptedException {
+		mailDispatcher.shutdown();
+	}
+
+	@Test
+	@DisplayName("SMTP 서버로 메일을 비동기 발송한다")
+	void testDispatch() throws Exception {
+		JavaMailSenderImpl javaMailSender = new JavaMailSenderImpl();
+		javaMailSender.setHost("localhost");
+		javaMailSender.setPort(ServerSetupTest.SMTP.getPort());
+		mailDispatcher = new MailDispatcher(new MailUtils(javaMailSender), 2, 10, 10, 3, 10);
+
+		mailDispatcher.dispatch(new MailMessage("example@email.com", "제목", "<p>내용</p>"))
+			.get(5, TimeUnit.SECONDS);
+
+		MimeMessage[] receivedMessages = greenMail.getReceivedMessages();
+		assertEquals(1, receivedMessages.length);
+		assertEquals("제목", receivedMessages[0].getSubject());
+		assertEquals("example@email.com", receivedMessages[0].getAllRecipients()[0].toString());
+		assertEquals(1, mailDispatcher.getSentCount());
+	}
+
+	@Test
+	@DisplayName("큐에 쌓인 메일은 batch 로 모아 발송한다")
+	void testDispatchBatch() throws Exception {
+		CountDownLatch latch = new CountDownLatch(1);
+		MailUtils mailUtils = mock(MailUtils.class);
+		given(mailUtils.sendMails(anyList()))
+			.willAnswer(invocation -> {
+				latch.await(5, TimeUnit.SECONDS);
+				return Map.of();
+			});
+		mailDispatcher = new MailDispatcher(mailUtils, 1, 10, 10, 3, 10);
+		MailMessage message = new MailMessage("example@email.com", "제목", "내용");
+
+		List<CompletableFuture<Void>> results = new ArrayList<>();
+		results.add(mailDispatcher.dispatch(message));	// worker 점유
+		Thread.sleep(100);
+		for (int i = 0; i < 5; i++) {
+			results.add(mailDispatcher.dispatch(message));
+		}
+		latch.countDown();
+		CompletableFuture.allOf(results.toArray(new CompletableFuture[0])).get(5, TimeUnit.SECONDS);
+
+		assertEquals(2, mailDispatcher.getBatchCount());
+		assertEquals(6, mailDispatcher.getSentCount());
+	}
+
+	@Test
+	@DisplayName("발송에 실패하면 재시도한다")
+	void testDispatchRetry() throws Exception {
+		MailUtils mailUtils = mock(MailUtils.class);
+		given(mailUtils.sendMails(anyList()))
+			.willThrow(new MailSendException(""))
+			.willReturn(Map.of());
+		mailDispatcher = new MailDispatcher(mailUtils, 1, 10, 10, 3, 10);
+
+		mailDispatcher.dispatch(new MailMessage("example@email.com", "제목", "내용"))
+			.get(5, TimeUnit.SECONDS);
+
+		verify(mailUtils, times(2)).sendMails(anyList());
+		assertEquals(1, mailDispatcher.getRetryCount());
+		assertEquals(1, mailDispatcher.getSentCount());
+	}
+
+	@Test
+	@DisplayName("최대 시도 횟수만큼 실패하면 발송 실패로 처리한다")
+	void testDispatchWhenRetryExhausted() {
+		MailUtils mailUtils = mock(MailUtils.class);
+		given(mailUtils.sendMails(anyList()))
+			.willThrow(new MailSendException(""));
+		mailDispatcher = new MailDispatcher(mailUtils, 1, 10, 10, 3, 10);
+
+		CompletableFuture<Void> result = mailDispatcher.dispatch(new MailMessage("example@email.com", "제목", "내용"));
+
+		ExecutionException exception = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+		assertInstanceOf(MailSendException.class, exception.getCause());
+		verify(mailUtils, times(3)).sendMails(anyList());
+		assertEquals(1, mailDispatcher.getFailedCount());
+	}
+
+	@Test
+	@DisplayName("메일 내용이 잘못된 경우 재시도하지 않는다")
+	void testDispatchWhenMessageInvalid() {
+		MailUtils mailUtils = mock(MailUtils.class);
+		given(mailUtils.sendMails(anyList()))
+			.willThrow(new MailParseException(""));
+		mailDispatcher = new MailDispatcher(mailUtils, 1, 10, 10, 3, 10);
+
+		CompletableFuture<Void> result = mailDispatcher.dispatch(new MailMessage("wrong", "제목", "내용"));
+
+		assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+		verify(mailUtils, times(1)).sendMails(anyList());
+	}
+
+	@Test
+	@DisplayName("예상하지 못한 오류가 발생해도 해당 batch 만 실패하고 이후 메일은 발송한다")
+	void testDispatchWhenUnexpectedError() throws Exception {
+		MailUtils mailUtils = mock(MailUtils.class);
+		given(mailUtils.sendMails(anyList()))
+			.willThrow(new IllegalStateException("template error"))
+			.willReturn(Map.of());
+		mailDispatcher = new MailDispatcher(mailUtils, 1, 10, 10, 3, 10);
+
+		CompletableFuture<Void> first = mailDispatcher.dispatch(new MailMessage("example@email.com", "제목", "내용"));
+		ExecutionException exception = assertThrows(ExecutionException.class, () -> first.get(5, TimeUnit.SECONDS));
+		CompletableFuture<Void> second = mailDispatcher.dispatch(new MailMessage("example@email.com", "제목", "내용"));
+		second.get(5, TimeUnit.SECONDS);
+
+		assertInstanceOf(IllegalStateException.class, exception.getCause());
+		assertEquals(1, mailDispatcher.getFailedCount());
+		assertEquals(1, mailDispatcher.getSentCount());
+	}
+
+	@Test
+	@DisplayName("큐가 가득 차면 즉시 거절한다")
+	void testDispatchWhenQueueFull() throws Exception {
+		CountDownLatch latch = new CountDownLatch(1);
+		MailUtils mailUtils = mock(MailUtils.class);
+		given(mailUtils.sendMails(anyList()))
+			.willAnswer(invocation -> {
+				latch.await(5, TimeUnit.SECONDS);
+				return Map.of();
+			});
+		mailDispatcher = new MailDispatcher(mailUtils, 1, 1, 10, 1, 10);
+		MailMessage message = new MailMessage("example@email.com", "제목", "내용");
+
+		CompletableFuture<Void> first = mailDispatcher.dispatch(message);	// worker 점유
+		Thread.sleep(100);
+		CompletableFuture<Void> second = mailDispatcher.dispatch(message);	// 큐 대기
+		CompletableFuture<Void> third = mailDispatcher.dispatch(message);	// 거절
+
+		assertTrue(third.isCompletedExceptionally());
+		assertEquals(1, mailDispatcher.getRejectedCount());
+		assertEquals(1, mailDispatcher.getQueueDepth());
+		latch.countDown();
+		CompletableFuture.allOf(first, second).get(5, TimeUnit.SECONDS);
+	}
+}
@@ -3,6 +3,9 @@ package com.example.moviebox.utils;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.BDDMockito.*;
 
+import java.util.*;
+import javax.mail.*;
+import javax.mail.internet.MimeMessage;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
@@ -35,4 +38,40 @@ class MailUtilsTest {
 		assertThrows(MailException.class,
 			() -> mailUtils.sendMail("example@email.com", "제목", "내용"));
 	}
+
+	@Test
+	void testSendMails() {
+		given(javaMailSender.createMimeMessage())
+			.willAnswer(invocation -> new MimeMessage((Session)null));
+		willDoNothing()
+			.given(javaMailSender).send((MimeMessage[])any());
+
+		Map<MailMessage, MailException> failures = mailUtils.sendMails(List.of(
+			new MailMessage("example1@email.com", "제목", "내용"),
+			new MailMessage("example2@email.com", "제목", "내용")));
+
+		assertTrue(failures.isEmpty());
+		verify(javaMailSender, times(1)).send((MimeMessage[])any());
+	}
+
+	@Test
+	void testSendMailsWhenSomeMessageFailed() {
+		List<MimeMessage> mimeMessages = new ArrayList<>();
+		given(javaMailSender.createMimeMessage())
+			.willAnswer(invocation -> {
+				MimeMessage mimeMessage = new MimeMessage((Session)null);
+				mimeMessages.add(mimeMessage);
+				return mimeMessage;
+			});
+		willAnswer(invocation -> {
+			throw new MailSendException("", null, Map.of(mimeMessages.get(1), new MessagingException("")));
+		}).given(javaMailSender).send((MimeMessage[])any());
+		MailMessage success = new MailMessage("example1@email.com", "제목", "내용");
+		MailMessage failure = new MailMessage("example2@email.com", "제목", "내용");
+
+		Map<MailMessage, MailException> failures = mailUtils.sendMails(List.of(success, failure));
+
+		assertEquals(1, failures.size());
+		assertTrue(failures.containsKey(failure));
+	}
 }